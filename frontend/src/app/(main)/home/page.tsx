@@ -9,7 +9,7 @@ import {
 } from 'lucide-react';
 import { mypageApi } from '@/lib/api/mypage';
 import { useAuth } from '@/contexts/AuthContext';
-import { dashboardApi, DashboardData } from '@/lib/api/dashboard';
+import { dashboardApi, DashboardData, RECENT_ACTIVITY_SIZE } from '@/lib/api/dashboard';
 import { toast } from 'sonner';
 import { noticeApi, NoticeListResponse } from '@/lib/api/notice';
 
@@ -127,6 +127,20 @@ export default function DashboardPage() {
     }
   }, [user, loadData]);
 
+  // 실시간 푸시 - 통계/활동은 받은 즉시 반영, 재연결되면 놓친 변경을 total-data로 보정
+  useEffect(() => {
+    if (!user) return;
+    return dashboardApi.subscribeBuyer({
+      onStats: (stats) => setDashboardData(prev => prev ? { ...prev, stats: { ...prev.stats, ...stats } } : prev),
+      onActivity: (activity) => setDashboardData(prev => prev
+        ? { ...prev, activities: [activity, ...prev.activities].slice(0, RECENT_ACTIVITY_SIZE) }
+        : prev),
+      onReconnect: () => {
+        dashboardApi.getBuyerData().then(setDashboardData).catch(() => { /* 다음 이벤트/재연결 때 다시 보정 */ });
+      },
+    });
+  }, [user]);
+
   // 구매사 전용 통계 매핑
   const stats = [
     {
@@ -26,6 +26,9 @@ import { getErrorMessage } from '@/lib/api/error';
 import PrDetailModal from '@/app/(main)/rfq/pending/PrDetailModal';
 import RfqRequestModal from '@/app/(main)/rfq/pending/RfqRequestModal';
 
+// 협력사 검색 팝업 한 번에 조회할 건수 (나머지는 더 보기)
+const VENDOR_POPUP_PAGE_SIZE = 50;
+
 // RFQ 그룹 인터페이스
 interface RfqGroup {
   rfqNo: string;
@@ -62,6 +65,9 @@ export default function OrderPendingPage() {
   const [isVendorSearchOpen, setIsVendorSearchOpen] = useState(false);
   const [vendorList, setVendorList] = useState<any[]>([]);
   const [vendorSearch, setVendorSearch] = useState({ vendorCode: '', vendorName: '' });
+  // 일반 협력사 목록(페이징 API)일 때만 사용 - 승인 협력사 목록은 한 번에 전체 조회
+  const [vendorPaging, setVendorPaging] = useState<{ page: number; totalPage: number; totalCount: number } | null>(null);
+  const [isVendorLoading, setIsVendorLoading] = useState(false);
   const [selectedVendor, setSelectedVendor] = useState<{vendorCode: string, vendorName: string} | null>(null);
 
   // PR 상세 모달 상태
@@ -229,30 +235,37 @@ export default function OrderPendingPage() {
     setSelectedVendor(null); // 선택 변경 시 수동 선택 협력사 초기화
   };
 
-  // 협력사 목록 조회
-  const fetchVendorList = async () => {
+  // 협력사 목록 조회 (page > 1이면 더 보기 - 기존 목록 뒤에 붙임)
+  const fetchVendorList = async (page = 1) => {
+    setIsVendorLoading(true);
     try {
       // 선택된 그룹의 구매유형 확인
       const selectedGroup = rfqGroups.find(g => g.rfqNo === selectedRfqNo);
       const isUrgentOrUnit = selectedGroup && ['E', 'C'].includes(selectedGroup.purchaseType);
       
-      let response;
       if (isUrgentOrUnit) {
-        // 긴급/단가계약인 경우: 일반 협력사 목록 조회
-        response = await vendorApi.getVendorList({
+        // 긴급/단가계약인 경우: 일반 협력사 목록 조회 (페이징 API)
+        const response = await vendorApi.getVendorList({
           vendorCode: vendorSearch.vendorCode || undefined,
           vendorName: vendorSearch.vendorName || undefined,
           useYn: 'Y', // 사용 중인 협력사만 조회
+          page,
+          pageSize: VENDOR_POPUP_PAGE_SIZE,
         });
+        const vendors = response.vendors || [];
+        setVendorList(prev => (page === 1 ? vendors : [...prev, ...vendors]));
+        setVendorPaging({ page, totalPage: response.totalPage, totalCount: response.totalCount });
       } else {
         // 일반인 경우: RFQ용 승인된 협력사 목록 조회
-        response = await rfqApi.getApprovedVendors(vendorSearch);
+        const response = await rfqApi.getApprovedVendors(vendorSearch);
+        setVendorList(response.vendors || []);
+        setVendorPaging(null);
       }
-      
-      setVendorList(response.vendors || []);
     } catch (error) {
       console.error(error);
       toast.error('협력사 목록을 불러오는데 실패했습니다.');
+    } finally {
+      setIsVendorLoading(false);
     }
   };
 
@@ -887,7 +900,7 @@ export default function OrderPendingPage() {
               onChange={(e) => setVendorSearch({ ...vendorSearch, vendorName: e.target.value })}
             />
             <div className="flex items-end">
-              <Button variant="primary" onClick={fetchVendorList}>검색</Button>
+              <Button variant="primary" onClick={() => fetchVendorList()}>검색</Button>
             </div>
           </div>
           
@@ -940,6 +953,26 @@ export default function OrderPendingPage() {
               </tbody>
             </table>
           </div>
+
+          {/* 목록 API가 페이징되므로 전체 건수를 보여주고 나머지는 더 보기로 이어서 조회 */}
+          {vendorPaging && vendorPaging.totalCount > 0 && (
+            <div className="flex items-center justify-between text-sm text-stone-500">
+              <span>
+                {vendorList.length.toLocaleString()} / {vendorPaging.totalCount.toLocaleString()}건
+                {vendorPaging.page < vendorPaging.totalPage && ' - 업체코드/업체명으로 검색하거나 더 보기를 누르세요.'}
+              </span>
+              {vendorPaging.page < vendorPaging.totalPage && (
+                <Button
+                  size="sm"
+                  variant="secondary"
+                  disabled={isVendorLoading}
+                  onClick={() => fetchVendorList(vendorPaging.page + 1)}
+                >
+                  더 보기
+                </Button>
+              )}
+            </div>
+          )}
         </div>
       </Modal>
 
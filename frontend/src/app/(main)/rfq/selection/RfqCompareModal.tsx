@@ -37,14 +37,19 @@ export default function RfqCompareModal({
         })();
     }, [isOpen, rfqNo]);
 
+    // matrix: 열 = 협력사, 각 배열 인덱스 = lineNos 인덱스
     const cellMap = useMemo(() => {
         const m = new Map<string, { unitPrice: number | null; quoteQt: number | null; amount: number | null }>();
         if (!data) return m;
-        for (const q of data.quotes) {
-            m.set(`${q.vendorCd}::${q.lineNo}`, {
-                unitPrice: q.unitPrice,
-                quoteQt: q.quoteQt,
-                amount: q.amount,
+        const { lineNos, columns } = data.matrix;
+        for (const col of columns) {
+            lineNos.forEach((lineNo, i) => {
+                if (!col.quoted[i]) return;
+                m.set(`${col.vendorCd}::${lineNo}`, {
+                    unitPrice: col.unitPrice[i],
+                    quoteQt: col.quoteQt[i],
+                    amount: col.amount[i],
+                });
             });
         }
         return m;
@@ -53,10 +58,8 @@ export default function RfqCompareModal({
     const vendorTotals = useMemo(() => {
         if (!data) return {};
         const totals: Record<string, number> = {};
-        for (const q of data.quotes) {
-            if (q.amount != null) {
-                totals[q.vendorCd] = (totals[q.vendorCd] || 0) + q.amount;
-            }
+        for (const col of data.matrix.columns) {
+            totals[col.vendorCd] = col.totalAmount;
         }
         return totals;
     }, [data]);
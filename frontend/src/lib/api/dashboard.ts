@@ -32,6 +32,79 @@ export interface RecentActivity {
     description: string;
     time: string;
     regDate: string;
+    regAt?: number;
+}
+
+// 홈 화면 최근 활동 표시 건수 (서버 FEED_SIZE와 동일)
+export const RECENT_ACTIVITY_SIZE = 5;
+
+export interface DashboardStreamHandlers<S> {
+    onStats: (stats: S) => void;
+    onActivity: (activity: RecentActivity) => void;
+    // 끊겼다가 다시 연결됨 - 그 사이 놓친 변경은 total-data 재조회로 보정
+    onReconnect: () => void;
+}
+
+const STREAM_RETRY_BASE_MS = 1_000;
+const STREAM_RETRY_MAX_MS = 60_000;
+
+/**
+ * 대시보드 실시간 푸시(SSE) 구독 - 반환 함수로 해제 (언마운트 시 호출)
+ * - 서버 이벤트: stats(통계 스냅샷), activity(최근 활동 1건), 주석(ping)
+ * - 오류가 나면 연결을 닫고 지수 백오프(1초 ~ 1분, 지터 포함)로 직접 재연결
+ *   (연결 수 한도 초과/느린 연결 종료 등으로 서버가 끊어도 한꺼번에 몰리지 않도록)
+ */
+function subscribeStream<S>(path: string, handlers: DashboardStreamHandlers<S>): () => void {
+    let source: EventSource | null = null;
+    let retryTimer: ReturnType<typeof setTimeout> | null = null;
+    let attempt = 0;
+    let connectedOnce = false;
+    let closed = false;
+
+    const parse = <T>(e: Event): T | null => {
+        try {
+            return JSON.parse((e as MessageEvent<string>).data) as T;
+        } catch {
+            return null;
+        }
+    };
+
+    const connect = () => {
+        retryTimer = null;
+        source = new EventSource(`/api${path}`, { withCredentials: true });
+
+        source.onopen = () => {
+            if (connectedOnce) handlers.onReconnect();
+            connectedOnce = true;
+            attempt = 0;
+        };
+        source.addEventListener('stats', (e) => {
+            const stats = parse<S>(e);
+            if (stats) handlers.onStats(stats);
+        });
+        source.addEventListener('activity', (e) => {
+            const activity = parse<RecentActivity>(e);
+            if (activity) handlers.onActivity(activity);
+        });
+        source.onerror = () => {
+            source?.close();
+            source = null;
+            if (closed || retryTimer) return;
+
+            const delay = Math.min(STREAM_RETRY_MAX_MS, STREAM_RETRY_BASE_MS * 2 ** attempt);
+            attempt++;
+            retryTimer = setTimeout(connect, delay / 2 + Math.random() * (delay / 2));
+        };
+    };
+
+    connect();
+
+    return () => {
+        closed = true;
+        if (retryTimer) clearTimeout(retryTimer);
+        source?.close();
+        source = null;
+    };
 }
 
 export interface DashboardData {
@@ -50,4 +123,10 @@ export const dashboardApi = {
 
     getVendorData: (): Promise<VendorDashboardData> =>
         api.get<VendorDashboardData>('/v1/dashboard/vendor/total-data'),
+
+    subscribeBuyer: (handlers: DashboardStreamHandlers<DashboardStats>): (() => void) =>
+        subscribeStream('/v1/dashboard/buyer/stream', handlers),
+
+    subscribeVendor: (handlers: DashboardStreamHandlers<VendorDashboardStats>): (() => void) =>
+        subscribeStream('/v1/dashboard/vendor/stream', handlers),
 };
@@ -223,13 +223,19 @@ export type CompareResponse = {
         vendorNm: string;
         selectYn?: 'Y' | 'N';
     }>;
-    quotes: Array<{
-        vendorCd: string;
-        lineNo: number;
-        unitPrice: number | null;
-        quoteQt: number | null;
-        amount: number | null;
-    }>;
+    // 열 = 협력사(vendors 순서), 각 배열 인덱스 = lineNos 인덱스
+    matrix: {
+        lineNos: number[];
+        columns: Array<{
+            vendorCd: string;
+            quoted: boolean[];
+            // 견적은 있지만 값이 비었거나 마스킹된 칸은 null
+            unitPrice: Array<number | null>;
+            quoteQt: Array<number | null>;
+            amount: Array<number | null>;
+            totalAmount: number;
+        }>;
+    };
 };
 
 
@@ -8,11 +8,16 @@ export interface VendorSearchRequest {
     useYn?: string;
     page?: number;
     pageSize?: number;
+    cursor?: string;
 }
 
 export interface VendorListResponse {
     vendors: VendorDTO[];
+    page: number;
+    pageSize: number;
+    totalPage: number;
     totalCount: number;
+    nextCursor?: string | null;
 }
 
 export interface VendorDTO {
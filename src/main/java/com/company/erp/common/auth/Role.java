@@ -0,0 +1,38 @@
+package com.company.erp.common.auth;
+
+/**
+ * 사용자 권한 (SessionUser.role, @RequireRole 값)
+ * - bit : 허용 권한 묶음을 int 비트마스크로 표현할 때 사용
+ */
+public enum Role {
+    ADMIN, BUYER, USER, VENDOR;
+
+    public final int bit = 1 << ordinal();
+
+    /**
+     * 권한 문자열 -> Role (알 수 없으면 null)
+     * - 세션에는 대문자로 저장되므로 switch로 바로 매칭, 아니면 trim/대문자 변환 후 재시도
+     */
+    public static Role from(String role) {
+        if (role == null) return null;
+        switch (role) {
+            case "ADMIN": return ADMIN;
+            case "BUYER": return BUYER;
+            case "USER": return USER;
+            case "VENDOR": return VENDOR;
+            default:
+                String normalized = role.trim().toUpperCase();
+                return normalized.equals(role) ? null : from(normalized);
+        }
+    }
+
+    // 권한 문자열 목록 -> 비트마스크 (알 수 없는 값은 무시)
+    public static int maskOf(String... roles) {
+        int mask = 0;
+        for (String r : roles) {
+            Role role = from(r);
+            if (role != null) mask |= role.bit;
+        }
+        return mask;
+    }
+}
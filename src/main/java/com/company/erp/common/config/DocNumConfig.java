@@ -0,0 +1,10 @@
+package com.company.erp.common.config;
+
+import com.company.erp.common.docNum.config.DocNumProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(DocNumProperties.class)
+public class DocNumConfig {
+}
@@ -0,0 +1,222 @@
+package com.company.erp.common.crypto;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * AES-GCM 암복호화 엔진 (app.crypto.key 고정 키)
+ * - AesCryptoUtil과 같은 포맷 Base64( iv(12) + cipherText + tag(16) ) 을 사용하므로 기존 데이터와 호환
+ * - 키는 기동 시 한 번만 해석하고, Cipher/작업 버퍼는 스레드별로 재사용
+ * - 다건 처리는 decryptAll / encryptAll, 대량(견적 비교표 등)은 decryptAllParallel 사용
+ */
+@Component
+public class AesGcmEngine {
+
+    private static final String TRANSFORMATION = "AES/GCM/NoPadding";
+    private static final int GCM_TAG_LENGTH_BITS = 128; // 16 bytes tag
+    private static final int GCM_TAG_LENGTH_BYTES = GCM_TAG_LENGTH_BITS / 8;
+    private static final int IV_LENGTH_BYTES = 12; // GCM 권장 12 bytes
+
+    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+
+    // 병렬 복호화: 이보다 적으면 호출 스레드에서 처리, 작업 단위는 CHUNK 건
+    private static final int PARALLEL_THRESHOLD = 2_048;
+    private static final int PARALLEL_CHUNK = 512;
+
+    private final SecretKeySpec keySpec;
+
+    // 병렬 복호화 전용 풀 (CPU 수로 제한, 공용 풀과 분리)
+    private final ForkJoinPool decryptPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
+    private final ThreadLocal<Cipher> cipherHolder = ThreadLocal.withInitial(AesGcmEngine::newCipher);
+    private final ThreadLocal<Buffers> bufferHolder = ThreadLocal.withInitial(Buffers::new);
+
+    public AesGcmEngine(@Value("${app.crypto.key}") String keyBase64) {
+        byte[] key = Base64.getDecoder().decode(keyBase64);
+        if (key.length != 32) {
+            throw new IllegalArgumentException("AES-256을 위한 32바이트 키가 필요합니다. 현재 길이: " + key.length);
+        }
+        this.keySpec = new SecretKeySpec(key, "AES");
+    }
+
+    /**
+     * 문자열 암호화 (null/빈 문자열은 그대로 반환)
+     */
+    public String encrypt(String plain) {
+        if (plain == null || plain.isEmpty())
+            return plain;
+        return encrypt(plain, cipherHolder.get(), bufferHolder.get());
+    }
+
+    /**
+     * 문자열 복호화 (null/빈 문자열은 그대로 반환)
+     */
+    public String decrypt(String encrypted) {
+        if (encrypted == null || encrypted.isEmpty())
+            return encrypted;
+        return decrypt(encrypted, cipherHolder.get(), bufferHolder.get());
+    }
+
+    /**
+     * 다건 암호화 - 입력 순서 그대로 반환
+     */
+    public List<String> encryptAll(List<String> plains) {
+        Cipher cipher = cipherHolder.get();
+        Buffers buffers = bufferHolder.get();
+
+        List<String> result = new ArrayList<>(plains.size());
+        for (String plain : plains) {
+            result.add(plain == null || plain.isEmpty() ? plain : encrypt(plain, cipher, buffers));
+        }
+        return result;
+    }
+
+    /**
+     * 다건 복호화 - 입력 순서 그대로 반환, 한 건이라도 실패하면 IllegalStateException
+     */
+    public List<String> decryptAll(List<String> encrypted) {
+        Cipher cipher = cipherHolder.get();
+        Buffers buffers = bufferHolder.get();
+
+        List<String> result = new ArrayList<>(encrypted.size());
+        for (String value : encrypted) {
+            result.add(value == null || value.isEmpty() ? value : decrypt(value, cipher, buffers));
+        }
+        return result;
+    }
+
+    /**
+     * 대량 복호화 - 입력을 CHUNK 단위로 나눠 전용 ForkJoinPool에서 병렬 처리 (순서 유지)
+     * - 각 워커 스레드는 자기 Cipher/버퍼를 재사용
+     */
+    public List<String> decryptAllParallel(List<String> encrypted) {
+        if (encrypted.size() < PARALLEL_THRESHOLD) {
+            return decryptAll(encrypted);
+        }
+
+        String[] result = new String[encrypted.size()];
+        decryptPool.invoke(new DecryptTask(encrypted, result, 0, encrypted.size()));
+        return Arrays.asList(result);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        decryptPool.shutdown();
+    }
+
+    private String encrypt(String plain, Cipher cipher, Buffers buffers) {
+        try {
+            byte[] plainBytes = plain.getBytes(StandardCharsets.UTF_8);
+
+            byte[] iv = buffers.iv;
+            SECURE_RANDOM.nextBytes(iv);
+            cipher.init(Cipher.ENCRYPT_MODE, keySpec, new GCMParameterSpec(GCM_TAG_LENGTH_BITS, iv));
+
+            // iv + cipherBytes 를 하나의 버퍼에 바로 기록
+            byte[] out = buffers.output(IV_LENGTH_BYTES + plainBytes.length + GCM_TAG_LENGTH_BYTES);
+            System.arraycopy(iv, 0, out, 0, IV_LENGTH_BYTES);
+            int written = cipher.doFinal(plainBytes, 0, plainBytes.length, out, IV_LENGTH_BYTES);
+
+            ByteBuffer encoded = Base64.getEncoder().encode(ByteBuffer.wrap(out, 0, IV_LENGTH_BYTES + written));
+            return new String(encoded.array(), 0, encoded.limit(), StandardCharsets.ISO_8859_1);
+
+        } catch (GeneralSecurityException e) {
+            // 암호화 실패 시 예외 발생 (저장 방지)
+            throw new IllegalStateException("AES 암호화 실패", e);
+        }
+    }
+
+    private String decrypt(String encrypted, Cipher cipher, Buffers buffers) {
+        try {
+            byte[] src = encrypted.getBytes(StandardCharsets.ISO_8859_1);
+            byte[] all = buffers.input(src.length / 4 * 3 + 3);
+            int length = Base64.getDecoder().decode(src, all);
+
+            if (length < IV_LENGTH_BYTES + 1) {
+                throw new IllegalArgumentException("유효하지 않은 암호화 데이터입니다.");
+            }
+
+            // iv/cipherBytes를 복사하지 않고 오프셋으로 바로 사용
+            cipher.init(Cipher.DECRYPT_MODE, keySpec,
+                    new GCMParameterSpec(GCM_TAG_LENGTH_BITS, all, 0, IV_LENGTH_BYTES));
+            byte[] out = buffers.output(cipher.getOutputSize(length - IV_LENGTH_BYTES));
+            int written = cipher.doFinal(all, IV_LENGTH_BYTES, length - IV_LENGTH_BYTES, out, 0);
+
+            return new String(out, 0, written, StandardCharsets.UTF_8);
+
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            // 복호화 실패 시 예외 발생 (보안 사고 탐지 및 위변조 방지)
+            throw new IllegalStateException("AES 복호화 실패", e);
+        }
+    }
+
+    private final class DecryptTask extends RecursiveAction {
+        private final List<String> source;
+        private final String[] target;
+        private final int from;
+        private final int to;
+
+        private DecryptTask(List<String> source, String[] target, int from, int to) {
+            this.source = source;
+            this.target = target;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= PARALLEL_CHUNK) {
+                Cipher cipher = cipherHolder.get();
+                Buffers buffers = bufferHolder.get();
+                for (int i = from; i < to; i++) {
+                    String value = source.get(i);
+                    target[i] = value == null || value.isEmpty() ? value : decrypt(value, cipher, buffers);
+                }
+                return;
+            }
+
+            int mid = (from + to) >>> 1;
+            invokeAll(new DecryptTask(source, target, from, mid), new DecryptTask(source, target, mid, to));
+        }
+    }
+
+    private static Cipher newCipher() {
+        try {
+            return Cipher.getInstance(TRANSFORMATION);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("AES/GCM Cipher 생성 실패", e);
+        }
+    }
+
+    // 스레드별 재사용 버퍼 (금액 같은 짧은 값 기준, 부족하면 늘려서 계속 사용)
+    private static final class Buffers {
+        private final byte[] iv = new byte[IV_LENGTH_BYTES];
+        private byte[] input = new byte[128];
+        private byte[] output = new byte[128];
+
+        private byte[] input(int size) {
+            if (input.length < size) input = new byte[Math.max(size, input.length * 2)];
+            return input;
+        }
+
+        private byte[] output(int size) {
+            if (output.length < size) output = new byte[Math.max(size, output.length * 2)];
+            return output;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.company.erp.common.dashboard;
+
+import com.company.erp.common.dashboard.buyer.dto.response.RecentActivityResponse;
+import com.company.erp.common.util.RelativeTimeFormatter;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 최근 활동 목록 응답 변환 (구매사/협력사 공용)
+ * - 조회 결과(캐시에 보관된 원본)는 건드리지 않고 응답용 사본을 만듦
+ * - 상대 시간은 응답당 한 번 구한 now 기준으로 계산
+ * - epochMillis 요청이면 문자열 포맷 없이 regAt(epoch millis)만 채움 (표시는 클라이언트에서)
+ */
+public final class ActivityFeedRenderer {
+
+    private ActivityFeedRenderer() {
+    }
+
+    public static List<RecentActivityResponse> render(List<RecentActivityResponse> rows, boolean epochMillis) {
+        List<RecentActivityResponse> rendered = new ArrayList<>(rows.size());
+        if (epochMillis) {
+            ZoneId zone = ZoneId.systemDefault();
+            for (RecentActivityResponse row : rows) {
+                rendered.add(row.toBuilder()
+                        .time(null)
+                        .regDate(null)
+                        .regAt(row.getRegDate() == null ? null : row.getRegDate().atZone(zone).toInstant().toEpochMilli())
+                        .build());
+            }
+            return rendered;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        for (RecentActivityResponse row : rows) {
+            rendered.add(row.toBuilder()
+                    .time(RelativeTimeFormatter.format(row.getRegDate(), now))
+                    .regAt(null)
+                    .build());
+        }
+        return rendered;
+    }
+}
@@ -0,0 +1,101 @@
+package com.company.erp.common.dashboard.activity;
+
+import com.company.erp.common.dashboard.ActivityFeedRenderer;
+import com.company.erp.common.dashboard.activity.mapper.ActivityLogMapper;
+import com.company.erp.common.dashboard.buyer.dto.response.RecentActivityResponse;
+import com.company.erp.common.dashboard.live.DashboardEvent;
+import com.company.erp.common.paging.KeysetCursor;
+import com.company.erp.common.session.CurrentUser;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.NonTransientDataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 활동 이력 (ACTIVITY_LOG) 기록/조회
+ * - 문서 서비스의 이벤트 발행 시점에 같은 트랜잭션 안에서 추가 (문서 변경이 롤백되면 이력도 롤백)
+ * - 문장 단위로만 실패하는 오류(테이블 없음/제약 위반 등)는 경고만 남기고 문서 처리는 계속 진행
+ * - 교착 상태/잠금 대기 실패 같은 일시적 오류는 DB가 트랜잭션 전체를 되돌리므로 그대로 던짐
+ *   (삼키면 이후 문장만 커밋되어 문서 변경 일부가 사라짐)
+ * - 대시보드 최근 활동과 타임라인 모두 (VENDOR_CD, REG_DATE, LOG_ID) 키셋으로 조회
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ActivityLog {
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final ActivityLogMapper activityLogMapper;
+
+    public void append(DashboardEvent event, String docNum) {
+        append(event, List.of(docNum));
+    }
+
+    // 한 번의 처리로 생긴 문서 여러 건을 문서마다 한 행씩 (한 문장으로 추가)
+    public void append(DashboardEvent event, List<String> docNums) {
+        if (docNums.isEmpty()) return;
+
+        String userId = CurrentUser.userIdOr(null);
+        try {
+            activityLogMapper.insertBuyerActivity(event.getDoc(), event.getType(), event.name(),
+                    docNums, event.getLabel(), userId);
+            if (event.getTarget() != DashboardEvent.Target.BUYER) {
+                for (String docNum : docNums) {
+                    activityLogMapper.insertVendorActivities(event.getTarget().name(), event.getType(), event.name(),
+                            docNum, event.getLabel(), userId);
+                }
+            }
+        } catch (NonTransientDataAccessException e) {
+            log.warn("활동 이력 기록 실패: {} {} ({})", event, docNums, e.toString());
+        }
+    }
+
+    // 최근 활동 (vendorCd null = 구매사)
+    public List<RecentActivityResponse> latest(String vendorCd, int size) {
+        return activityLogMapper.selectTimeline(vendorCd, null, null, size);
+    }
+
+    /**
+     * 타임라인 (키셋 페이징) - cursor 없이 호출하면 첫 페이지, 응답의 nextCursor로 다음 페이지 조회
+     * - 추가 전용 이력이라 총 건수는 세지 않음
+     */
+    public Map<String, Object> page(String vendorCd, String cursor, Integer pageSize, boolean epochMillis) {
+        int size = (pageSize == null || pageSize < 1) ? DEFAULT_PAGE_SIZE : Math.min(pageSize, MAX_PAGE_SIZE);
+
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        Long afterLogId = after != null ? parseLogId(after.getKey()) : null;
+
+        // 다음 페이지 존재 여부 확인용 1건 추가
+        List<RecentActivityResponse> rows = activityLogMapper.selectTimeline(vendorCd,
+                after != null ? after.getRegDate() : null, afterLogId, size + 1);
+        boolean hasNext = rows.size() > size;
+        List<RecentActivityResponse> list = hasNext ? rows.subList(0, size) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            RecentActivityResponse last = list.get(list.size() - 1);
+            nextCursor = KeysetCursor.next(last.getRegDate(),
+                    last.getLogId() != null ? String.valueOf(last.getLogId()) : null);
+        }
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("items", ActivityFeedRenderer.render(list, epochMillis));
+        result.put("pageSize", size);
+        result.put("nextCursor", nextCursor);
+        return result;
+    }
+
+    private static Long parseLogId(String key) {
+        try {
+            return Long.valueOf(key);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+        }
+    }
+}
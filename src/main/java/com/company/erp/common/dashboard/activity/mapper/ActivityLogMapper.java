@@ -0,0 +1,70 @@
+package com.company.erp.common.dashboard.activity.mapper;
+
+import com.company.erp.common.dashboard.buyer.dto.response.RecentActivityResponse;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * ACTIVITY_LOG - 문서 이벤트 활동 이력 (추가 전용)
+ * - VENDOR_CD NULL 행은 구매사 타임라인, 협력사에게도 보이는 이벤트는 대상 협력사별로 한 행씩 추가
+ * - 구매사/협력사 타임라인 모두 IX_ACTIVITY_LOG_VENDOR 한 구간 스캔 (VENDOR_CD IS NULL 도 ref 조회)
+ *
+ * CREATE TABLE ACTIVITY_LOG (
+ *     LOG_ID      BIGINT       NOT NULL AUTO_INCREMENT PRIMARY KEY,
+ *     ACT_TYPE    VARCHAR(20)  NOT NULL,
+ *     EVENT_CD    VARCHAR(30)  NOT NULL,
+ *     DOC_NUM     VARCHAR(30)  NOT NULL,
+ *     TITLE       VARCHAR(200) NULL,
+ *     DESCRIPTION VARCHAR(200) NULL,
+ *     VENDOR_CD   VARCHAR(20)  NULL,
+ *     REG_USER_ID VARCHAR(50)  NULL,
+ *     REG_DATE    DATETIME     NOT NULL,
+ *     KEY IX_ACTIVITY_LOG_VENDOR (VENDOR_CD, REG_DATE, LOG_ID),
+ *     KEY IX_ACTIVITY_LOG_REG (REG_DATE)
+ * );
+ *
+ * -- 도입 시 기존 문서로 구매사 타임라인 1회 채우기
+ * INSERT INTO ACTIVITY_LOG (ACT_TYPE, EVENT_CD, DOC_NUM, TITLE, DESCRIPTION, REG_USER_ID, REG_DATE)
+ * SELECT 'request', 'PR_CREATED', PR_NUM, PR_SUBJECT, CONCAT(REG_USER_ID, ' 등록'), REG_USER_ID, REG_DATE FROM prhd WHERE DEL_FLAG = 'N'
+ * UNION ALL SELECT 'rfq', 'RFQ_SENT', RFQ_NUM, RFQ_SUBJECT, CONCAT('RFQ 번호: ', RFQ_NUM), NULL, RFQ_DATE FROM rfqhd WHERE DEL_FLAG = 'N'
+ * UNION ALL SELECT 'order', 'PO_CREATED', PO_NUM, PO_SUBJECT, CONCAT('업체코드: ', VENDOR_CD), NULL, REG_DATE FROM pohd WHERE DEL_FLAG = 'N'
+ * UNION ALL SELECT 'receiving', 'GR_CREATED', GR_NUM, CONCAT('입고 현황: ', GR_NUM), '입고 완료', NULL, REG_DATE FROM grhd WHERE DEL_FLAG = 'N';
+ *
+ * -- 같은 시점에 협력사 타임라인도 채우기 (기존 협력사 홈의 RFQ 대상/발주 활동)
+ * INSERT INTO ACTIVITY_LOG (ACT_TYPE, EVENT_CD, DOC_NUM, TITLE, DESCRIPTION, VENDOR_CD, REG_USER_ID, REG_DATE)
+ * SELECT 'rfq', 'RFQ_SENT', v.RFQ_NUM, h.RFQ_SUBJECT,
+ *        CONCAT('상태: ', COALESCE((SELECT c.CODE_NAME FROM codd c WHERE c.CODE_GROUP = 'PROGRESS_CD' AND c.CODE = v.PROGRESS_CD), v.PROGRESS_CD)),
+ *        v.VENDOR_CD, NULL, v.REG_DATE
+ *   FROM rfqvn v JOIN rfqhd h ON h.RFQ_NUM = v.RFQ_NUM
+ *  WHERE v.DEL_FLAG = 'N'
+ * UNION ALL SELECT 'order', 'PO_CREATED', PO_NUM, PO_SUBJECT, CONCAT('발주번호: ', PO_NUM), VENDOR_CD, NULL, REG_DATE
+ *   FROM pohd WHERE DEL_FLAG = 'N' AND VENDOR_CD IS NOT NULL;
+ */
+@Mapper
+public interface ActivityLogMapper {
+
+    // 구매사 타임라인 행 - 문서 번호마다 한 행 (문서 제목은 원본 테이블에서 INSERT ... SELECT)
+    int insertBuyerActivity(@Param("doc") String doc,
+                            @Param("actType") String actType,
+                            @Param("eventCd") String eventCd,
+                            @Param("docNums") List<String> docNums,
+                            @Param("description") String description,
+                            @Param("userId") String userId);
+
+    // 대상 협력사별 타임라인 행 (RFQ 협력사 / 선정 협력사 / PO 협력사)
+    int insertVendorActivities(@Param("target") String target,
+                               @Param("actType") String actType,
+                               @Param("eventCd") String eventCd,
+                               @Param("docNum") String docNum,
+                               @Param("description") String description,
+                               @Param("userId") String userId);
+
+    // 타임라인 (vendorCd null = 구매사) - (REG_DATE, LOG_ID) 키셋
+    List<RecentActivityResponse> selectTimeline(@Param("vendorCd") String vendorCd,
+                                                @Param("cursorRegDate") LocalDateTime cursorRegDate,
+                                                @Param("cursorLogId") Long cursorLogId,
+                                                @Param("limit") int limit);
+}
@@ -1,13 +1,21 @@
 package com.company.erp.common.dashboard.buyer.controller;
 
+import com.company.erp.common.auth.RequireRole;
 import com.company.erp.common.dashboard.buyer.dto.response.BuyerDashboardStatsResponse;
 import com.company.erp.common.dashboard.buyer.dto.response.RecentActivityResponse;
 import com.company.erp.common.dashboard.buyer.service.BuyerDashboardService;
+import com.company.erp.common.dashboard.cache.DashboardCache;
+import com.company.erp.common.dashboard.cache.SingleFlightCache;
+import com.company.erp.common.dashboard.live.DashboardEventBus;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.HashMap;
 import java.util.List;
@@ -19,13 +27,46 @@ import java.util.Map;
 public class BuyerDashboardController {
 
     private final BuyerDashboardService dashboardService;
+    private final DashboardCache dashboardCache;
+    private final DashboardEventBus dashboardEventBus;
 
+    // epochMillis=true면 활동 시각을 포맷 없이 epoch millis(regAt)로 반환
     @GetMapping("/total-data")
-    public ResponseEntity<Map<String, Object>> getDashboardData() {
+    public ResponseEntity<Map<String, Object>> getDashboardData(
+            @RequestParam(defaultValue = "false") boolean epochMillis) {
         Map<String, Object> result = new HashMap<>();
         result.put("stats", dashboardService.getDashboardStats());
-        result.put("activities", dashboardService.getRecentActivities());
+        result.put("activities", dashboardService.getRecentActivities(epochMillis));
 
         return ResponseEntity.ok(result);
     }
+
+    // 활동 타임라인 (키셋 페이징) - cursor 없이 호출하면 첫 페이지, 응답의 nextCursor로 다음 페이지 조회
+    // - 구매사 전체 활동 이력이므로 구매팀/관리자만 조회
+    @RequireRole({ "BUYER", "ADMIN" })
+    @GetMapping("/timeline")
+    public ResponseEntity<Map<String, Object>> getTimeline(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "20") Integer pageSize,
+            @RequestParam(defaultValue = "false") boolean epochMillis) {
+        return ResponseEntity.ok(dashboardService.getTimeline(cursor, pageSize, epochMillis));
+    }
+
+    // 실시간 활동/통계 푸시 (SSE) - 화면 진입 시 total-data로 초기값을 받은 뒤 연결
+    // - 구매사 전체 문서 활동이 흐르므로 구매팀/관리자만 구독
+    @RequireRole({ "BUYER", "ADMIN" })
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> stream() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .header("X-Accel-Buffering", "no")
+                .body(dashboardEventBus.subscribeBuyer());
+    }
+
+    // 대시보드 조회 캐시 hit/miss 지표
+    @RequireRole({ "BUYER", "ADMIN" })
+    @GetMapping("/cache-stats")
+    public ResponseEntity<Map<String, SingleFlightCache.Stats>> getCacheStats() {
+        return ResponseEntity.ok(dashboardCache.stats());
+    }
 }
@@ -0,0 +1,207 @@
+package com.company.erp.common.dashboard.buyer.counter;
+
+import com.company.erp.common.dashboard.buyer.dto.response.BuyerDashboardStatsResponse;
+import com.company.erp.common.dashboard.buyer.mapper.BuyerDashboardMapper;
+import com.company.erp.common.dashboard.cache.DashboardCache;
+import com.company.erp.common.dashboard.live.DashboardEventBus;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 구매사 대시보드 카운터 (메모리)
+ * - 조회는 메모리 값만 읽음 -> 홈 화면 조회 비용이 테이블 크기와 무관
+ * - 상태 변경 서비스가 track(문서)을 호출하면 변경 전 소속(어느 카운터에 포함되는지)을 트랜잭션 안에서 조회하고,
+ *   커밋 후 변경 후 소속을 다시 조회해서 차이만큼 증감 (롤백되면 반영 안 함)
+ * - reconcile-interval마다 원본 테이블로 전체 재집계해서 누락/동시 변경으로 생긴 오차를 보정
+ *   (다른 노드의 변경, track 없는 경로의 변경도 이 주기 안에 반영)
+ * - 첫 조회 전에는 재집계하지 않고 track도 무시, 월이 바뀌면 첫 조회 때 재집계 (이번 달 구매요청)
+ */
+@Slf4j
+@Component
+public class DashboardCounters {
+
+    private static final int SIZE = 8;
+
+    private final BuyerDashboardMapper dashboardMapper;
+    private final DashboardCache dashboardCache;
+    private final DashboardEventBus dashboardEventBus;
+    private final Duration reconcileInterval;
+
+    private final AtomicLongArray values = new AtomicLongArray(SIZE);
+
+    // 마지막 재집계 월 (null이면 아직 집계 전)
+    private volatile YearMonth reconciledMonth;
+    private final Object reconcileLock = new Object();
+
+    // 커밋 후 소속 재조회 / 주기 재집계 (한 스레드에서 순서대로)
+    private ScheduledExecutorService worker;
+
+    public DashboardCounters(BuyerDashboardMapper dashboardMapper,
+                             DashboardCache dashboardCache,
+                             DashboardEventBus dashboardEventBus,
+                             @Value("${app.dashboard.counter.reconcile-interval:5m}") Duration reconcileInterval) {
+        this.dashboardMapper = dashboardMapper;
+        this.dashboardCache = dashboardCache;
+        this.dashboardEventBus = dashboardEventBus;
+        this.reconcileInterval = reconcileInterval;
+    }
+
+    @PostConstruct
+    public void start() {
+        worker = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "dashboard-counter");
+            t.setDaemon(true);
+            return t;
+        });
+        long intervalMs = reconcileInterval.toMillis();
+        worker.scheduleWithFixedDelay(this::reconcileQuietly, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (worker != null) worker.shutdownNow();
+    }
+
+    public BuyerDashboardStatsResponse snapshot() {
+        if (!YearMonth.now().equals(reconciledMonth)) {
+            synchronized (reconcileLock) {
+                // 대기하는 동안 다른 요청이 이미 재집계했을 수 있음
+                if (!YearMonth.now().equals(reconciledMonth)) reconcile();
+            }
+        }
+        return toStats(values);
+    }
+
+    // 원본 테이블로 전체 재집계
+    public void reconcile() {
+        synchronized (reconcileLock) {
+            YearMonth month = YearMonth.now();
+            long[] actual = toArray(dashboardMapper.getDashboardStats());
+            for (int i = 0; i < SIZE; i++) {
+                values.set(i, actual[i]);
+            }
+            reconciledMonth = month;
+        }
+    }
+
+    /**
+     * 문서 상태 변경 추적 - 트랜잭션 안에서 변경 SQL보다 먼저 호출
+     * - 같은 트랜잭션에서 같은 문서를 여러 번 호출해도 처음 한 번만 조회
+     * - 대시보드 조회 캐시(최근 활동, 협력사 통계)도 커밋 후 무효화
+     */
+    public void track(DashboardDoc doc, String key) {
+        dashboardCache.invalidateAllAfterCommit();
+        if (key == null || key.isBlank() || reconciledMonth == null) return;
+        // 트랜잭션 밖 변경은 재집계로 보정
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return;
+
+        pendingOfCurrentTransaction().computeIfAbsent(doc.name() + ":" + key,
+                k -> new Pending(doc, key, membership(doc, key)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Pending> pendingOfCurrentTransaction() {
+        Map<String, Pending> pending = (Map<String, Pending>) TransactionSynchronizationManager.getResource(this);
+        if (pending != null) return pending;
+
+        Map<String, Pending> created = new LinkedHashMap<>();
+        TransactionSynchronizationManager.bindResource(this, created);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                // 변경 후 소속 조회는 요청 스레드가 아닌 카운터 스레드에서
+                created.values().forEach(p -> worker.execute(() -> applyQuietly(p)));
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(DashboardCounters.this);
+            }
+        });
+        return created;
+    }
+
+    private void applyQuietly(Pending pending) {
+        try {
+            long[] after = membership(pending.doc, pending.key);
+            boolean changed = false;
+            for (int i = 0; i < SIZE; i++) {
+                long delta = after[i] - pending.before[i];
+                if (delta != 0) {
+                    values.addAndGet(i, delta);
+                    changed = true;
+                }
+            }
+            // 실시간 대시보드 구독자에게 반영된 값 전송
+            if (changed) dashboardEventBus.publishBuyerStats(toStats(values));
+        } catch (Exception e) {
+            log.warn("대시보드 카운터 반영 실패: {} {} ({})", pending.doc, pending.key, e.toString());
+        }
+    }
+
+    private void reconcileQuietly() {
+        if (reconciledMonth == null) return;
+        try {
+            reconcile();
+        } catch (Exception e) {
+            log.warn("대시보드 카운터 재집계 실패: {}", e.toString());
+        }
+    }
+
+    // 문서 하나가 각 카운터에 포함되는지 (0/1)
+    private long[] membership(DashboardDoc doc, String key) {
+        BuyerDashboardStatsResponse row = switch (doc) {
+            case PR -> dashboardMapper.selectPrCounterMembership(key);
+            case RFQ -> dashboardMapper.selectRfqCounterMembership(key);
+            case PO -> dashboardMapper.selectPoCounterMembership(key);
+        };
+        return toArray(row);
+    }
+
+    private static long[] toArray(BuyerDashboardStatsResponse s) {
+        if (s == null) return new long[SIZE];
+        return new long[]{
+                s.getPrCount(), s.getActiveRfqCount(), s.getPoCompletedCount(), s.getGrWaitingCount(),
+                s.getRfqPendingCount(), s.getPoPendingCount(), s.getPendingProcessCount(), s.getPendingApprovalCount()
+        };
+    }
+
+    private static BuyerDashboardStatsResponse toStats(AtomicLongArray v) {
+        return BuyerDashboardStatsResponse.builder()
+                .prCount(v.get(0))
+                .activeRfqCount(v.get(1))
+                .poCompletedCount(v.get(2))
+                .grWaitingCount(v.get(3))
+                .rfqPendingCount(v.get(4))
+                .poPendingCount(v.get(5))
+                .pendingProcessCount(v.get(6))
+                .pendingApprovalCount(v.get(7))
+                .build();
+    }
+
+    private static final class Pending {
+        private final DashboardDoc doc;
+        private final String key;
+        private final long[] before;
+
+        private Pending(DashboardDoc doc, String key, long[] before) {
+            this.doc = doc;
+            this.key = key;
+            this.before = before;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.company.erp.common.dashboard.buyer.counter;
+
+/**
+ * 대시보드 카운터에 영향을 주는 문서 단위
+ * - PR: 이번 달 구매요청 / 견적 대기 / 처리 대기
+ * - RFQ: 진행중 견적 / 발주 대기 / 승인 대기
+ * - PO: 발주 완료 / 입고 대기 (입고 변경은 해당 PO로 추적)
+ */
+public enum DashboardDoc {
+    PR,
+    RFQ,
+    PO
+}
@@ -1,16 +1,35 @@
 package com.company.erp.common.dashboard.buyer.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.*;
 
+import java.time.LocalDateTime;
+
 @Getter
 @Setter
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class RecentActivityResponse {
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long logId; // 활동 이력 ID (타임라인 조회 시)
+
     private String type; // 'request', 'rfq', 'order', 'receiving'
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String docNum; // 문서번호 (타임라인 조회 시)
+
     private String title;
     private String description;
-    private String time; // "5분 전" 등
-    private String regDate; // 정렬용 원본 날짜
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String time; // "5분 전" 등 (epoch millis 요청 시 생략)
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime regDate; // 정렬용 원본 일시 (epoch millis 요청 시 생략)
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long regAt; // 원본 일시 epoch millis (epoch millis 요청 시에만)
 }
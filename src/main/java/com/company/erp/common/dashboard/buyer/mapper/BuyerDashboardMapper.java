@@ -1,16 +1,18 @@
 package com.company.erp.common.dashboard.buyer.mapper;
 
 import com.company.erp.common.dashboard.buyer.dto.response.BuyerDashboardStatsResponse;
-import com.company.erp.common.dashboard.buyer.dto.response.RecentActivityResponse;
 import org.apache.ibatis.annotations.Mapper;
-
-import java.util.List;
+import org.apache.ibatis.annotations.Param;
 
 @Mapper
 public interface BuyerDashboardMapper {
-    // 주요 통계 집계
+    // 주요 통계 집계 (카운터 재집계용)
     BuyerDashboardStatsResponse getDashboardStats();
 
-    // 최근 활동 이력 5건
-    List<RecentActivityResponse> getRecentActivities();
+    // 문서 하나의 카운터 소속 (각 항목 0/1, 해당 문서와 무관한 항목은 0)
+    BuyerDashboardStatsResponse selectPrCounterMembership(@Param("prNum") String prNum);
+
+    BuyerDashboardStatsResponse selectRfqCounterMembership(@Param("rfqNum") String rfqNum);
+
+    BuyerDashboardStatsResponse selectPoCounterMembership(@Param("poNum") String poNum);
 }
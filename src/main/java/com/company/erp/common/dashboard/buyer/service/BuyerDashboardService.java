@@ -1,75 +1,40 @@
 package com.company.erp.common.dashboard.buyer.service;
 
+import com.company.erp.common.dashboard.ActivityFeedRenderer;
+import com.company.erp.common.dashboard.activity.ActivityLog;
+import com.company.erp.common.dashboard.buyer.counter.DashboardCounters;
 import com.company.erp.common.dashboard.buyer.dto.response.BuyerDashboardStatsResponse;
 import com.company.erp.common.dashboard.buyer.dto.response.RecentActivityResponse;
-import com.company.erp.common.dashboard.buyer.mapper.BuyerDashboardMapper;
+import com.company.erp.common.dashboard.cache.DashboardCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.time.temporal.ChronoUnit;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 public class BuyerDashboardService {
 
-    private final BuyerDashboardMapper dashboardMapper;
+    private static final int FEED_SIZE = 5;
 
+    private final DashboardCounters dashboardCounters;
+    private final DashboardCache dashboardCache;
+    private final ActivityLog activityLog;
+
+    // 메모리 카운터 조회 (상태 변경 시 증감 + 주기 재집계)
     public BuyerDashboardStatsResponse getDashboardStats() {
-        return dashboardMapper.getDashboardStats();
+        return dashboardCounters.snapshot();
     }
 
-    public List<RecentActivityResponse> getRecentActivities() {
-        List<RecentActivityResponse> activities = dashboardMapper.getRecentActivities();
-
-        // 각 활동의 time 필드를 상대 시간으로 계산
-        return activities.stream()
-                .map(activity -> {
-                    String relativeTime = calculateRelativeTime(activity.getRegDate());
-                    activity.setTime(relativeTime);
-                    return activity;
-                })
-                .collect(Collectors.toList());
+    // 활동 이력 최신 FEED_SIZE건 (단기 캐시, 상태 변경 커밋 시 무효화) - 상대 시간은 응답마다 계산
+    public List<RecentActivityResponse> getRecentActivities(boolean epochMillis) {
+        List<RecentActivityResponse> rows = dashboardCache.buyerActivities(() -> activityLog.latest(null, FEED_SIZE));
+        return ActivityFeedRenderer.render(rows, epochMillis);
     }
 
-    /**
-     * 날짜 문자열을 상대 시간으로 변환 ("5분 전", "1시간 전" 등)
-     */
-    private String calculateRelativeTime(String regDateStr) {
-        if (regDateStr == null || regDateStr.isEmpty()) {
-            return "알 수 없음";
-        }
-
-        // 안전한 fallback 미리 계산
-        String safeFallback = regDateStr.length() >= 10 ? regDateStr.substring(0, 10) : regDateStr;
-
-        try {
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
-            LocalDateTime regDate = LocalDateTime.parse(regDateStr, formatter);
-            LocalDateTime now = LocalDateTime.now();
-
-            long minutes = ChronoUnit.MINUTES.between(regDate, now);
-            long hours = ChronoUnit.HOURS.between(regDate, now);
-            long days = ChronoUnit.DAYS.between(regDate, now);
-
-            if (minutes < 1) {
-                return "방금 전";
-            } else if (minutes < 60) {
-                return minutes + "분 전";
-            } else if (hours < 24) {
-                return hours + "시간 전";
-            } else if (days < 7) {
-                return days + "일 전";
-            } else {
-                // 7일 이상이면 날짜 표시
-                return safeFallback;
-            }
-        } catch (Exception e) {
-            // 파싱 실패 시 원본 날짜 반환
-            return safeFallback;
-        }
+    // 전체 활동 타임라인 (키셋 페이징)
+    public Map<String, Object> getTimeline(String cursor, Integer pageSize, boolean epochMillis) {
+        return activityLog.page(null, cursor, pageSize, epochMillis);
     }
 }
@@ -0,0 +1,120 @@
+package com.company.erp.common.dashboard.cache;
+
+import com.company.erp.common.dashboard.buyer.dto.response.RecentActivityResponse;
+import com.company.erp.common.dashboard.vendor.dto.response.VendorDashboardStatsResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 대시보드 조회 단기 캐시
+ * - 홈 화면은 로그인할 때마다 호출되므로 같은 결과를 TTL 동안 재사용하고, 동시 미스는 쿼리 1회로 합침
+ * - 구매사 통계는 DashboardCounters(메모리 카운터)가 담당하므로 여기서는 최근 활동만 캐시
+ * - 협력사 통계/최근 활동은 vendorCd별로 캐시하고 max-vendors를 넘으면 LRU 제거
+ * - 상태 변경 서비스가 커밋하면 관련 키를 무효화 (롤백되면 그대로 둠)
+ */
+@Component
+public class DashboardCache {
+
+    private static final String BUYER_KEY = "buyer";
+
+    private final SingleFlightCache<String, List<RecentActivityResponse>> buyerActivities;
+    private final SingleFlightCache<String, VendorDashboardStatsResponse> vendorStats;
+    private final SingleFlightCache<String, List<RecentActivityResponse>> vendorActivities;
+
+    public DashboardCache(@Value("${app.dashboard.cache.stats-ttl:30s}") Duration statsTtl,
+                          @Value("${app.dashboard.cache.activity-ttl:10s}") Duration activityTtl,
+                          @Value("${app.dashboard.cache.max-vendors:2000}") int maxVendors) {
+        this.buyerActivities = new SingleFlightCache<>(activityTtl.toMillis(), 1);
+        this.vendorStats = new SingleFlightCache<>(statsTtl.toMillis(), maxVendors);
+        this.vendorActivities = new SingleFlightCache<>(activityTtl.toMillis(), maxVendors);
+    }
+
+    public List<RecentActivityResponse> buyerActivities(Supplier<List<RecentActivityResponse>> loader) {
+        return buyerActivities.get(BUYER_KEY, () -> List.copyOf(loader.get()));
+    }
+
+    public VendorDashboardStatsResponse vendorStats(String vendorCd, Supplier<VendorDashboardStatsResponse> loader) {
+        return vendorStats.get(vendorCd, loader);
+    }
+
+    public List<RecentActivityResponse> vendorActivities(String vendorCd, Supplier<List<RecentActivityResponse>> loader) {
+        return vendorActivities.get(vendorCd, () -> List.copyOf(loader.get()));
+    }
+
+    /**
+     * 구매사 측 문서(PR/RFQ/PO/입고) 변경 - 커밋 후 전체 무효화
+     * - RFQ/PO 변경은 여러 협력사에 걸칠 수 있어 협력사 키도 모두 비움 (짧은 TTL이라 재조회 비용은 작음)
+     */
+    public void invalidateAllAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidateAll();
+            return;
+        }
+        // 한 트랜잭션에서 여러 문서를 바꿔도 한 번만 등록
+        if (TransactionSynchronizationManager.hasResource(this)) return;
+        TransactionSynchronizationManager.bindResource(this, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidateAll();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(DashboardCache.this);
+            }
+        });
+    }
+
+    /**
+     * 협력사 측 변경(견적 접수/제출 등) - 커밋 후 해당 협력사 + 구매사 최근 활동 무효화
+     */
+    public void invalidateVendorAfterCommit(String vendorCd) {
+        if (vendorCd == null || vendorCd.isBlank()) {
+            invalidateAllAfterCommit();
+            return;
+        }
+        afterCommit(() -> {
+            vendorStats.invalidate(vendorCd);
+            vendorActivities.invalidate(vendorCd);
+            buyerActivities.invalidateAll();
+        });
+    }
+
+    public void invalidateAll() {
+        buyerActivities.invalidateAll();
+        vendorStats.invalidateAll();
+        vendorActivities.invalidateAll();
+    }
+
+    // 캐시별 hit/miss 지표
+    public Map<String, SingleFlightCache.Stats> stats() {
+        Map<String, SingleFlightCache.Stats> stats = new LinkedHashMap<>();
+        stats.put("buyerActivities", buyerActivities.stats());
+        stats.put("vendorStats", vendorStats.stats());
+        stats.put("vendorActivities", vendorActivities.stats());
+        return stats;
+    }
+
+    // 트랜잭션 안이면 커밋 후, 밖이면 바로 실행
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,152 @@
+package com.company.erp.common.dashboard.cache;
+
+import lombok.Getter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 단기 TTL 캐시 (키별 만료 + single-flight + 크기 상한)
+ * - 같은 키로 동시에 미스가 나면 첫 요청만 loader를 실행하고 나머지는 그 결과를 기다림 (DB 쿼리 1회)
+ * - maxEntries를 넘으면 가장 오래 안 쓴 키부터 제거 (LRU)
+ * - invalidate는 진행 중인 로드 결과도 버림 (무효화 전에 시작한 조회가 옛 값을 다시 넣지 않도록)
+ * - loader가 실패하면 캐시하지 않고 기다리던 요청 모두에게 같은 예외를 던짐
+ */
+public class SingleFlightCache<K, V> {
+
+    private final long ttlMillis;
+    private final int maxEntries;
+
+    // accessOrder=true -> get할 때마다 뒤로 이동, 맨 앞이 LRU
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong loads = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public SingleFlightCache(long ttlMillis, int maxEntries) {
+        if (maxEntries < 1) throw new IllegalArgumentException("maxEntries는 1 이상이어야 합니다.");
+        this.ttlMillis = ttlMillis;
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                if (size() <= SingleFlightCache.this.maxEntries) return false;
+                evictions.incrementAndGet();
+                return true;
+            }
+        };
+    }
+
+    public V get(K key, Supplier<V> loader) {
+        Entry<V> entry;
+        boolean owner = false;
+
+        synchronized (entries) {
+            entry = entries.get(key);
+            long now = System.currentTimeMillis();
+            if (entry != null && entry.isDone() && entry.expiresAt <= now) {
+                entries.remove(key);
+                entry = null;
+            }
+            if (entry == null) {
+                entry = new Entry<>();
+                entries.put(key, entry);
+                owner = true;
+                misses.incrementAndGet();
+            } else {
+                hits.incrementAndGet();
+            }
+        }
+
+        if (owner) load(key, entry, loader);
+        return await(entry);
+    }
+
+    public void invalidate(K key) {
+        synchronized (entries) {
+            entries.remove(key);
+        }
+    }
+
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public Stats stats() {
+        return new Stats(hits.get(), misses.get(), loads.get(), evictions.get(), size());
+    }
+
+    private void load(K key, Entry<V> entry, Supplier<V> loader) {
+        loads.incrementAndGet();
+        try {
+            V value = loader.get();
+            synchronized (entries) {
+                entry.expiresAt = System.currentTimeMillis() + ttlMillis;
+            }
+            entry.future.complete(value);
+        } catch (RuntimeException | Error e) {
+            synchronized (entries) {
+                // 실패한 결과는 남기지 않음 (이미 무효화/교체된 경우 그대로 둠)
+                entries.remove(key, entry);
+            }
+            entry.future.completeExceptionally(e);
+        }
+    }
+
+    private static <V> V await(Entry<V> entry) {
+        try {
+            return entry.future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException re) throw re;
+            if (cause instanceof Error err) throw err;
+            throw e;
+        }
+    }
+
+    private static final class Entry<V> {
+        private final CompletableFuture<V> future = new CompletableFuture<>();
+        // 로드 완료 전에는 만료되지 않음
+        private long expiresAt = Long.MAX_VALUE;
+
+        private boolean isDone() {
+            return future.isDone();
+        }
+    }
+
+    @Getter
+    public static final class Stats {
+        private final long hits;
+        private final long misses;
+        private final long loads;
+        private final long evictions;
+        private final int size;
+
+        private Stats(long hits, long misses, long loads, long evictions, int size) {
+            this.hits = hits;
+            this.misses = misses;
+            this.loads = loads;
+            this.evictions = evictions;
+            this.size = size;
+        }
+
+        public double getHitRatio() {
+            long total = hits + misses;
+            return total == 0 ? 0d : (double) hits / total;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.company.erp.common.dashboard.live;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 대시보드 실시간 푸시 대상 도메인 이벤트
+ * - doc은 이벤트 문서번호의 종류 (PR/RFQ/PO/GR)
+ * - type은 최근 활동 목록의 type과 같은 값 ('request', 'rfq', 'order', 'receiving')
+ * - target은 구매사 외에 추가로 알릴 협력사 범위
+ */
+@Getter
+@RequiredArgsConstructor
+public enum DashboardEvent {
+    PR_CREATED("PR", "request", "구매요청 등록", Target.BUYER),
+    PR_APPROVED("PR", "request", "구매요청 승인", Target.BUYER),
+    RFQ_SENT("RFQ", "rfq", "견적 요청 발송", Target.RFQ_VENDORS),
+    RFQ_CLOSED("RFQ", "rfq", "견적 마감", Target.RFQ_VENDORS),
+    RFQ_SELECTED("RFQ", "rfq", "업체 선정", Target.RFQ_SELECTED_VENDOR),
+    PO_CREATED("PO", "order", "발주 등록", Target.BUYER),
+    PO_SENT("PO", "order", "발주 전송", Target.PO_VENDOR),
+    GR_CREATED("GR", "receiving", "입고 등록", Target.BUYER);
+
+    private final String doc;
+    private final String type;
+    private final String label;
+    private final Target target;
+
+    public enum Target {
+        BUYER,
+        RFQ_VENDORS,
+        RFQ_SELECTED_VENDOR,
+        PO_VENDOR
+    }
+}
@@ -0,0 +1,383 @@
+package com.company.erp.common.dashboard.live;
+
+import com.company.erp.common.dashboard.activity.ActivityLog;
+import com.company.erp.common.dashboard.buyer.dto.response.BuyerDashboardStatsResponse;
+import com.company.erp.common.dashboard.buyer.dto.response.RecentActivityResponse;
+import com.company.erp.common.dashboard.live.mapper.DashboardLiveMapper;
+import com.company.erp.common.dashboard.vendor.service.VendorDashboardService;
+import com.company.erp.common.util.RelativeTimeFormatter;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 대시보드 실시간 푸시 (SSE, 프로세스 내 이벤트 버스)
+ * - 연결은 SseEmitter(서블릿 비동기)로 유지 -> 대기 중인 연결은 요청 스레드를 잡지 않음
+ * - 상태 변경 서비스가 publish(이벤트, 문서번호)를 호출하면 커밋 후 활동 항목을 만들어
+ *   구매사 전체와 이벤트 대상 협력사에게 보냄 (롤백되면 보내지 않음, 구독자가 없으면 아무것도 안 함)
+ * - 구매사 통계는 DashboardCounters가 증감을 반영한 직후 publishBuyerStats로 스냅샷을 보냄
+ * - 협력사 통계는 대상 협력사가 연결돼 있을 때만 다시 조회해서 보냄
+ * - heartbeat-interval마다 주석 이벤트를 보내 끊긴 연결을 정리 (프록시 유휴 타임아웃 방지 겸용)
+ * - 조회(dashboard-live 스레드)와 소켓 쓰기(dashboard-live-send 풀)를 분리하고, 연결마다 send-queue-capacity 크기의 대기열을 둠
+ *   한 연결의 쓰기가 막혀도 그 연결의 대기열만 쌓이고 다른 구독자와 이벤트 버스는 멈추지 않음
+ *   대기열이 넘치거나 쓰기 하나가 heartbeat-interval 넘게 끝나지 않으면 느린 연결로 보고 끊음 (재연결 후 total-data로 보정)
+ * - 다른 노드에서 일어난 변경은 푸시되지 않음 (화면 진입 시 total-data 조회로 보정)
+ */
+@Slf4j
+@Component
+public class DashboardEventBus {
+
+    private static final long RECONNECT_MILLIS = 3_000L;
+
+    private final DashboardLiveMapper liveMapper;
+    private final ActivityLog activityLog;
+    private final VendorDashboardService vendorDashboardService;
+    private final Duration timeout;
+    private final Duration heartbeatInterval;
+    private final int maxConnections;
+    private final int sendThreads;
+    private final int sendQueueCapacity;
+
+    private final Set<Connection> buyers = ConcurrentHashMap.newKeySet();
+    private final Map<String, Set<Connection>> vendors = new ConcurrentHashMap<>();
+    private final AtomicInteger connections = new AtomicInteger();
+
+    // 활동 조회와 heartbeat는 요청 스레드가 아닌 한 스레드에서 순서대로 (소켓 쓰기는 하지 않음)
+    private ScheduledExecutorService worker;
+    // 연결별 대기열 비우기 - 한 연결은 한 번에 한 스레드만 씀 (이벤트 순서 유지)
+    private ThreadPoolExecutor sender;
+
+    public DashboardEventBus(DashboardLiveMapper liveMapper,
+                             ActivityLog activityLog,
+                             VendorDashboardService vendorDashboardService,
+                             @Value("${app.dashboard.live.timeout:30m}") Duration timeout,
+                             @Value("${app.dashboard.live.heartbeat-interval:25s}") Duration heartbeatInterval,
+                             @Value("${app.dashboard.live.max-connections:5000}") int maxConnections,
+                             @Value("${app.dashboard.live.send-threads:4}") int sendThreads,
+                             @Value("${app.dashboard.live.send-queue-capacity:32}") int sendQueueCapacity) {
+        this.liveMapper = liveMapper;
+        this.activityLog = activityLog;
+        this.vendorDashboardService = vendorDashboardService;
+        this.timeout = timeout;
+        this.heartbeatInterval = heartbeatInterval;
+        this.maxConnections = maxConnections;
+        this.sendThreads = sendThreads;
+        this.sendQueueCapacity = sendQueueCapacity;
+    }
+
+    @PostConstruct
+    public void start() {
+        worker = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "dashboard-live");
+            t.setDaemon(true);
+            return t;
+        });
+        long intervalMs = heartbeatInterval.toMillis();
+        worker.scheduleWithFixedDelay(this::heartbeat, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+
+        // 대기 작업은 연결당 최대 하나 -> 작업 큐는 최대 연결 수로 충분
+        AtomicInteger seq = new AtomicInteger();
+        sender = new ThreadPoolExecutor(sendThreads, sendThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, maxConnections)), r -> {
+            Thread t = new Thread(r, "dashboard-live-send-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (worker != null) worker.shutdownNow();
+        if (sender != null) sender.shutdownNow();
+        buyers.forEach(c -> c.emitter.complete());
+        vendors.values().forEach(set -> set.forEach(c -> c.emitter.complete()));
+    }
+
+    public SseEmitter subscribeBuyer() {
+        Connection connection = open();
+        buyers.add(connection);
+        onClose(connection, () -> buyers.remove(connection));
+        return connection.emitter;
+    }
+
+    public SseEmitter subscribeVendor(String vendorCd) {
+        Connection connection = open();
+        vendors.computeIfAbsent(vendorCd, k -> ConcurrentHashMap.newKeySet()).add(connection);
+        onClose(connection, () -> removeVendor(vendorCd, connection));
+        return connection.emitter;
+    }
+
+    /**
+     * 도메인 이벤트 발행 - 활동 이력은 현재 트랜잭션에 바로 기록하고, 실시간 전송은 커밋 후 (트랜잭션 밖이면 바로)
+     * - key는 이벤트 문서번호 (PR/RFQ/PO/GR 번호)
+     */
+    public void publish(DashboardEvent event, String key) {
+        if (key == null || key.isBlank()) return;
+        publish(event, key, List.of(key));
+    }
+
+    /**
+     * 한 번의 처리로 문서가 여러 건 생기거나 기존 문서만 바뀌는 경우 (입고: 품목별 GR 문서 / 기존 GR 추가입고)
+     * - 활동 이력은 loggedDocs 문서마다 한 행 (비어 있으면 기록하지 않음)
+     * - 실시간 전송은 key 기준으로 한 번
+     */
+    public void publish(DashboardEvent event, String key, List<String> loggedDocs) {
+        if (key == null || key.isBlank()) return;
+
+        activityLog.append(event, loggedDocs);
+        if (connections.get() == 0) return;
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            dispatchLater(event, key);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                dispatchLater(event, key);
+            }
+        });
+    }
+
+    // 구매사 통계 스냅샷 전송 (카운터 증감 반영 직후)
+    public void publishBuyerStats(BuyerDashboardStatsResponse stats) {
+        if (buyers.isEmpty()) return;
+        execute(() -> sendAll(buyers, "stats", stats));
+    }
+
+    public int connectionCount() {
+        return connections.get();
+    }
+
+    // 테스트에서 전송 내용을 가로챌 수 있도록 분리
+    protected SseEmitter newEmitter(long timeoutMillis) {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    private Connection open() {
+        if (connections.incrementAndGet() > maxConnections) {
+            connections.decrementAndGet();
+            throw new IllegalStateException("실시간 대시보드 연결 수가 한도를 초과했습니다. 잠시 후 다시 시도하세요.");
+        }
+        SseEmitter emitter = newEmitter(timeout.toMillis());
+        // 첫 이벤트로 응답 헤더를 바로 내보내고 재연결 간격 안내 (핸들러 반환 전이라 버퍼에만 쌓이고 막히지 않음)
+        try {
+            emitter.send(SseEmitter.event().reconnectTime(RECONNECT_MILLIS).comment("connected"));
+        } catch (IOException | IllegalStateException e) {
+            emitter.completeWithError(e);
+        }
+        return new Connection(emitter);
+    }
+
+    // 타임아웃/오류/정상 종료/느린 연결 끊기 어느 쪽이든 한 번만 정리
+    private void onClose(Connection connection, BooleanSupplier remove) {
+        Runnable cleanup = () -> {
+            if (remove.getAsBoolean()) connections.decrementAndGet();
+        };
+        connection.cleanup = cleanup;
+        connection.emitter.onCompletion(cleanup);
+        connection.emitter.onTimeout(cleanup);
+        connection.emitter.onError(e -> cleanup.run());
+    }
+
+    private boolean removeVendor(String vendorCd, Connection connection) {
+        boolean[] removed = {false};
+        vendors.computeIfPresent(vendorCd, (k, set) -> {
+            removed[0] = set.remove(connection);
+            return set.isEmpty() ? null : set;
+        });
+        return removed[0];
+    }
+
+    private void dispatchLater(DashboardEvent event, String key) {
+        execute(() -> {
+            try {
+                dispatch(event, key);
+            } catch (Exception e) {
+                log.warn("대시보드 실시간 이벤트 전송 실패: {} {} ({})", event, key, e.toString());
+            }
+        });
+    }
+
+    private void dispatch(DashboardEvent event, String key) {
+        // 클라이언트가 어느 표시 방식을 쓰든 바로 그릴 수 있도록 상대 시간과 epoch millis를 함께 보냄
+        LocalDateTime now = LocalDateTime.now();
+        RecentActivityResponse activity = RecentActivityResponse.builder()
+                .type(event.getType())
+                .title(titleOf(event, key))
+                .description(event.getLabel())
+                .time(RelativeTimeFormatter.format(now, now))
+                .regDate(now)
+                .regAt(now.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli())
+                .build();
+
+        sendAll(buyers, "activity", activity);
+
+        for (String vendorCd : vendorTargets(event, key)) {
+            Set<Connection> targets = vendors.get(vendorCd);
+            if (targets == null || targets.isEmpty()) continue;
+
+            sendAll(targets, "activity", activity);
+            sendAll(targets, "stats", vendorDashboardService.getDashboardStats(vendorCd));
+        }
+    }
+
+    private String titleOf(DashboardEvent event, String key) {
+        String subject = switch (event) {
+            case PR_CREATED, PR_APPROVED -> liveMapper.selectPrSubject(key);
+            case RFQ_SENT, RFQ_CLOSED, RFQ_SELECTED -> liveMapper.selectRfqSubject(key);
+            case PO_CREATED, PO_SENT -> liveMapper.selectPoSubject(key);
+            case GR_CREATED -> "입고 현황: " + key;
+        };
+        return subject != null ? subject : key;
+    }
+
+    private List<String> vendorTargets(DashboardEvent event, String key) {
+        if (vendors.isEmpty()) return List.of();
+        return switch (event.getTarget()) {
+            case BUYER -> List.of();
+            case RFQ_VENDORS -> liveMapper.selectRfqVendorCodes(key, false);
+            case RFQ_SELECTED_VENDOR -> liveMapper.selectRfqVendorCodes(key, true);
+            case PO_VENDOR -> {
+                String vendorCd = liveMapper.selectPoVendorCode(key);
+                yield vendorCd != null ? List.of(vendorCd) : List.of();
+            }
+        };
+    }
+
+    private void heartbeat() {
+        List<Connection> all = new ArrayList<>(buyers);
+        vendors.values().forEach(all::addAll);
+        long stalledBefore = System.nanoTime() - heartbeatInterval.toNanos();
+        for (Connection connection : all) {
+            if (connection.writingSince(stalledBefore)) {
+                connection.close("쓰기 지연");
+                continue;
+            }
+            connection.offer(SseEmitter.event().comment("ping"));
+        }
+    }
+
+    // 이벤트 빌더는 build() 때 내용이 바뀌므로 연결마다 새로 만듦
+    private void sendAll(Set<Connection> targets, String name, Object data) {
+        for (Connection connection : targets) {
+            connection.offer(SseEmitter.event().name(name).data(data));
+        }
+    }
+
+    private void execute(Runnable task) {
+        try {
+            worker.execute(task);
+        } catch (Exception e) {
+            log.warn("대시보드 실시간 작업 등록 실패: {}", e.toString());
+        }
+    }
+
+    /**
+     * 연결 하나의 전송 대기열
+     * - offer는 대기열에 넣고 비우기 작업만 예약 (호출 스레드는 소켓 쓰기를 기다리지 않음)
+     * - 비우기 작업은 연결당 하나만 돌아 이벤트 순서를 지키고, 막힌 연결은 sender 스레드 하나만 잡음
+     */
+    private final class Connection {
+        private final SseEmitter emitter;
+        private final Queue<SseEmitter.SseEventBuilder> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closed;
+        private volatile long writeStartedAt;
+        private volatile Runnable cleanup = () -> { };
+
+        private Connection(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        private void offer(SseEmitter.SseEventBuilder event) {
+            if (closed) return;
+            if (size.incrementAndGet() > sendQueueCapacity) {
+                size.decrementAndGet();
+                close("대기열 초과");
+                return;
+            }
+            pending.add(event);
+            schedule();
+        }
+
+        private boolean writingSince(long nanos) {
+            long started = writeStartedAt;
+            return started != 0 && started - nanos < 0;
+        }
+
+        // 느린 연결 끊기 - 목록에서 바로 빼고, 응답 종료는 쓰기가 끝난 뒤 sender 스레드에서
+        private void close(String reason) {
+            if (closed) return;
+            closed = true;
+            pending.clear();
+            size.set(0);
+            cleanup.run();
+            log.debug("대시보드 실시간 연결 종료 ({})", reason);
+            schedule();
+        }
+
+        private void schedule() {
+            if (!draining.compareAndSet(false, true)) return;
+            try {
+                sender.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                draining.set(false);
+                if (!closed) close("전송 작업 거절");
+                else emitter.complete();
+            }
+        }
+
+        private void drain() {
+            try {
+                SseEmitter.SseEventBuilder event;
+                while (!closed && (event = pending.poll()) != null) {
+                    size.decrementAndGet();
+                    writeStartedAt = System.nanoTime();
+                    try {
+                        emitter.send(event);
+                    } catch (IOException | IllegalStateException e) {
+                        // 끊긴 연결 - 컨테이너의 onError/onCompletion 콜백에서 목록 정리
+                        closed = true;
+                        cleanup.run();
+                        emitter.completeWithError(e);
+                        return;
+                    } finally {
+                        writeStartedAt = 0;
+                    }
+                }
+                if (closed) emitter.complete();
+            } finally {
+                draining.set(false);
+                if (!closed && !pending.isEmpty()) schedule();
+            }
+        }
+    }
+}
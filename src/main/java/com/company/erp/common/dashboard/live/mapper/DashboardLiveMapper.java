@@ -0,0 +1,21 @@
+package com.company.erp.common.dashboard.live.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+@Mapper
+public interface DashboardLiveMapper {
+    // 실시간 활동 항목 제목
+    String selectPrSubject(@Param("prNum") String prNum);
+
+    String selectRfqSubject(@Param("rfqNum") String rfqNum);
+
+    String selectPoSubject(@Param("poNum") String poNum);
+
+    // 푸시 대상 협력사 (selectedOnly = 선정 업체만)
+    List<String> selectRfqVendorCodes(@Param("rfqNum") String rfqNum, @Param("selectedOnly") boolean selectedOnly);
+
+    String selectPoVendorCode(@Param("poNum") String poNum);
+}
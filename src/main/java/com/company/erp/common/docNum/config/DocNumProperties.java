@@ -0,0 +1,23 @@
+package com.company.erp.common.docNum.config;
+
+import com.company.erp.common.docNum.service.DocKey;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.docnum")
+public class DocNumProperties {
+
+    // DocKey별 채번 블록 크기 (미설정 또는 1 이하 = 기존처럼 건별 DB 채번)
+    private Map<DocKey, Integer> blockSize = new EnumMap<>(DocKey.class);
+
+    public int blockSizeOf(DocKey key) {
+        Integer size = blockSize.get(key);
+        return (size == null || size < 1) ? 1 : size;
+    }
+}
@@ -3,10 +3,11 @@ import org.apache.ibatis.annotations.Param;
 import java.time.LocalDate;
 
 public interface DocNumMapper {
-    // doc_type + doc_date 기준으로 seq 증가
-    int increaseSeq(@Param("docType") String docType,
-                    @Param("docDate") LocalDate docDate);
+    // doc_type + doc_date 기준으로 seq를 count만큼 증가 (블록 예약)
+    int reserveSeq(@Param("docType") String docType,
+                   @Param("docDate") LocalDate docDate,
+                   @Param("count") int count);
 
     // 바로 직전에 증가된 seq 값 조회
     int selectCurrentSeq();
-}
\ No newline at end of file
+}
@@ -1,28 +1,36 @@
 package com.company.erp.common.docNum.service;
 
+import com.company.erp.common.docNum.config.DocNumProperties;
 import com.company.erp.common.docNum.dto.DocNumDTO;
-import com.company.erp.common.docNum.mapper.DocNumMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Service
 @RequiredArgsConstructor
 public class DocNumService {
-    private final DocNumMapper docNumMapper;
+    private final DocSeqReserver docSeqReserver;
+    private final DocNumProperties docNumProperties;
 
     private static final LocalDate NO_RESET_DATE = LocalDate.of(1000, 1, 1);
 
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    // DocKey별로 이 노드가 임대해 둔 seq 블록
+    private final Map<DocKey, SeqBlock> blocks = new ConcurrentHashMap<>();
+
+    // 블록 재임대는 DocKey당 한 스레드만 DB에 접근
+    private final Map<DocKey, Object> refillLocks = new ConcurrentHashMap<>();
+
     public DocNumDTO generateDocNum(DocKey key) {
         return generateDocNum(key, LocalDate.now());
     }
 
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public DocNumDTO generateDocNum(DocKey key, LocalDate baseDate) {
 
         if (key == null) throw new IllegalArgumentException("DocKey는 필수로 넣어주세요.");
@@ -30,25 +38,55 @@ public class DocNumService {
         LocalDate date = (baseDate == null) ? LocalDate.now() : baseDate;
 
         // 1) 리셋 단위에 따라 doc_num.doc_date로 쓸 키 날짜 결정
-        LocalDate keyDate = switch (key.resetUnit) {
+        LocalDate keyDate = resolveKeyDate(key, date);
+
+        // 2) seq 할당 (블록 모드면 메모리, 아니면 건별 DB 채번)
+        int seq = nextSeq(key, keyDate);
+
+        // 3) 최종 번호 조합
+        return toDocNum(key, date, seq);
+    }
+
+    public String generateDocNumStr(DocKey key) {
+        return generateDocNum(key).getDocNo();
+    }
+
+    /**
+     * 연속된 문서번호 count개를 한 번의 DB 왕복으로 채번 (다건 등록용)
+     * - 블록 모드와 무관하게 DCNB에서 바로 연속 구간을 예약
+     */
+    public List<String> generateDocNums(DocKey key, int count) {
+        if (key == null) throw new IllegalArgumentException("DocKey는 필수로 넣어주세요.");
+        if (count < 1) return List.of();
+
+        LocalDate date = LocalDate.now();
+        LocalDate keyDate = resolveKeyDate(key, date);
+
+        int last = docSeqReserver.reserve(key.docType, keyDate, count);
+
+        List<String> docNos = new ArrayList<>(count);
+        for (int seq = last - count + 1; seq <= last; seq++) {
+            docNos.add(toDocNum(key, date, seq).getDocNo());
+        }
+        return docNos;
+    }
+
+    private LocalDate resolveKeyDate(DocKey key, LocalDate date) {
+        return switch (key.resetUnit) {
             case DAILY -> date;
             case YEARLY -> LocalDate.of(date.getYear(), 1, 1);
             case NONE -> NO_RESET_DATE;
         };
+    }
 
-        // 2) seq 증가
-        docNumMapper.increaseSeq(key.docType, keyDate);
-
-        // 3) 방금 증가한 seq 조회
-        int seq = docNumMapper.selectCurrentSeq();
-
-        // 4) 포맷 조합에 쓰는 dateKey 문자열
+    private DocNumDTO toDocNum(DocKey key, LocalDate date, int seq) {
+        // 1) 포맷 조합에 쓰는 dateKey 문자열
         String dateKeyStr = "";
         if (key.datePattern != null && !key.datePattern.isBlank()) {
             dateKeyStr = date.format(DateTimeFormatter.ofPattern(key.datePattern));
         }
 
-        // 5) 최종 번호 생성
+        // 2) 최종 번호 생성
         String seqStr = String.format("%0" + key.seqPad + "d", seq);
 
         String docNo;
@@ -66,8 +104,64 @@ public class DocNumService {
         return new DocNumDTO(key.docType, docNo, seq, dateKeyStr);
     }
 
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public String generateDocNumStr(DocKey key) {
-        return generateDocNum(key).getDocNo();
+    /*
+     블록 모드 (app.docnum.block-size.{DocKey} > 1)
+     - DB에서 blockSize개를 한 번에 예약하고, 이후 번호는 AtomicInteger로 lock-free 배분
+     - 블록 소진 또는 리셋 단위(일/년)가 바뀌면 DocKey 단위로 잠그고 재임대
+     - 노드 재시작/일자 변경 시 쓰지 못한 번호는 버려지므로 번호에 공백이 생길 수 있음
+    */
+    private int nextSeq(DocKey key, LocalDate keyDate) {
+        int blockSize = docNumProperties.blockSizeOf(key);
+        if (blockSize <= 1) {
+            return docSeqReserver.reserve(key.docType, keyDate, 1);
+        }
+
+        // 1) 임대 블록에서 바로 할당 (hot path)
+        SeqBlock block = blocks.get(key);
+        if (block != null) {
+            int seq = block.next(keyDate);
+            if (seq > 0) return seq;
+        }
+
+        // 2) 블록 소진 또는 리셋 -> 재임대
+        synchronized (refillLocks.computeIfAbsent(key, k -> new Object())) {
+            // 대기하는 동안 다른 스레드가 이미 재임대했을 수 있음
+            block = blocks.get(key);
+            if (block != null) {
+                int seq = block.next(keyDate);
+                if (seq > 0) return seq;
+
+                // 과거 일자로 채번하는 경우 현재 블록은 유지하고 건별 채번
+                if (keyDate.isBefore(block.keyDate)) {
+                    return docSeqReserver.reserve(key.docType, keyDate, 1);
+                }
+            }
+
+            int last = docSeqReserver.reserve(key.docType, keyDate, blockSize);
+            SeqBlock leased = new SeqBlock(keyDate, last - blockSize + 1, last);
+            int seq = leased.next(keyDate);
+            blocks.put(key, leased);
+            return seq;
+        }
+    }
+
+    // 한 번에 예약한 seq 구간 [next, last]
+    private static final class SeqBlock {
+        private final LocalDate keyDate;
+        private final AtomicInteger next;
+        private final int last;
+
+        private SeqBlock(LocalDate keyDate, int first, int last) {
+            this.keyDate = keyDate;
+            this.next = new AtomicInteger(first);
+            this.last = last;
+        }
+
+        // 같은 리셋 구간이고 남은 번호가 있으면 seq, 아니면 -1
+        private int next(LocalDate date) {
+            if (!keyDate.equals(date)) return -1;
+            int seq = next.getAndIncrement();
+            return seq <= last ? seq : -1;
+        }
     }
 }
@@ -0,0 +1,33 @@
+package com.company.erp.common.docNum.service;
+
+import com.company.erp.common.docNum.mapper.DocNumMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+@Component
+@RequiredArgsConstructor
+public class DocSeqReserver {
+
+    private final DocNumMapper docNumMapper;
+
+    /**
+     * doc_type + doc_date 행에서 count개의 seq를 한 번의 UPDATE로 예약
+     * - 호출 트랜잭션과 별개로 바로 커밋되어 DCNB 행 잠금을 즉시 해제
+     *
+     * @return 예약된 구간의 마지막 seq (구간: last - count + 1 ~ last)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int reserve(String docType, LocalDate docDate, int count) {
+        if (count < 1) throw new IllegalArgumentException("채번 개수는 1 이상이어야 합니다.");
+
+        // 1) seq를 count만큼 증가
+        docNumMapper.reserveSeq(docType, docDate, count);
+
+        // 2) 증가된 마지막 seq 조회 (같은 커넥션의 LAST_INSERT_ID)
+        return docNumMapper.selectCurrentSeq();
+    }
+}
@@ -4,6 +4,7 @@ import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
 import java.util.List;
 
 @Getter
@@ -13,4 +14,23 @@ public class FileProperties {
     private String baseDir;
     private long maxSizeBytes;
     private List<String> allowedExt;
+
+    // S3 호환 object store (app.file.storage=s3)
+    private final ObjectStore objectStore = new ObjectStore();
+
+    @Getter
+    @Setter
+    public static class ObjectStore {
+        // 예: https://s3.ap-northeast-2.amazonaws.com, http://localhost:9000 (MinIO)
+        private String endpoint;
+        private String region = "us-east-1";
+        private String bucket;
+        private String accessKey;
+        private String secretKey;
+        // multipart 업로드 파트 크기 (S3 최소 5MB, 업로드당 이 크기 버퍼 하나만 사용)
+        private int partSizeBytes = 8 * 1024 * 1024;
+        // 직접 다운로드 URL 만료 시간
+        // (다운로드는 이 URL로 302 리다이렉트 -> 프론트는 fetch가 아닌 링크 이동으로 받아야 버킷 CORS 없이 동작)
+        private Duration presignTtl = Duration.ofMinutes(5);
+    }
 }
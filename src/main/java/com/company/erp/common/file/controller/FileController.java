@@ -2,21 +2,32 @@ package com.company.erp.common.file.controller;
 
 import com.company.erp.common.exception.ApiResponse;
 import com.company.erp.common.file.dto.FileListItemResponse;
-import com.company.erp.common.file.model.AttFileEntity;
+import com.company.erp.common.file.dto.FileUploadResponse;
+import com.company.erp.common.file.exception.FileException;
+import com.company.erp.common.file.model.FileDownload;
 import com.company.erp.common.file.service.FileService;
+import com.company.erp.common.file.util.FileDownloadWriter;
+import com.company.erp.common.file.util.FileZipWriter;
 import com.company.erp.common.session.SessionConst;
 import com.company.erp.common.session.SessionUser;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
 
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
+import java.io.IOException;
+import java.time.Duration;
 import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequiredArgsConstructor
@@ -37,41 +48,79 @@ public class FileController {
         return ResponseEntity.ok(list);
     }
 
-    // 다운로드
+    // 다운로드 (Range / 조건부 요청 지원)
     @GetMapping("/{fileNum}")
-    public ResponseEntity<Resource> download(
+    public void download(
             @PathVariable String fileNum,
-            HttpSession session
+            HttpSession session,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException {
+        SessionUser ses = getSessionUser(session);
+
+        // 메타데이터 조회 + 권한 검증 + 저장소 Resource 준비 (한 번)
+        FileDownload download = fileService.openDownload(fileNum, ses);
+
+        FileDownloadWriter.write(request, response, download);
+    }
+
+    // 썸네일 (FILE_NUM별로 내용이 바뀌지 않으므로 장기 캐시, 생성 대기 중이면 202)
+    @GetMapping("/{fileNum}/thumbnail")
+    public ResponseEntity<Resource> thumbnail(
+            @PathVariable String fileNum,
+            HttpSession session,
+            WebRequest webRequest
     ) {
         SessionUser ses = getSessionUser(session);
-        
-        // 파일 정보 조회 (원본 파일명, Content-Type 가져오기)
-        AttFileEntity fileEntity = fileService.getFileInfo(fileNum, ses);
-        
-        // 파일 다운로드
-        Resource resource = fileService.download(fileNum, ses);
-
-        // 원본 파일명 인코딩
-        String originName = fileEntity.getOriginName();
-        String encodedFilename = URLEncoder.encode(originName != null ? originName : fileNum, StandardCharsets.UTF_8)
-                .replaceAll("\\+", "%20");
-
-        // Content-Type 설정 (없으면 APPLICATION_OCTET_STREAM)
-        MediaType mediaType = MediaType.APPLICATION_OCTET_STREAM;
-        if (fileEntity.getContentType() != null && !fileEntity.getContentType().isEmpty()) {
-            try {
-                mediaType = MediaType.parseMediaType(fileEntity.getContentType());
-            } catch (Exception e) {
-                // 파싱 실패 시 기본값 사용
-                mediaType = MediaType.APPLICATION_OCTET_STREAM;
-            }
+        Optional<Resource> thumbnail = fileService.openThumbnail(fileNum, ses);
+        if (thumbnail.isEmpty()) {
+            // 클라이언트는 아이콘을 보여주고 Retry-After 후 다시 요청
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .header(HttpHeaders.RETRY_AFTER, "2")
+                    .cacheControl(CacheControl.noStore())
+                    .build();
         }
 
+        String etag = "\"" + fileNum + "-thumb\"";
+        CacheControl cacheControl = CacheControl.maxAge(Duration.ofDays(365)).cachePrivate().immutable();
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(cacheControl).build();
+        }
         return ResponseEntity.ok()
-                .header(HttpHeaders.CONTENT_DISPOSITION,
-                        "attachment; filename*=UTF-8''" + encodedFilename)
-                .contentType(mediaType)
-                .body(resource);
+                .eTag(etag)
+                .cacheControl(cacheControl)
+                .contentType(MediaType.IMAGE_JPEG)
+                .body(thumbnail.get());
+    }
+
+    // 다건 업로드 (FILE_NUM 일괄 채번 + ATT_FILE 일괄 insert)
+    @PostMapping("/batch")
+    public ResponseEntity<List<FileUploadResponse>> uploadBatch(
+            @RequestParam("files") List<MultipartFile> files,
+            @RequestParam String refType,
+            @RequestParam String refNo,
+            @RequestParam(required = false) String vendorCd,
+            HttpSession session
+    ) {
+        SessionUser ses = getSessionUser(session);
+        // 세션 없는 업로드(회원가입 OV)는 가입 API에서만 허용
+        if (ses == null) throw new FileException("세션 정보가 없습니다.");
+
+        return ResponseEntity.ok(fileService.uploadAll(files, refType, refNo, vendorCd, ses));
+    }
+
+    // 문서 첨부 묶음 다운로드 (조회 가능한 파일만 ZIP으로 스트리밍)
+    @GetMapping("/zip")
+    public void downloadZip(
+            @RequestParam String refType,
+            @RequestParam String refNo,
+            HttpSession session,
+            HttpServletResponse response
+    ) throws IOException {
+        SessionUser ses = getSessionUser(session);
+        List<FileDownload> downloads = fileService.openBundle(refType, refNo, ses);
+
+        FileZipWriter.write(response, refType + "_" + refNo + ".zip", downloads);
     }
 
     // 논리 삭제
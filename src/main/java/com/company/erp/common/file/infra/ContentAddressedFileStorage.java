@@ -0,0 +1,197 @@
+package com.company.erp.common.file.infra;
+
+import com.company.erp.common.file.config.FileProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * 내용 주소 기반 저장소 (app.file.storage=cas)
+ * - 파일을 SHA-256으로 저장: cas/ab/cd/abcd...(64자) -> 같은 내용은 한 번만 저장
+ * - ATT_FILE 행은 업로드마다 생성되고 같은 FILE_PATH를 공유 (참조 수 = FILE_PATH가 같은 행 수)
+ * - 업로드 실패 시에도 바로 지우지 않음 (다른 트랜잭션의 미커밋 행이 같은 파일을 가리킬 수 있음)
+ *   -> 참조가 없는 파일은 sweep으로 유예 기간이 지난 뒤 정리, 기존 파일을 재사용하면 수정 시각을 갱신해 유예 기간을 다시 시작
+ * - 다운로드/삭제 경로 검증은 LocalFileStorage와 같음 (base-dir 하위)
+ */
+@Component
+@ConditionalOnProperty(name = "app.file.storage", havingValue = "cas")
+public class ContentAddressedFileStorage extends LocalFileStorage {
+
+    private static final String CAS_DIR = "cas";
+    private static final String TMP_DIR = "cas/.tmp";
+    private static final String SWEEP_SUFFIX = ".sweep";
+    private static final Pattern SHA256_HEX = Pattern.compile("[0-9a-f]{64}");
+    // 참조 여부 조회 한 번에 넘기는 경로 수 (IN 목록 크기)
+    private static final int SWEEP_BATCH_SIZE = 500;
+
+    public ContentAddressedFileStorage(FileProperties props) {
+        super(props);
+    }
+
+    // relativeDir은 사용하지 않음, saveName(UUID)은 임시 파일 이름으로만 사용
+    @Override
+    public StoredFile store(MultipartFile file, String relativeDir, String saveName) throws IOException {
+        Path base = baseDir();
+
+        // 1) 해시를 알기 전까지는 임시 디렉토리에 보관 (같은 디스크라 이후 이동은 rename)
+        Path tmpDir = resolveDir(base, TMP_DIR);
+        Files.createDirectories(tmpDir);
+        Path part = tmpDir.resolve(saveName + PART_SUFFIX).normalize();
+        if (!part.startsWith(tmpDir)) {
+            throw new SecurityException("유효하지 않은 파일 이름입니다.");
+        }
+        HashedPart hashed = spool(file, part);
+
+        // 2) 해시 앞 4자리로 2단계 분산: cas/ab/cd/<sha256>
+        String relativePath = CAS_DIR + "/" + hashed.sha256.substring(0, 2)
+                + "/" + hashed.sha256.substring(2, 4) + "/" + hashed.sha256;
+        Path target = base.resolve(relativePath);
+
+        try {
+            if (touch(target)) {
+                // 이미 같은 내용이 있음 -> 새로 쓰지 않음
+                Files.delete(part);
+            } else {
+                Files.createDirectories(target.getParent());
+                // 동시에 같은 내용이 올라와도 내용이 같으므로 덮어써도 무방
+                moveAtomically(part, target);
+            }
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(part);
+            throw e;
+        }
+
+        return new StoredFile(target.toString(), relativePath, hashed.size, hashed.sha256);
+    }
+
+    @Override
+    public boolean sharesContent() {
+        return true;
+    }
+
+    /**
+     * 참조가 없는 파일 정리 (ContentAddressedBlobSweeper가 주기적으로 호출)
+     * - 수정 시각이 olderThan 이전인 파일만 대상 -> 업로드 중(미커밋) 행이 가리키는 파일은 유예 기간 안에 있음
+     * - referencedAmong(상대경로 목록)은 그중 커밋된 ATT_FILE 행이 참조하는 경로 - SWEEP_BATCH_SIZE개씩 묶어서 호출
+     * - 지우기 전에 임시 디렉토리로 옮긴 뒤 수정 시각을 다시 확인 -> 그 사이 업로드가 재사용했으면 되돌림
+     *   (옮긴 뒤 들어온 업로드는 기존 파일이 없으므로 새로 저장)
+     * - 같은 내용의 파생 파일(썸네일 등 "<sha256>.*")과 유예 기간이 지난 임시 .part도 함께 정리
+     *
+     * @return 삭제한 파일 수 (파생 파일 제외)
+     */
+    public int sweep(Instant olderThan, Function<List<String>, Set<String>> referencedAmong) throws IOException {
+        Path base = baseDir();
+        Path casDir = base.resolve(CAS_DIR);
+        Path tmpDir = base.resolve(TMP_DIR);
+        if (!Files.isDirectory(casDir)) return 0;
+
+        List<Path> files;
+        try (Stream<Path> walk = Files.walk(casDir)) {
+            files = walk.filter(Files::isRegularFile).toList();
+        }
+
+        // 유예 기간이 지난 원본만 후보로 모으고, 참조 여부는 묶어서 조회
+        Map<String, Path> candidates = new LinkedHashMap<>();
+        for (Path file : files) {
+            if (!isOlderThan(file, olderThan)) continue;
+
+            if (file.startsWith(tmpDir)) {
+                Files.deleteIfExists(file);
+                continue;
+            }
+
+            String name = file.getFileName().toString();
+            if (SHA256_HEX.matcher(name).matches()) {
+                candidates.put(base.relativize(file).toString().replace("\\", "/"), file);
+            } else if (name.length() > 64 && SHA256_HEX.matcher(name.substring(0, 64)).matches()
+                    && !Files.exists(file.resolveSibling(name.substring(0, 64)))) {
+                // 원본이 이미 없는 파생 파일
+                Files.deleteIfExists(file);
+            }
+        }
+
+        int deleted = 0;
+        List<String> paths = new ArrayList<>(candidates.keySet());
+        for (int from = 0; from < paths.size(); from += SWEEP_BATCH_SIZE) {
+            List<String> batch = paths.subList(from, Math.min(paths.size(), from + SWEEP_BATCH_SIZE));
+            Set<String> referenced = referencedAmong.apply(batch);
+            for (String relativePath : batch) {
+                if (referenced.contains(relativePath)) continue;
+
+                Path file = candidates.get(relativePath);
+                if (deleteIfUntouched(file, tmpDir, olderThan)) {
+                    deleteDerived(file);
+                    deleted++;
+                }
+            }
+        }
+        return deleted;
+    }
+
+    // 기존 파일 재사용 표시 (없으면 false)
+    private static boolean touch(Path target) throws IOException {
+        try {
+            Files.setLastModifiedTime(target, FileTime.from(Instant.now()));
+            return true;
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+    }
+
+    private static boolean isOlderThan(Path file, Instant olderThan) throws IOException {
+        try {
+            return Files.getLastModifiedTime(file).toInstant().isBefore(olderThan);
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+    }
+
+    // 임시 디렉토리로 옮긴 뒤에도 수정 시각이 그대로면 삭제, 그 사이 재사용됐으면 원래 위치로 되돌림
+    private static boolean deleteIfUntouched(Path file, Path tmpDir, Instant olderThan) throws IOException {
+        Files.createDirectories(tmpDir);
+        Path quarantined = tmpDir.resolve(file.getFileName() + SWEEP_SUFFIX);
+        try {
+            moveAtomically(file, quarantined);
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+
+        if (isOlderThan(quarantined, olderThan)) {
+            Files.deleteIfExists(quarantined);
+            return true;
+        }
+        try {
+            Files.move(quarantined, file, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException e) {
+            // 옮긴 사이 새 업로드가 같은 내용을 다시 저장함
+            Files.deleteIfExists(quarantined);
+        }
+        return false;
+    }
+
+    private static void deleteDerived(Path file) throws IOException {
+        String prefix = file.getFileName() + ".";
+        try (Stream<Path> siblings = Files.list(file.getParent())) {
+            for (Path sibling : siblings.filter(p -> p.getFileName().toString().startsWith(prefix)).toList()) {
+                Files.deleteIfExists(sibling);
+            }
+        }
+    }
+}
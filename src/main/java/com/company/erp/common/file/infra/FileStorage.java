@@ -4,15 +4,29 @@ import org.springframework.core.io.Resource;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.net.URI;
 
 public interface FileStorage {
 
     // 파일을 실제 저장소에 저장 ( 업로드된 파일, 상대 경로, 파일명(UUID) )
     StoredFile store(MultipartFile file, String relativeDir, String saveName) throws IOException;
 
-    // 실제 파일 절대경로로 다운로드용 Resource 로드
-    Resource loadAsResource(String absolutePath);
+    // 원본에서 만든 파생 파일(썸네일 등)을 상대경로에 저장 (같은 경로면 덮어씀)
+    void storeDerived(String relativePath, byte[] content) throws IOException;
 
-    // 절대경로로 실제 저장소에서 삭제 (보상 처리용)
-    void delete(String absolutePath) throws IOException;
+    // 저장소 상대경로(ATT_FILE.FILE_PATH)로 다운로드용 Resource 로드
+    Resource loadAsResource(String relativePath);
+
+    // 상대경로로 실제 저장소에서 삭제 (보상 처리용)
+    void delete(String relativePath) throws IOException;
+
+    // 같은 저장 파일을 여러 ATT_FILE 행이 공유하는 저장소면 true (업로드 실패 시 보상 삭제하지 않음)
+    default boolean sharesContent() {
+        return false;
+    }
+
+    // 애플리케이션을 거치지 않는 직접 다운로드 URL (만료 시간 포함), 지원하지 않는 저장소는 null
+    default URI directDownloadUri(String relativePath, String fileName, String contentType) {
+        return null;
+    }
 }
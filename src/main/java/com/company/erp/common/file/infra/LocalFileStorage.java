@@ -2,6 +2,7 @@ package com.company.erp.common.file.infra;
 
 import com.company.erp.common.file.config.FileProperties;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Component;
@@ -10,25 +11,28 @@ import org.springframework.web.multipart.MultipartFile;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.*;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
 
 @Component
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.file.storage", havingValue = "local", matchIfMissing = true)
 public class LocalFileStorage implements FileStorage {
 
+    // 저장 중인 임시 파일 접미사 / 해시 계산 버퍼 (파일 크기와 무관하게 힙 사용량 고정)
+    protected static final String PART_SUFFIX = ".part";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
     private final FileProperties props;
 
     @Override
     public StoredFile store(MultipartFile file, String relativeDir, String saveName) throws IOException {
         // properties에 설정한 base-dir
-        Path base = Paths.get(props.getBaseDir()).normalize().toAbsolutePath();
+        Path base = baseDir();
 
-        // ../ 같은 경로 침투 공격 방지
-        String safeRelativeDir = relativeDir == null ? "" : relativeDir.replace("\\", "/");
-        // base-dir + 상대경로
-        Path dir = base.resolve(safeRelativeDir).normalize();
-        if (!dir.startsWith(base)) {
-            throw new SecurityException("유효하지 않은 파일 경로입니다.");
-        }
+        // base-dir + 상대경로 (../ 같은 경로 침투 공격 방지)
+        Path dir = resolveDir(base, relativeDir);
 
         // 디렉토리 없으면 생성
         Files.createDirectories(dir);
@@ -41,29 +45,120 @@ public class LocalFileStorage implements FileStorage {
             throw new SecurityException("유효하지 않은 파일 이름입니다.");
         }
 
-        // 실제 파일 저장
-        try (InputStream in = file.getInputStream()) {
-            Files.copy(in, target, StandardCopyOption.REPLACE_EXISTING);
+        // 같은 디렉토리의 .part로 옮기면서 크기/SHA-256 계산 -> 원자적 이동
+        Path part = dir.resolve(saveName + PART_SUFFIX);
+        HashedPart hashed = spool(file, part);
+        try {
+            moveAtomically(part, target);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(part);
+            throw e;
         }
 
-        // 파일 크기
-        long size = Files.size(target);
-
         // DB 저장용 상대경로 생성
         String relativePath = base.relativize(target).toString().replace("\\", "/");
 
         // 저장 결과 반환
-        return new StoredFile(target.toString(), relativePath, size);
+        return new StoredFile(target.toString(), relativePath, hashed.size, hashed.sha256);
+    }
+
+    protected Path baseDir() {
+        return Paths.get(props.getBaseDir()).normalize().toAbsolutePath();
+    }
+
+    protected Path resolveDir(Path base, String relativeDir) {
+        String safeRelativeDir = relativeDir == null ? "" : relativeDir.replace("\\", "/");
+        Path dir = base.resolve(safeRelativeDir).normalize();
+        if (!dir.startsWith(base)) {
+            throw new SecurityException("유효하지 않은 파일 경로입니다.");
+        }
+        return dir;
+    }
+
+    /*
+     업로드를 part 경로에 두고 크기/SHA-256 계산
+     1) 컨테이너가 이미 디스크에 받아둔 업로드 임시 파일을 part로 이동
+        (같은 디스크면 rename이라 다시 쓰지 않음, 다른 디스크면 컨테이너가 한 번 복사)
+     2) part를 한 번 읽으면서 크기/SHA-256 계산 (고정 버퍼)
+     실패하면 part는 지우고 예외를 그대로 던짐
+    */
+    protected HashedPart spool(MultipartFile file, Path part) throws IOException {
+        MessageDigest digest = newSha256();
+        long size = 0;
+        try {
+            file.transferTo(part);
+
+            try (InputStream in = Files.newInputStream(part)) {
+                byte[] buffer = new byte[BUFFER_SIZE];
+                int n;
+                while ((n = in.read(buffer)) != -1) {
+                    digest.update(buffer, 0, n);
+                    size += n;
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(part);
+            throw e;
+        }
+        return new HashedPart(size, HexFormat.of().formatHex(digest.digest()));
+    }
+
+    // 원자적 이동 (같은 파일시스템이면 rename) -> 최종 경로에 반쯤 쓴 파일이 보이지 않음
+    protected static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    // part 파일의 크기/해시
+    protected static final class HashedPart {
+        final long size;
+        final String sha256;
+
+        private HashedPart(long size, String sha256) {
+            this.size = size;
+            this.sha256 = sha256;
+        }
+    }
+
+    @Override
+    public void storeDerived(String relativePath, byte[] content) throws IOException {
+        Path base = baseDir();
+        Path target = base.resolve(relativePath).normalize();
+        if (!target.startsWith(base)) {
+            throw new SecurityException("유효하지 않은 파일 경로입니다.");
+        }
+        Files.createDirectories(target.getParent());
+
+        // 다운로드 중인 요청이 쓰다 만 파일을 보지 않도록 .part에 쓰고 이동
+        Path part = target.resolveSibling(target.getFileName() + PART_SUFFIX);
+        try {
+            Files.write(part, content);
+            moveAtomically(part, target);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(part);
+            throw e;
+        }
     }
 
     @Override
-    public Resource loadAsResource(String absolutePath) {
+    public Resource loadAsResource(String relativePath) {
         if (props.getBaseDir() == null || props.getBaseDir().isBlank()) {
             throw new IllegalStateException("파일 저장 경로(app.file.base-dir)가 설정되어 있지 않습니다.");
         }
 
-        Path base = Paths.get(props.getBaseDir()).normalize().toAbsolutePath();
-        Path p = Paths.get(absolutePath).normalize().toAbsolutePath();
+        Path base = baseDir();
+        Path p = base.resolve(relativePath).normalize();
 
         // base-dir 밖 파일은 열지 않도록 차단
         if (!p.startsWith(base)) {
@@ -74,14 +169,14 @@ public class LocalFileStorage implements FileStorage {
     }
 
     @Override
-    public void delete(String absolutePath) throws IOException {
+    public void delete(String relativePath) throws IOException {
         if (props.getBaseDir() == null || props.getBaseDir().isBlank()) {
             throw new IllegalStateException("파일 저장 경로(app.file.base-dir)가 설정되어 있지 않습니다.");
         }
-        if (absolutePath == null || absolutePath.isBlank()) return;
+        if (relativePath == null || relativePath.isBlank()) return;
 
-        Path base = Paths.get(props.getBaseDir()).normalize().toAbsolutePath();
-        Path p = Paths.get(absolutePath).normalize().toAbsolutePath();
+        Path base = baseDir();
+        Path p = base.resolve(relativePath).normalize();
 
         // base-dir 밖 삭제 차단
         if (!p.startsWith(base)) {
@@ -0,0 +1,180 @@
+package com.company.erp.common.file.infra;
+
+import com.company.erp.common.file.config.FileProperties;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * S3 호환 object store 최소 클라이언트 (JDK HttpClient + SigV4, path-style 주소)
+ * - PUT / multipart 업로드 / Range GET / HEAD / DELETE / presigned GET만 사용
+ * - AWS S3, MinIO 등 S3 API를 제공하는 저장소에서 동작
+ */
+public class ObjectStoreClient {
+
+    private static final DateTimeFormatter AMZ_DATE =
+            DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'").withZone(ZoneOffset.UTC);
+    private static final Pattern UPLOAD_ID = Pattern.compile("<UploadId>([^<]+)</UploadId>");
+
+    private final HttpClient http;
+    private final SigV4Signer signer;
+    private final URI endpoint;
+    private final String host;
+    private final String bucket;
+    private final Clock clock;
+
+    public ObjectStoreClient(FileProperties.ObjectStore config) {
+        this(config, Clock.systemUTC());
+    }
+
+    ObjectStoreClient(FileProperties.ObjectStore config, Clock clock) {
+        if (config.getEndpoint() == null || config.getBucket() == null) {
+            throw new IllegalStateException("object store 설정(app.file.object-store.endpoint/bucket)이 없습니다.");
+        }
+        this.endpoint = URI.create(config.getEndpoint().replaceAll("/+$", ""));
+        this.host = hostOf(endpoint);
+        this.bucket = config.getBucket();
+        this.signer = new SigV4Signer(config.getAccessKey(), config.getSecretKey(), config.getRegion());
+        this.clock = clock;
+        this.http = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    public void putObject(String key, byte[] body, int length, String contentType) throws IOException {
+        HttpRequest.Builder req = request("PUT", key, "")
+                .PUT(HttpRequest.BodyPublishers.ofByteArray(body, 0, length));
+        if (contentType != null) req.header("Content-Type", contentType);
+        send(req, "PUT", key);
+    }
+
+    public String createMultipartUpload(String key, String contentType) throws IOException {
+        HttpRequest.Builder req = request("POST", key, "uploads=")
+                .POST(HttpRequest.BodyPublishers.noBody());
+        if (contentType != null) req.header("Content-Type", contentType);
+        String body = new String(send(req, "POST", key).body().readAllBytes(), StandardCharsets.UTF_8);
+
+        Matcher m = UPLOAD_ID.matcher(body);
+        if (!m.find()) throw new IOException("object store multipart 시작 응답에 UploadId가 없습니다.");
+        return m.group(1);
+    }
+
+    // 업로드한 파트의 ETag 반환
+    public String uploadPart(String key, String uploadId, int partNumber, byte[] body, int length) throws IOException {
+        String query = SigV4Signer.canonicalQuery(Map.of("partNumber", Integer.toString(partNumber), "uploadId", uploadId));
+        HttpRequest.Builder req = request("PUT", key, query)
+                .PUT(HttpRequest.BodyPublishers.ofByteArray(body, 0, length));
+        HttpResponse<InputStream> res = send(req, "PUT", key);
+        res.body().close();
+        return res.headers().firstValue("ETag")
+                .orElseThrow(() -> new IOException("object store 파트 업로드 응답에 ETag가 없습니다."));
+    }
+
+    public void completeMultipartUpload(String key, String uploadId, List<String> etags) throws IOException {
+        StringBuilder xml = new StringBuilder("<CompleteMultipartUpload>");
+        for (int i = 0; i < etags.size(); i++) {
+            xml.append("<Part><PartNumber>").append(i + 1).append("</PartNumber><ETag>")
+                    .append(etags.get(i).replace("\"", "&quot;")).append("</ETag></Part>");
+        }
+        xml.append("</CompleteMultipartUpload>");
+
+        String query = SigV4Signer.canonicalQuery(Map.of("uploadId", uploadId));
+        HttpRequest.Builder req = request("POST", key, query)
+                .header("Content-Type", "application/xml")
+                .POST(HttpRequest.BodyPublishers.ofString(xml.toString()));
+        // S3는 200 응답 본문에 오류를 담을 수 있음
+        String body = new String(send(req, "POST", key).body().readAllBytes(), StandardCharsets.UTF_8);
+        if (body.contains("<Error>")) throw new IOException("object store multipart 완료 실패: " + key);
+    }
+
+    public void abortMultipartUpload(String key, String uploadId) throws IOException {
+        String query = SigV4Signer.canonicalQuery(Map.of("uploadId", uploadId));
+        send(request("DELETE", key, query).DELETE(), "DELETE", key).body().close();
+    }
+
+    // [start, end] 구간 (start가 null이면 전체)
+    public InputStream getObject(String key, Long start, Long end) throws IOException {
+        HttpRequest.Builder req = request("GET", key, "").GET();
+        if (start != null) req.header("Range", "bytes=" + start + "-" + (end != null ? end : ""));
+        return send(req, "GET", key).body();
+    }
+
+    // 객체 크기 (없으면 -1)
+    public long headObject(String key) throws IOException {
+        HttpResponse<InputStream> res = exchange(request("HEAD", key, "").method("HEAD", HttpRequest.BodyPublishers.noBody()));
+        res.body().close();
+        if (res.statusCode() == 404) return -1;
+        if (res.statusCode() / 100 != 2) throw new IOException("object store HEAD 실패(" + res.statusCode() + "): " + key);
+        return res.headers().firstValueAsLong("Content-Length").orElse(-1);
+    }
+
+    public void deleteObject(String key) throws IOException {
+        send(request("DELETE", key, "").DELETE(), "DELETE", key).body().close();
+    }
+
+    // 만료 시간이 있는 GET URL (response-content-disposition 등 응답 헤더 지정 파라미터 포함 가능)
+    public URI presignGet(String key, Duration ttl, Map<String, String> responseParams) {
+        String amzDate = AMZ_DATE.format(clock.instant());
+        String path = canonicalUri(key);
+        String query = signer.presignQuery("GET", host, path, responseParams, amzDate, ttl.toSeconds());
+        return URI.create(endpoint + path + "?" + query);
+    }
+
+    private HttpRequest.Builder request(String method, String key, String canonicalQuery) {
+        String amzDate = AMZ_DATE.format(clock.instant());
+        String path = canonicalUri(key);
+        String payloadHash = SigV4Signer.UNSIGNED_PAYLOAD;
+
+        return HttpRequest.newBuilder(URI.create(endpoint + path + (canonicalQuery.isEmpty() ? "" : "?" + canonicalQuery)))
+                .timeout(Duration.ofSeconds(60))
+                .header("x-amz-date", amzDate)
+                .header("x-amz-content-sha256", payloadHash)
+                .header("Authorization", signer.authorization(method, host, path, canonicalQuery, payloadHash, amzDate));
+    }
+
+    private HttpResponse<InputStream> send(HttpRequest.Builder req, String method, String key) throws IOException {
+        HttpResponse<InputStream> res = exchange(req);
+        int status = res.statusCode();
+        if (status / 100 == 2) return res;
+
+        res.body().close();
+        if (status == 404) throw new FileNotFoundException("object store에 파일이 없습니다: " + key);
+        throw new IOException("object store " + method + " 실패(" + status + "): " + key);
+    }
+
+    private HttpResponse<InputStream> exchange(HttpRequest.Builder req) throws IOException {
+        try {
+            return http.send(req.build(), HttpResponse.BodyHandlers.ofInputStream());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("object store 요청이 중단되었습니다.", e);
+        }
+    }
+
+    private String canonicalUri(String key) {
+        return "/" + SigV4Signer.encode(bucket, false) + "/" + SigV4Signer.encode(key, true);
+    }
+
+    // HttpClient가 보내는 Host 헤더와 같은 값 (기본 포트는 생략)
+    private static String hostOf(URI uri) {
+        int port = uri.getPort();
+        boolean defaultPort = port == -1
+                || ("https".equalsIgnoreCase(uri.getScheme()) && port == 443)
+                || ("http".equalsIgnoreCase(uri.getScheme()) && port == 80);
+        return defaultPort ? uri.getHost() : uri.getHost() + ":" + port;
+    }
+}
@@ -0,0 +1,143 @@
+package com.company.erp.common.file.infra;
+
+import com.company.erp.common.file.config.FileProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * S3 호환 object store 저장소 (app.file.storage=s3)
+ * - 노드 디스크와 무관하게 여러 인스턴스가 같은 첨부를 공유
+ * - 업로드: 파트 크기 버퍼 하나로 읽으면서 SHA-256 계산 -> 파트 크기 이하면 PUT 한 번, 넘으면 multipart 업로드
+ * - 다운로드: presigned URL로 리다이렉트 (애플리케이션 힙/네트워크를 거치지 않음), ZIP 등 서버 전송은 Range GET
+ *   클라이언트는 다운로드 URL로 이동(링크/window.location)해야 함. fetch/XHR로 받으면 교차 출처 리다이렉트라
+ *   버킷에 애플리케이션 origin의 GET을 허용하는 CORS 규칙이 필요
+ * - 객체 키 = ATT_FILE.FILE_PATH (REF_TYPE/yyyy/MM/dd/UUID.ext)
+ */
+@Component
+@ConditionalOnProperty(name = "app.file.storage", havingValue = "s3")
+public class ObjectStoreFileStorage implements FileStorage {
+
+    private final FileProperties.ObjectStore config;
+    private final ObjectStoreClient client;
+
+    public ObjectStoreFileStorage(FileProperties props) {
+        this(props, new ObjectStoreClient(props.getObjectStore()));
+    }
+
+    ObjectStoreFileStorage(FileProperties props, ObjectStoreClient client) {
+        this.config = props.getObjectStore();
+        this.client = client;
+    }
+
+    @Override
+    public StoredFile store(MultipartFile file, String relativeDir, String saveName) throws IOException {
+        String key = keyOf(relativeDir == null || relativeDir.isBlank() ? saveName : relativeDir + "/" + saveName);
+        String contentType = file.getContentType();
+
+        MessageDigest sha256 = newSha256();
+        byte[] buffer = new byte[config.getPartSizeBytes()];
+        long size = 0;
+
+        try (InputStream in = file.getInputStream()) {
+            int n = in.readNBytes(buffer, 0, buffer.length);
+            sha256.update(buffer, 0, n);
+            size += n;
+
+            if (n < buffer.length) {
+                // 파트 크기 이하 -> 단일 PUT
+                client.putObject(key, buffer, n, contentType);
+            } else {
+                String uploadId = client.createMultipartUpload(key, contentType);
+                try {
+                    List<String> etags = new ArrayList<>();
+                    while (n > 0) {
+                        etags.add(client.uploadPart(key, uploadId, etags.size() + 1, buffer, n));
+                        n = in.readNBytes(buffer, 0, buffer.length);
+                        sha256.update(buffer, 0, n);
+                        size += n;
+                    }
+                    client.completeMultipartUpload(key, uploadId, etags);
+                } catch (IOException | RuntimeException e) {
+                    abortQuietly(key, uploadId);
+                    throw e;
+                }
+            }
+        }
+
+        return new StoredFile("s3://" + config.getBucket() + "/" + key, key, size,
+                HexFormat.of().formatHex(sha256.digest()));
+    }
+
+    @Override
+    public void storeDerived(String relativePath, byte[] content) throws IOException {
+        client.putObject(keyOf(relativePath), content, content.length, null);
+    }
+
+    @Override
+    public Resource loadAsResource(String relativePath) {
+        return new ObjectStoreResource(client, keyOf(relativePath));
+    }
+
+    @Override
+    public void delete(String relativePath) throws IOException {
+        if (relativePath == null || relativePath.isBlank()) return;
+        client.deleteObject(keyOf(relativePath));
+    }
+
+    @Override
+    public URI directDownloadUri(String relativePath, String fileName, String contentType) {
+        // 저장소가 응답할 헤더 (원본 파일명 / Content-Type)
+        Map<String, String> params = new LinkedHashMap<>();
+        if (fileName != null) {
+            params.put("response-content-disposition",
+                    ContentDisposition.attachment().filename(fileName, StandardCharsets.UTF_8).build().toString());
+        }
+        if (contentType != null && !contentType.isBlank()) {
+            params.put("response-content-type", contentType);
+        }
+        return client.presignGet(keyOf(relativePath), config.getPresignTtl(), params);
+    }
+
+    // 로컬 저장소와 같은 규칙으로 상위 경로 참조 차단
+    private static String keyOf(String relativePath) {
+        String key = relativePath.replace("\\", "/");
+        while (key.startsWith("/")) key = key.substring(1);
+        for (String segment : key.split("/")) {
+            if (segment.equals("..") || segment.equals(".")) {
+                throw new SecurityException("유효하지 않은 파일 경로입니다.");
+            }
+        }
+        return key;
+    }
+
+    private void abortQuietly(String key, String uploadId) {
+        try {
+            client.abortMultipartUpload(key, uploadId);
+        } catch (Exception ignore) {
+            // 완료되지 않은 multipart는 버킷 lifecycle 규칙으로 정리
+        }
+    }
+
+    private static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+}
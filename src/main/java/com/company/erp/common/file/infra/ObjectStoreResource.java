@@ -0,0 +1,67 @@
+package com.company.erp.common.file.infra;
+
+import org.springframework.core.io.AbstractResource;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * object store 객체 Resource
+ * - 크기는 HEAD 한 번으로 조회해서 이 인스턴스(요청 단위)에서 재사용
+ * - 구간 조회는 Range GET으로 필요한 바이트만 읽음
+ */
+public class ObjectStoreResource extends AbstractResource implements RangedResource {
+
+    private final ObjectStoreClient client;
+    private final String key;
+    private Long length;
+
+    public ObjectStoreResource(ObjectStoreClient client, String key) {
+        this.client = client;
+        this.key = key;
+    }
+
+    @Override
+    public boolean exists() {
+        try {
+            return head() >= 0;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public long contentLength() throws IOException {
+        long size = head();
+        if (size < 0) throw new FileNotFoundException("object store에 파일이 없습니다: " + key);
+        return size;
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        return client.getObject(key, null, null);
+    }
+
+    @Override
+    public InputStream getInputStream(long start, long end) throws IOException {
+        return client.getObject(key, start, end);
+    }
+
+    @Override
+    public String getFilename() {
+        int slash = key.lastIndexOf('/');
+        return slash < 0 ? key : key.substring(slash + 1);
+    }
+
+    @Override
+    public String getDescription() {
+        return "object store [" + key + "]";
+    }
+
+    private long head() throws IOException {
+        if (length == null) length = client.headObject(key);
+        return length;
+    }
+}
@@ -0,0 +1,14 @@
+package com.company.erp.common.file.infra;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 구간 조회를 지원하는 저장소 Resource
+ * - 원격 저장소에서 Range 요청으로 필요한 구간만 읽을 때 사용
+ */
+public interface RangedResource {
+
+    // [start, end] (양 끝 포함) 구간 스트림
+    InputStream getInputStream(long start, long end) throws IOException;
+}
@@ -0,0 +1,123 @@
+package com.company.erp.common.file.infra;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+
+/**
+ * AWS Signature Version 4 (S3) 서명
+ * - 헤더 서명(Authorization)과 쿼리 서명(presigned URL) 두 가지만 지원
+ * - 본문은 UNSIGNED-PAYLOAD로 서명 (업로드 본문을 해시하려고 한 번 더 읽지 않음)
+ */
+final class SigV4Signer {
+
+    static final String ALGORITHM = "AWS4-HMAC-SHA256";
+    static final String UNSIGNED_PAYLOAD = "UNSIGNED-PAYLOAD";
+    private static final String SERVICE = "s3";
+
+    private final String accessKey;
+    private final String secretKey;
+    private final String region;
+
+    SigV4Signer(String accessKey, String secretKey, String region) {
+        this.accessKey = accessKey;
+        this.secretKey = secretKey;
+        this.region = region;
+    }
+
+    // Authorization 헤더 값 (서명 헤더: host, x-amz-content-sha256, x-amz-date)
+    String authorization(String method, String host, String canonicalUri, String canonicalQuery,
+                         String payloadHash, String amzDate) {
+        String signedHeaders = "host;x-amz-content-sha256;x-amz-date";
+        String canonicalHeaders = "host:" + host + "\n"
+                + "x-amz-content-sha256:" + payloadHash + "\n"
+                + "x-amz-date:" + amzDate + "\n";
+        String canonicalRequest = method + "\n" + canonicalUri + "\n" + canonicalQuery + "\n"
+                + canonicalHeaders + "\n" + signedHeaders + "\n" + payloadHash;
+
+        return ALGORITHM + " Credential=" + accessKey + "/" + scope(amzDate)
+                + ", SignedHeaders=" + signedHeaders
+                + ", Signature=" + sign(canonicalRequest, amzDate);
+    }
+
+    // presigned URL 쿼리 문자열 (X-Amz-Signature 포함, 서명 헤더: host)
+    String presignQuery(String method, String host, String canonicalUri, Map<String, String> params,
+                        String amzDate, long expiresSeconds) {
+        Map<String, String> query = new TreeMap<>(params);
+        query.put("X-Amz-Algorithm", ALGORITHM);
+        query.put("X-Amz-Credential", accessKey + "/" + scope(amzDate));
+        query.put("X-Amz-Date", amzDate);
+        query.put("X-Amz-Expires", Long.toString(expiresSeconds));
+        query.put("X-Amz-SignedHeaders", "host");
+
+        String canonicalQuery = canonicalQuery(query);
+        String canonicalRequest = method + "\n" + canonicalUri + "\n" + canonicalQuery + "\n"
+                + "host:" + host + "\n\n" + "host\n" + UNSIGNED_PAYLOAD;
+
+        return canonicalQuery + "&X-Amz-Signature=" + sign(canonicalRequest, amzDate);
+    }
+
+    // 키 정렬 + RFC 3986 인코딩 (값이 빈 파라미터는 "key=")
+    static String canonicalQuery(Map<String, String> params) {
+        Map<String, String> sorted = new TreeMap<>();
+        params.forEach((k, v) -> sorted.put(encode(k, false), encode(v == null ? "" : v, false)));
+
+        StringJoiner joiner = new StringJoiner("&");
+        sorted.forEach((k, v) -> joiner.add(k + "=" + v));
+        return joiner.toString();
+    }
+
+    // RFC 3986 unreserved 외 전부 %XX (S3 경로는 '/' 유지)
+    static String encode(String value, boolean keepSlash) {
+        StringBuilder sb = new StringBuilder(value.length() + 16);
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            char c = (char) (b & 0xff);
+            if ((c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')
+                    || c == '-' || c == '_' || c == '.' || c == '~' || (keepSlash && c == '/')) {
+                sb.append(c);
+            } else {
+                sb.append('%').append(Character.toUpperCase(Character.forDigit(c >> 4, 16)))
+                        .append(Character.toUpperCase(Character.forDigit(c & 0xf, 16)));
+            }
+        }
+        return sb.toString();
+    }
+
+    private String scope(String amzDate) {
+        return amzDate.substring(0, 8) + "/" + region + "/" + SERVICE + "/aws4_request";
+    }
+
+    private String sign(String canonicalRequest, String amzDate) {
+        String stringToSign = ALGORITHM + "\n" + amzDate + "\n" + scope(amzDate) + "\n" + sha256Hex(canonicalRequest);
+
+        byte[] key = hmac(("AWS4" + secretKey).getBytes(StandardCharsets.UTF_8), amzDate.substring(0, 8));
+        key = hmac(key, region);
+        key = hmac(key, SERVICE);
+        key = hmac(key, "aws4_request");
+        return HexFormat.of().formatHex(hmac(key, stringToSign));
+    }
+
+    private static byte[] hmac(byte[] key, String data) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(key, "HmacSHA256"));
+            return mac.doFinal(data.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private static String sha256Hex(String data) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(data.getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+}
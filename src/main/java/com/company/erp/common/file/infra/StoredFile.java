@@ -12,4 +12,6 @@ public class StoredFile {
     private final String relativePath;
     // 실제 저장된 파일 크기 (byte)
     private final long size;
+    // 저장된 내용의 SHA-256 (hex 소문자 64자)
+    private final String sha256;
 }
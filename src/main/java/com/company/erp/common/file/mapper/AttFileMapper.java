@@ -6,12 +6,23 @@ import org.apache.ibatis.annotations.Param;
 
 import java.util.List;
 
+/**
+ * ATT_FILE (첨부파일 메타)
+ * - FILE_HASH : 업로드 시 계산한 SHA-256 hex (ETag, 내용 주소 저장소 키). insert가 항상 기록하므로 배포 전에 컬럼 추가
+ * - IX_ATT_FILE_PATH : 내용 주소 저장소 정리 작업의 참조 경로 조회 (FILE_PATH IN (...))
+ *
+ * ALTER TABLE ATT_FILE ADD FILE_HASH CHAR(64) NULL;
+ * CREATE INDEX IX_ATT_FILE_PATH ON ATT_FILE (FILE_PATH);
+ */
 @Mapper
 public interface AttFileMapper {
 
     // 파일 메타 저장
     int insert(AttFileEntity entity);
 
+    // 파일 메타 일괄 저장 (multi-row insert)
+    int insertAll(@Param("list") List<AttFileEntity> entities);
+
     // 파일 단건 조회 (다운로드용)
     AttFileEntity findByFileNum(@Param("fileNum") String fileNum);
 
@@ -19,6 +30,9 @@ public interface AttFileMapper {
     List<AttFileEntity> findByRef(@Param("refType") String refType,
                                   @Param("refNo") String refNo);
 
+    // filePaths 중 ATT_FILE 행(논리 삭제 포함)이 참조하는 경로 - 내용 주소 저장소 정리 작업용
+    List<String> selectReferencedFilePaths(@Param("filePaths") List<String> filePaths);
+
     // 논리 삭제
     int markDeleted(@Param("fileNum") String fileNum,
                     @Param("modUserId") String modUserId);
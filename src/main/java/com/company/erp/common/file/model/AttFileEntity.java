@@ -29,5 +29,8 @@ public class AttFileEntity {
     private Long fileSize;
     private String contentType;
 
+    // 저장된 내용의 SHA-256 (hex 64자)
+    private String fileHash;
+
     private String vendorCd;
 }
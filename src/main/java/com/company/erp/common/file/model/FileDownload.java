@@ -0,0 +1,23 @@
+package com.company.erp.common.file.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.core.io.Resource;
+
+import java.net.URI;
+
+/**
+ * 다운로드 대상 (한 번의 조회/권한 검증으로 얻은 메타데이터 + 저장소 Resource)
+ * - directUri: 저장소가 직접 내려주는 만료 URL (있으면 리다이렉트, 없으면 애플리케이션이 전송)
+ */
+@Getter
+@AllArgsConstructor
+public class FileDownload {
+    private final AttFileEntity file;
+    private final Resource resource;
+    private final URI directUri;
+
+    public FileDownload(AttFileEntity file, Resource resource) {
+        this(file, resource, null);
+    }
+}
@@ -0,0 +1,79 @@
+package com.company.erp.common.file.service;
+
+import com.company.erp.common.file.infra.ContentAddressedFileStorage;
+import com.company.erp.common.file.mapper.AttFileMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 내용 주소 저장소(app.file.storage=cas)의 참조 없는 파일 정리
+ * - 업로드 실패 시 공유 파일을 바로 지우면 같은 내용을 올리는 다른 트랜잭션(미커밋 행)이 깨지므로 여기서만 삭제
+ * - 커밋된 ATT_FILE 행(논리 삭제 포함)이 가리키지 않고, 마지막 저장/재사용 후 grace-period가 지난 파일만 대상
+ * - grace-period는 업로드 트랜잭션 최대 시간보다 충분히 길어야 함
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.file.storage", havingValue = "cas")
+public class ContentAddressedBlobSweeper {
+
+    private final ContentAddressedFileStorage storage;
+    private final AttFileMapper fileMapper;
+    private final Duration interval;
+    private final Duration gracePeriod;
+
+    private ScheduledExecutorService worker;
+
+    public ContentAddressedBlobSweeper(ContentAddressedFileStorage storage,
+                                       AttFileMapper fileMapper,
+                                       @Value("${app.file.cas.sweep-interval:6h}") Duration interval,
+                                       @Value("${app.file.cas.grace-period:24h}") Duration gracePeriod) {
+        this.storage = storage;
+        this.fileMapper = fileMapper;
+        this.interval = interval;
+        this.gracePeriod = gracePeriod;
+    }
+
+    @PostConstruct
+    public void start() {
+        worker = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "file-cas-sweeper");
+            t.setDaemon(true);
+            return t;
+        });
+        long intervalMs = interval.toMillis();
+        worker.scheduleWithFixedDelay(this::sweepQuietly, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (worker != null) worker.shutdownNow();
+    }
+
+    // 삭제한 파일 수
+    public int sweep() throws IOException {
+        return storage.sweep(Instant.now().minus(gracePeriod),
+                relativePaths -> new HashSet<>(fileMapper.selectReferencedFilePaths(relativePaths)));
+    }
+
+    private void sweepQuietly() {
+        try {
+            int deleted = sweep();
+            if (deleted > 0) log.info("참조 없는 첨부 파일 정리: {}건", deleted);
+        } catch (Exception e) {
+            // 다음 주기에 다시 시도
+            log.warn("첨부 파일 정리 실패: {}", e.toString());
+        }
+    }
+}
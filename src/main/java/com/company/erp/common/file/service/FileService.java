@@ -10,20 +10,25 @@ import com.company.erp.common.file.infra.FileStorage;
 import com.company.erp.common.file.infra.StoredFile;
 import com.company.erp.common.file.mapper.AttFileMapper;
 import com.company.erp.common.file.model.AttFileEntity;
+import com.company.erp.common.file.model.FileDownload;
 import com.company.erp.common.file.util.FileNameUtils;
 import com.company.erp.common.session.SessionUser;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.nio.file.Paths;
+import java.net.URI;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class FileService {
@@ -32,6 +37,7 @@ public class FileService {
     private final FileStorage fileStorage;
     private final AttFileMapper fileMapper;
     private final DocNumService docNumService;
+    private final ThumbnailService thumbnailService;
 
     private static final DateTimeFormatter DIR_FMT = DateTimeFormatter.ofPattern("yyyy/MM/dd");
 
@@ -42,6 +48,65 @@ public class FileService {
      */
     @Transactional
     public FileUploadResponse upload(MultipartFile file, String refType, String refNo, String vendorCd, SessionUser ses) {
+        validateUpload(file, refType, refNo, vendorCd, ses);
+
+        // FILE_NUM 채번
+        String fileNum = docNumService.generateDocNumStr(DocKey.FL);
+
+        StoredFile stored = storeAndInsert(file, fileNum, refType, refNo, vendorCd, ses);
+
+        return new FileUploadResponse(fileNum, file.getOriginalFilename(), stored.getSize(), file.getContentType());
+    }
+
+    /**
+     * 다건 업로드 - FILE_NUM을 파일 수만큼 한 번에 채번하고 ATT_FILE은 multi-row insert 한 번으로 등록
+     * - 중간에 실패하면 이미 저장한 파일도 디스크에서 지우고, DB는 트랜잭션 롤백
+     */
+    @Transactional
+    public List<FileUploadResponse> uploadAll(List<MultipartFile> files, String refType, String refNo, String vendorCd, SessionUser ses) {
+        if (files == null || files.isEmpty()) return List.of();
+
+        // 디스크에 쓰기 전에 전체 검증
+        for (MultipartFile file : files) {
+            validateUpload(file, refType, refNo, vendorCd, ses);
+        }
+
+        // FILE_NUM 일괄 채번
+        List<String> fileNums = docNumService.generateDocNums(DocKey.FL, files.size());
+
+        List<StoredFile> storedFiles = new ArrayList<>(files.size());
+        List<AttFileEntity> entities = new ArrayList<>(files.size());
+        List<FileUploadResponse> responses = new ArrayList<>(files.size());
+        try {
+            // 1) 디스크 저장
+            for (int i = 0; i < files.size(); i++) {
+                MultipartFile file = files.get(i);
+                String fileNum = fileNums.get(i);
+
+                String saveName = FileNameUtils.newSaveName(FileNameUtils.getExt(file.getOriginalFilename()));
+                StoredFile stored = storeFile(file, refType, saveName);
+                storedFiles.add(stored);
+
+                entities.add(toEntity(file, fileNum, refType, refNo, vendorCd, ses, saveName, stored));
+                responses.add(new FileUploadResponse(fileNum, file.getOriginalFilename(), stored.getSize(), file.getContentType()));
+            }
+
+            // 2) 메타데이터 일괄 insert
+            int inserted = fileMapper.insertAll(entities);
+            if (inserted != entities.size()) throw new FileException("파일 메타데이터 저장에 실패했습니다.");
+
+            // 3) 커밋 후 썸네일 생성 요청 (백그라운드)
+            thumbnailService.requestAfterCommit(entities);
+        } catch (RuntimeException ex) {
+            // 앞서 저장된 파일 보상 삭제 (공유 저장소면 유지)
+            storedFiles.forEach(this::releaseQuietly);
+            throw ex;
+        }
+        return responses;
+    }
+
+    // 업로드 요청 검증 (세션/권한, 용량, 확장자)
+    private void validateUpload(MultipartFile file, String refType, String refNo, String vendorCd, SessionUser ses) {
 
         // 회원가입(OV) 업로드만 ses = null 허용
         boolean isSignupUpload = "OV".equalsIgnoreCase(refType);
@@ -65,8 +130,7 @@ public class FileService {
         }
 
         // 확장자 체크
-        String originName = file.getOriginalFilename();
-        String ext = FileNameUtils.getExt(originName);
+        String ext = FileNameUtils.getExt(file.getOriginalFilename());
         if (props.getAllowedExt() != null && !props.getAllowedExt().isEmpty()) {
             boolean ok = props.getAllowedExt().stream()
                     .filter(x -> x != null && !x.isBlank())
@@ -74,86 +138,139 @@ public class FileService {
                     .anyMatch(x -> x.equals(ext));
             if (!ok) throw new FileException("허용되지 않은 파일 확장자입니다.");
         }
+    }
 
+    // 디스크 저장 + 메타데이터 insert (insert 실패 시 저장한 파일 보상 삭제)
+    private StoredFile storeAndInsert(MultipartFile file, String fileNum, String refType, String refNo,
+                                      String vendorCd, SessionUser ses) {
         // 저장 파일명(UUID.ext)
-        String saveName = FileNameUtils.newSaveName(ext);
+        String saveName = FileNameUtils.newSaveName(FileNameUtils.getExt(file.getOriginalFilename()));
 
-        // 상대 디렉토리: REF_TYPE/yyyy/MM/dd
-        String relativeDir = buildRelativeDir(refType);
+        StoredFile stored = storeFile(file, refType, saveName);
 
-        // 디스크 저장
-        StoredFile stored;
+        AttFileEntity entity = toEntity(file, fileNum, refType, refNo, vendorCd, ses, saveName, stored);
         try {
-            stored = fileStorage.store(file, relativeDir, saveName);
+            int inserted = fileMapper.insert(entity);
+            if (inserted != 1) throw new FileException("파일 메타데이터 저장에 실패했습니다.");
+        } catch (RuntimeException ex) {
+            releaseQuietly(stored);
+            throw ex;
+        }
+
+        // 커밋 후 썸네일 생성 요청 (백그라운드)
+        thumbnailService.requestAfterCommit(List.of(entity));
+
+        return stored;
+    }
+
+    // 디스크 저장 (상대 디렉토리: REF_TYPE/yyyy/MM/dd)
+    private StoredFile storeFile(MultipartFile file, String refType, String saveName) {
+        try {
+            return fileStorage.store(file, buildRelativeDir(refType), saveName);
         } catch (IOException e) {
             throw new FileException("파일 저장 중 오류가 발생했습니다.");
         } catch (SecurityException e) {
             throw new FileException("유효하지 않은 파일 경로입니다.");
         }
+    }
 
-        // FILE_NUM 채번
-        String fileNum = docNumService.generateDocNumStr(DocKey.FL);
-
-        // DB insert
+    private AttFileEntity toEntity(MultipartFile file, String fileNum, String refType, String refNo,
+                                   String vendorCd, SessionUser ses, String saveName, StoredFile stored) {
         AttFileEntity entity = new AttFileEntity();
         entity.setFileNum(fileNum);
         entity.setRefType(refType);
         entity.setRefNo(refNo);
 
         entity.setRegUserId(ses != null ? ses.getUserId() : "ANON");
-//        entity.setRegUserId(ses.getUserId());
         entity.setDelFlag("N");
 
-        entity.setOriginName(originName);
+        entity.setOriginName(file.getOriginalFilename());
         entity.setSaveName(saveName);
 
         // DB에는 상대경로 저장 (base-dir 제외)
         entity.setFilePath(stored.getRelativePath());
 
-        entity.setFileSize(file.getSize());
+        // 크기/해시는 저장하면서 계산한 값 사용
+        entity.setFileSize(stored.getSize());
+        entity.setFileHash(stored.getSha256());
         entity.setContentType(file.getContentType());
 
         // 공유대상인 vendorCd는 모듈의 서비스에서 결정한 값으로 저장
         // 구매사 내부용이면 null 가능(정책)
         // 협력사는 null 불가 + 세션 vendor와 일치 강제(assertUploadVendor에서 처리)
         entity.setVendorCd(isBlank(vendorCd) ? null : vendorCd);
+        return entity;
+    }
 
-        // 삭제에 사용할 절대경로
-        String absolutePathForCompensation = stored.getAbsolutePath();
+    /*
+     보상 삭제 (실패해도 원래 예외를 가리지 않음)
+     - 내용 주소 저장소는 같은 파일을 다른 업로드(아직 커밋 전인 행 포함)가 공유할 수 있어 여기서 지우지 않음
+       -> 참조가 없는 파일은 ContentAddressedBlobSweeper가 커밋된 행 기준으로 유예 기간 후 정리
+    */
+    private void releaseQuietly(StoredFile stored) {
+        if (fileStorage.sharesContent()) return;
         try {
-            int inserted = fileMapper.insert(entity);
-            if (inserted != 1) throw new FileException("파일 메타데이터 저장에 실패했습니다.");
-        } catch (RuntimeException ex) {
-            try {
-                fileStorage.delete(absolutePathForCompensation);
-            } catch (Exception ignore) {
-                // TODO logger.warn(...)
-            }
-            throw ex;
+            fileStorage.delete(stored.getRelativePath());
+        } catch (Exception e) {
+            log.warn("업로드 실패 파일 보상 삭제 실패: path={}, reason={}", stored.getRelativePath(), e.toString());
         }
-
-        return new FileUploadResponse(fileNum, originName, file.getSize(), file.getContentType());
     }
 
     // 파일 정보 조회 (다운로드용 파일명, Content-Type 가져오기)
     @Transactional(readOnly = true)
     public AttFileEntity getFileInfo(String fileNum, SessionUser ses) {
-        if (ses == null) throw new FileException("세션 정보가 없습니다.");
-        if (isBlank(fileNum)) throw new FileException("파일번호는 필수입니다.");
+        return findAccessible(fileNum, ses);
+    }
 
-        AttFileEntity file = fileMapper.findByFileNum(fileNum);
-        if (file == null) throw new FileException("파일을 찾을 수 없습니다.");
-        if ("Y".equalsIgnoreCase(file.getDelFlag())) throw new FileException("삭제된 파일입니다.");
+    // 다운로드 - 메타데이터 조회/권한 검증 한 번으로 Resource까지 준비
+    @Transactional(readOnly = true)
+    public FileDownload openDownload(String fileNum, SessionUser ses) {
+        AttFileEntity file = findAccessible(fileNum, ses);
 
-        // 조회 권한 검증: V는 vendorCd 일치만 허용 / B는 전체 허용
-        assertVendorAccess(file, ses);
+        try {
+            // 직접 다운로드를 지원하는 저장소(object store)면 만료 URL로 리다이렉트
+            URI directUri = fileStorage.directDownloadUri(file.getFilePath(), file.getOriginName(), file.getContentType());
+            return new FileDownload(file, fileStorage.loadAsResource(file.getFilePath()), directUri);
+        } catch (SecurityException e) {
+            throw new FileException("유효하지 않은 파일 접근입니다.");
+        }
+    }
 
-        return file;
+    // 썸네일 - 생성 대기 중이면 empty (권한 검증은 원본 다운로드와 같음)
+    @Transactional(readOnly = true)
+    public Optional<Resource> openThumbnail(String fileNum, SessionUser ses) {
+        AttFileEntity file = findAccessible(fileNum, ses);
+        try {
+            return thumbnailService.find(file);
+        } catch (SecurityException e) {
+            throw new FileException("유효하지 않은 파일 접근입니다.");
+        }
     }
 
-    // 다운로드
+    /**
+     * 문서 첨부 묶음 다운로드 대상 - 목록 조회 한 번으로 조회 가능한 파일의 Resource 준비
+     * - 노출 기준은 list()와 같음 (canView)
+     */
     @Transactional(readOnly = true)
-    public Resource download(String fileNum, SessionUser ses) {
+    public List<FileDownload> openBundle(String refType, String refNo, SessionUser ses) {
+        if (ses == null) throw new FileException("세션 정보가 없습니다.");
+        if (isBlank(refType) || isBlank(refNo)) throw new FileException("참조문서유형/참조문서번호는 필수입니다.");
+
+        List<FileDownload> downloads = new ArrayList<>();
+        for (AttFileEntity file : fileMapper.findByRef(refType, refNo)) {
+            if (!canView(file, ses, refType)) continue;
+
+            try {
+                downloads.add(new FileDownload(file, fileStorage.loadAsResource(file.getFilePath())));
+            } catch (SecurityException e) {
+                throw new FileException("유효하지 않은 파일 접근입니다.");
+            }
+        }
+        if (downloads.isEmpty()) throw new FileException("다운로드할 파일이 없습니다.");
+        return downloads;
+    }
+
+    private AttFileEntity findAccessible(String fileNum, SessionUser ses) {
         if (ses == null) throw new FileException("세션 정보가 없습니다.");
         if (isBlank(fileNum)) throw new FileException("파일번호는 필수입니다.");
 
@@ -164,12 +281,7 @@ public class FileService {
         // 조회 권한 검증: V는 vendorCd 일치만 허용 / B는 전체 허용
         assertVendorAccess(file, ses);
 
-        String absolutePath = Paths.get(props.getBaseDir(), file.getFilePath()).toString();
-        try {
-            return fileStorage.loadAsResource(absolutePath);
-        } catch (SecurityException e) {
-            throw new FileException("유효하지 않은 파일 접근입니다.");
-        }
+        return file;
     }
 
     // 문서별 첨부 목록 조회
@@ -0,0 +1,244 @@
+package com.company.erp.common.file.service;
+
+import com.company.erp.common.file.infra.FileStorage;
+import com.company.erp.common.file.model.AttFileEntity;
+import com.company.erp.common.file.util.FileNameUtils;
+import com.company.erp.common.file.util.ThumbnailRenderer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 첨부 썸네일 백그라운드 생성
+ * - 업로드 커밋 후 제한된 풀(스레드/큐 크기 고정)에 생성 작업 등록 -> 업로드 응답 시간에 영향 없음
+ * - 결과는 원본 옆에 "<FILE_PATH>.thumb.jpg"로 FileStorage에 저장 (내용 주소 저장소면 같은 내용끼리 공유)
+ * - 큐가 가득 차거나 노드가 재시작돼 누락된 작업은 썸네일 조회 시 다시 등록
+ * - 이미지와 PDF(첫 페이지)를 지원
+ * - 디코딩할 수 없는 원본만 실패로 기억하고, 원본 읽기/저장 오류는 다음 조회 때 다시 시도
+ */
+@Slf4j
+@Service
+public class ThumbnailService {
+
+    static final String SUFFIX = ".thumb.jpg";
+
+    // 실패 기록 상한/보관 시간 (내용이 바뀌지 않으므로 짧게 둘 필요는 없음, 메모리만 제한)
+    private static final int MAX_FAILED = 10_000;
+    private static final long FAILED_TTL_MS = Duration.ofHours(6).toMillis();
+
+    private final FileStorage fileStorage;
+    private final int maxSize;
+    private final ThreadPoolExecutor executor;
+
+    // 생성 중(큐 포함)인 썸네일 경로 -> 같은 파일 중복 작업 방지
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+
+    // 디코딩에 실패한 썸네일 경로 -> 기록 시각(ms), 보관 시간 동안 조회할 때마다 다시 시도하지 않음 (상한 초과 시 오래된 것부터 제거)
+    private final Map<String, Long> failed = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, false) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+            return size() > MAX_FAILED;
+        }
+    });
+
+    public ThumbnailService(FileStorage fileStorage,
+                            @Value("${app.file.thumbnail.max-size:256}") int maxSize,
+                            @Value("${app.file.thumbnail.threads:2}") int threads,
+                            @Value("${app.file.thumbnail.queue-capacity:200}") int queueCapacity) {
+        this.fileStorage = fileStorage;
+        this.maxSize = maxSize;
+
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "file-thumbnail-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    t.setPriority(Thread.NORM_PRIORITY - 1);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    public static boolean supports(AttFileEntity file) {
+        return ThumbnailRenderer.supports(FileNameUtils.getExt(file.getOriginName()));
+    }
+
+    // 트랜잭션 안이면 커밋 후 등록 (롤백된 업로드는 만들지 않음)
+    public void requestAfterCommit(List<AttFileEntity> files) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            files.forEach(this::request);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                files.forEach(ThumbnailService.this::request);
+            }
+        });
+    }
+
+    public void request(AttFileEntity file) {
+        if (!supports(file)) return;
+
+        String relativePath = thumbnailPath(file);
+        if (isFailed(relativePath) || !inFlight.add(relativePath)) return;
+        try {
+            executor.execute(() -> {
+                try {
+                    generate(file, relativePath);
+                } finally {
+                    inFlight.remove(relativePath);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 큐 초과 -> 버리고 조회 시 다시 등록
+            inFlight.remove(relativePath);
+        }
+    }
+
+    /**
+     * 썸네일 조회
+     * - 생성 완료: Resource
+     * - 생성 대기: empty (없으면 이 시점에 작업 등록)
+     * - 지원하지 않는 형식/생성 실패: NoSuchElementException
+     */
+    public Optional<Resource> find(AttFileEntity file) {
+        if (!supports(file)) throw new NoSuchElementException("미리보기를 지원하지 않는 파일입니다.");
+
+        String relativePath = thumbnailPath(file);
+        if (isFailed(relativePath)) throw new NoSuchElementException("미리보기를 만들 수 없는 파일입니다.");
+
+        Resource thumbnail = fileStorage.loadAsResource(relativePath);
+        if (thumbnail.exists()) return Optional.of(thumbnail);
+
+        request(file);
+        return Optional.empty();
+    }
+
+    void generate(AttFileEntity file, String relativePath) {
+        try {
+            // 같은 내용을 공유하는 파일이 이미 만들었으면 생략
+            if (fileStorage.loadAsResource(relativePath).exists()) return;
+
+            Resource source = fileStorage.loadAsResource(file.getFilePath());
+            String ext = FileNameUtils.getExt(file.getOriginName());
+
+            // 로컬 PDF는 파일을 직접 열고, 그 외에는 원본 스트림에서 읽음 (PDF면 렌더러가 임시 파일로 옮김)
+            Path localPdf = ThumbnailRenderer.isPdf(ext) && source.isFile() ? source.getFile().toPath() : null;
+            if (localPdf != null && !Files.isReadable(localPdf)) throw new IOException("원본 읽기 실패: " + localPdf);
+
+            SourceStream in = localPdf == null ? new SourceStream(source.getInputStream()) : null;
+            byte[] jpeg;
+            try {
+                jpeg = in == null ? ThumbnailRenderer.renderPdf(localPdf, maxSize) : ThumbnailRenderer.render(ext, in, maxSize);
+            } catch (Exception e) {
+                // 원본을 읽다 난 오류(디스크/object store)는 일시적일 수 있으므로 실패로 기억하지 않음
+                if (in != null && in.readFailed) throw e;
+                log.warn("썸네일 디코딩 실패: fileNum={}, reason={}", file.getFileNum(), e.toString());
+                jpeg = null;
+            } finally {
+                if (in != null) in.close();
+            }
+            if (jpeg == null) {
+                // ImageIO는 원본 읽기 오류를 "읽을 수 없는 형식"으로 삼키므로 여기서도 구분
+                if (in != null && in.readFailed) throw new IOException("원본 읽기 실패");
+                failed.put(relativePath, System.currentTimeMillis());
+                return;
+            }
+            fileStorage.storeDerived(relativePath, jpeg);
+        } catch (Exception e) {
+            log.warn("썸네일 생성 실패 (다음 조회 시 재시도): fileNum={}, reason={}", file.getFileNum(), e.toString());
+        }
+    }
+
+    private boolean isFailed(String relativePath) {
+        Long failedAt = failed.get(relativePath);
+        if (failedAt == null) return false;
+        if (System.currentTimeMillis() - failedAt < FAILED_TTL_MS) return true;
+        failed.remove(relativePath);
+        return false;
+    }
+
+    // 원본 스트림 자체의 읽기 오류와 디코더 오류를 구분하기 위한 래퍼
+    private static final class SourceStream extends FilterInputStream {
+        private boolean readFailed;
+
+        private SourceStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            try {
+                return super.read();
+            } catch (IOException e) {
+                readFailed = true;
+                throw e;
+            }
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            try {
+                return super.read(b, off, len);
+            } catch (IOException e) {
+                readFailed = true;
+                throw e;
+            }
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            try {
+                return super.skip(n);
+            } catch (IOException e) {
+                readFailed = true;
+                throw e;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } catch (IOException e) {
+                readFailed = true;
+                throw e;
+            }
+        }
+    }
+
+    static String thumbnailPath(AttFileEntity file) {
+        return file.getFilePath() + SUFFIX;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
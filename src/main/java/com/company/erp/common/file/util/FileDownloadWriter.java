@@ -0,0 +1,182 @@
+package com.company.erp.common.file.util;
+
+import com.company.erp.common.file.infra.RangedResource;
+import com.company.erp.common.file.model.AttFileEntity;
+import com.company.erp.common.file.model.FileDownload;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.MediaType;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * 첨부파일 다운로드 응답 작성
+ * - ETag / Last-Modified는 저장된 메타데이터(FILE_NUM, FILE_SIZE, REG_DATE)로 생성 -> 조건부 요청이면 304
+ * - Range(단일 구간) / If-Range 지원 -> 206 부분 응답, 범위 오류면 416
+ * - 로컬 파일은 Tomcat sendfile 또는 FileChannel.transferTo로 전송 (애플리케이션 버퍼 복사 없음)
+ * - object store는 만료 URL로 리다이렉트 (애플리케이션을 거치지 않음)
+ */
+public final class FileDownloadWriter {
+
+    private FileDownloadWriter() {}
+
+    // Tomcat NIO 커넥터 sendfile 요청 속성
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    public static void write(HttpServletRequest request, HttpServletResponse response, FileDownload download)
+            throws IOException {
+
+        // 0) 저장소가 직접 내려주는 URL이 있으면 리다이렉트 (Range / 조건부 요청은 저장소가 처리)
+        if (download.getDirectUri() != null) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, "no-store");
+            response.sendRedirect(download.getDirectUri().toString());
+            return;
+        }
+
+        AttFileEntity file = download.getFile();
+        Resource resource = download.getResource();
+
+        long length = resource.contentLength();
+        String etag = etagOf(file, length);
+        long lastModified = lastModifiedOf(file);
+
+        // 1) If-None-Match / If-Modified-Since -> 304 (ETag / Last-Modified 헤더도 여기서 설정)
+        if (new ServletWebRequest(request, response).checkNotModified(etag, lastModified)) return;
+
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setContentType(mediaTypeOf(file.getContentType()));
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename(file.getOriginName() != null ? file.getOriginName() : file.getFileNum(), StandardCharsets.UTF_8)
+                .build()
+                .toString());
+
+        // 2) Range (If-Range가 현재 파일과 다르면 전체 전송)
+        long start = 0;
+        long end = length - 1;
+        String range = request.getHeader(HttpHeaders.RANGE);
+        if (range != null && ifRangeMatches(request, etag, lastModified)) {
+            List<HttpRange> ranges;
+            try {
+                ranges = HttpRange.parseRanges(range);
+            } catch (IllegalArgumentException e) {
+                ranges = List.of();
+            }
+
+            // 다중 구간은 지원하지 않으므로 무시하고 전체 전송 (RFC 9110 허용)
+            if (ranges.size() == 1) {
+                try {
+                    start = ranges.get(0).getRangeStart(length);
+                    end = ranges.get(0).getRangeEnd(length);
+                } catch (IllegalArgumentException e) {
+                    start = length; // 해석 불가 범위 -> 416
+                }
+                if (start >= length || start > end) {
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                    response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE); // 416
+                    return;
+                }
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT); // 206
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            }
+        }
+
+        long count = end - start + 1;
+        response.setContentLengthLong(count);
+        if ("HEAD".equalsIgnoreCase(request.getMethod()) || count <= 0) return;
+
+        // 3) 본문 전송
+        if (resource.isFile()) {
+            Path path = resource.getFile().toPath();
+            if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+                // 컨테이너가 서블릿 반환 후 커널 sendfile로 전송
+                request.setAttribute(SENDFILE_FILENAME, path.toAbsolutePath().toString());
+                request.setAttribute(SENDFILE_START, start);
+                request.setAttribute(SENDFILE_END, end + 1);
+                return;
+            }
+            transfer(path, start, count, response.getOutputStream());
+            return;
+        }
+
+        // 구간 조회를 지원하는 저장소는 필요한 구간만 읽음
+        if (resource instanceof RangedResource ranged) {
+            try (InputStream in = ranged.getInputStream(start, end)) {
+                StreamUtils.copy(in, response.getOutputStream());
+            }
+            return;
+        }
+
+        // 로컬 파일이 아닌 저장소는 스트림 복사
+        try (InputStream in = resource.getInputStream()) {
+            StreamUtils.copyRange(in, response.getOutputStream(), start, end);
+        }
+    }
+
+    // FILE_NUM은 내용이 바뀌지 않으므로 번호 + 크기로 강한 ETag
+    static String etagOf(AttFileEntity file, long length) {
+        long size = file.getFileSize() != null ? file.getFileSize() : length;
+        return "\"" + file.getFileNum() + "-" + size + "\"";
+    }
+
+    // REG_DATE (초 단위, 없으면 -1)
+    static long lastModifiedOf(AttFileEntity file) {
+        if (file.getRegDate() == null) return -1;
+        return file.getRegDate().atZone(ZoneId.systemDefault()).toEpochSecond() * 1000;
+    }
+
+    // If-Range: ETag(강한 비교) 또는 Last-Modified 일치 시에만 Range 적용
+    private static boolean ifRangeMatches(HttpServletRequest request, String etag, long lastModified) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) return true;
+
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            return ifRange.equals(etag);
+        }
+        try {
+            return lastModified >= 0 && request.getDateHeader(HttpHeaders.IF_RANGE) == lastModified;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private static String mediaTypeOf(String contentType) {
+        if (contentType == null || contentType.isEmpty()) return MediaType.APPLICATION_OCTET_STREAM_VALUE;
+        try {
+            return MediaType.parseMediaType(contentType).toString();
+        } catch (Exception e) {
+            // 파싱 실패 시 기본값 사용
+            return MediaType.APPLICATION_OCTET_STREAM_VALUE;
+        }
+    }
+
+    private static void transfer(Path path, long position, long count, OutputStream out) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(out);
+            long sent = 0;
+            while (sent < count) {
+                long n = channel.transferTo(position + sent, count - sent, target);
+                if (n <= 0) break;
+                sent += n;
+            }
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.company.erp.common.file.util;
+
+import com.company.erp.common.file.model.AttFileEntity;
+import com.company.erp.common.file.model.FileDownload;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.attribute.FileTime;
+import java.time.ZoneId;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * 문서 첨부 묶음(ZIP) 응답 작성
+ * - 임시 파일 없이 응답 스트림에 바로 압축 (chunked 전송, Content-Length 없음)
+ * - 이미 압축된 형식(jpg, pdf, xlsx, zip 등)은 다시 압축하지 않고 저장만 함 (CPU 절약)
+ * - 같은 원본 파일명은 "이름 (2).ext" 형태로 구분
+ */
+public final class FileZipWriter {
+
+    private FileZipWriter() {}
+
+    private static final Set<String> COMPRESSED_EXT = Set.of(
+            "jpg", "jpeg", "png", "gif", "pdf", "zip", "xlsx", "docx", "pptx", "hwpx", "7z", "gz"
+    );
+
+    public static void write(HttpServletResponse response, String zipName, List<FileDownload> downloads)
+            throws IOException {
+
+        response.setContentType("application/zip");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename(zipName, StandardCharsets.UTF_8)
+                .build()
+                .toString());
+
+        Set<String> usedNames = new HashSet<>();
+        // 응답 스트림은 컨테이너가 닫으므로 finish()만 호출
+        ZipOutputStream zip = new ZipOutputStream(response.getOutputStream(), StandardCharsets.UTF_8);
+        for (FileDownload download : downloads) {
+            AttFileEntity file = download.getFile();
+            String name = uniqueName(file.getOriginName() != null ? file.getOriginName() : file.getFileNum(), usedNames);
+
+            zip.setLevel(COMPRESSED_EXT.contains(FileNameUtils.getExt(name))
+                    ? Deflater.NO_COMPRESSION
+                    : Deflater.DEFAULT_COMPRESSION);
+
+            ZipEntry entry = new ZipEntry(name);
+            if (file.getRegDate() != null) {
+                entry.setLastModifiedTime(FileTime.from(file.getRegDate().atZone(ZoneId.systemDefault()).toInstant()));
+            }
+            zip.putNextEntry(entry);
+            copy(download.getResource(), zip);
+            zip.closeEntry();
+        }
+        zip.finish();
+        zip.flush();
+    }
+
+    private static void copy(Resource resource, ZipOutputStream zip) throws IOException {
+        if (resource.isFile()) {
+            Files.copy(resource.getFile().toPath(), zip);
+            return;
+        }
+        try (InputStream in = resource.getInputStream()) {
+            StreamUtils.copy(in, zip);
+        }
+    }
+
+    // ZIP 안 경로 구분자 제거 + 중복 이름 구분
+    static String uniqueName(String originName, Set<String> usedNames) {
+        String name = originName.replace('\\', '_').replace('/', '_');
+        if (usedNames.add(name.toLowerCase())) return name;
+
+        int dot = name.lastIndexOf('.');
+        String base = dot > 0 ? name.substring(0, dot) : name;
+        String ext = dot > 0 ? name.substring(dot) : "";
+        for (int n = 2; ; n++) {
+            String candidate = base + " (" + n + ")" + ext;
+            if (usedNames.add(candidate.toLowerCase())) return candidate;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.company.erp.common.file.util;
+
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.io.IOUtils;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.rendering.ImageType;
+import org.apache.pdfbox.rendering.PDFRenderer;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.Set;
+
+/**
+ * 첨부 썸네일 생성 (로컬에서만 처리, 외부 서비스 없음)
+ * - 긴 변 기준 maxSize 이하로 축소한 JPEG
+ * - 이미지: JDK ImageIO, 큰 원본은 디코딩 단계에서 서브샘플링해서 힙 사용량을 줄임 (목표 크기의 2배 정도만 디코딩)
+ * - PDF: PDFBox로 첫 페이지만 목표 크기에 맞는 배율로 렌더링
+ *   원본 파일을 직접 열어 필요한 부분만 읽고(로컬 저장소), 스트림만 있는 원본(object store)은 임시 파일로 옮긴 뒤 열어서
+ *   문서 전체를 힙에 올리지 않음 (파싱 중 만들어지는 스트림 버퍼도 임시 파일 사용)
+ */
+public final class ThumbnailRenderer {
+
+    private ThumbnailRenderer() {}
+
+    // ImageIO 기본 리더가 있는 형식
+    private static final Set<String> IMAGE_EXT = Set.of("jpg", "jpeg", "png", "gif", "bmp");
+    private static final String PDF_EXT = "pdf";
+
+    private static final float JPEG_QUALITY = 0.8f;
+
+    public static boolean supports(String ext) {
+        if (ext == null) return false;
+        String lower = ext.toLowerCase();
+        return IMAGE_EXT.contains(lower) || PDF_EXT.equals(lower);
+    }
+
+    public static boolean isPdf(String ext) {
+        return PDF_EXT.equalsIgnoreCase(ext);
+    }
+
+    // 읽을 수 없는 이미지/PDF면 null, 원본을 읽다 난 오류는 IOException
+    public static byte[] render(String ext, InputStream in, int maxSize) throws IOException {
+        if (!isPdf(ext)) return toThumbnail(decode(in, maxSize), maxSize);
+
+        // PDF 파서는 임의 위치 읽기가 필요 -> 힙 대신 임시 파일로 옮긴 뒤 파일에서 읽음
+        Path spooled = Files.createTempFile("thumbnail-", ".pdf");
+        try {
+            Files.copy(in, spooled, StandardCopyOption.REPLACE_EXISTING);
+            return renderPdf(spooled, maxSize);
+        } finally {
+            Files.deleteIfExists(spooled);
+        }
+    }
+
+    // 로컬 PDF 파일 - 파일을 직접 열어 첫 페이지에 필요한 부분만 읽음
+    public static byte[] renderPdf(Path file, int maxSize) throws IOException {
+        return toThumbnail(renderFirstPage(file, maxSize), maxSize);
+    }
+
+    private static byte[] toThumbnail(BufferedImage source, int maxSize) throws IOException {
+        if (source == null) return null;
+
+        double scale = Math.min(1.0, (double) maxSize / Math.max(source.getWidth(), source.getHeight()));
+        int width = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * scale));
+
+        // 투명 배경(PNG/GIF)은 흰색으로 채워서 JPEG로 저장
+        BufferedImage thumb = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = thumb.createGraphics();
+        try {
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, width, height);
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return toJpeg(thumb);
+    }
+
+    private static BufferedImage decode(InputStream in, int maxSize) throws IOException {
+        try (ImageInputStream iis = ImageIO.createImageInputStream(in)) {
+            if (iis == null) return null;
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(iis);
+            if (!readers.hasNext()) return null;
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(iis, true, true);
+                int longSide = Math.max(reader.getWidth(0), reader.getHeight(0));
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                int step = Math.max(1, longSide / (maxSize * 2));
+                param.setSourceSubsampling(step, step, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 빈 문서면 null, 암호가 걸린 문서는 InvalidPasswordException
+    private static BufferedImage renderFirstPage(Path file, int maxSize) throws IOException {
+        try (PDDocument document = Loader.loadPDF(file.toFile(), "", null, null,
+                IOUtils.createTempFileOnlyStreamCache())) {
+            if (document.getNumberOfPages() == 0) return null;
+
+            PDRectangle box = document.getPage(0).getCropBox();
+            float longSide = Math.max(box.getWidth(), box.getHeight());
+            if (longSide <= 0) return null;
+
+            // 1pt = 1px 기준 배율 -> 긴 변이 maxSize가 되도록 렌더링 (페이지가 더 작으면 원래 크기)
+            float scale = Math.min(1f, maxSize / longSide);
+            return new PDFRenderer(document).renderImage(0, scale, ImageType.RGB);
+        }
+    }
+
+    private static byte[] toJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream(16 * 1024);
+        try (ImageOutputStream ios = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(ios);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+}
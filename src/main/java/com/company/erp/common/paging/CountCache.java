@@ -0,0 +1,63 @@
+package com.company.erp.common.paging;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntSupplier;
+
+/**
+ * 목록 총 건수(COUNT(*)) 단기 캐시
+ * - 같은 검색조건으로 페이지를 넘길 때마다 COUNT를 다시 돌리지 않도록 TTL 동안 재사용
+ * - 등록/삭제 직후에는 최대 TTL만큼 근사값이 보일 수 있음 (커서 모드 전용)
+ */
+@Component
+public class CountCache {
+
+    // 검색조건 조합이 과도하게 쌓이지 않도록 상한
+    private static final int MAX_ENTRIES = 1_000;
+
+    private final long ttlMillis;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    public CountCache(@Value("${app.paging.count-cache-ttl-seconds:30}") long ttlSeconds) {
+        this.ttlMillis = ttlSeconds * 1_000L;
+    }
+
+    public int get(String key, IntSupplier loader) {
+        long now = System.currentTimeMillis();
+
+        Entry cached = entries.get(key);
+        if (cached != null && cached.expiresAt > now) {
+            return cached.count;
+        }
+
+        int count = loader.getAsInt();
+        if (entries.size() >= MAX_ENTRIES) {
+            entries.values().removeIf(e -> e.expiresAt <= now);
+            if (entries.size() >= MAX_ENTRIES) entries.clear();
+        }
+        entries.put(key, new Entry(count, now + ttlMillis));
+        return count;
+    }
+
+    // 검색조건으로 캐시 키 생성 (null 포함)
+    public static String key(Object... parts) {
+        StringBuilder sb = new StringBuilder();
+        for (Object part : parts) {
+            sb.append(part).append('\u0001');
+        }
+        return sb.toString();
+    }
+
+    private static final class Entry {
+        private final int count;
+        private final long expiresAt;
+
+        private Entry(int count, long expiresAt) {
+            this.count = count;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.company.erp.common.paging;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 키셋(seek) 페이징 커서
+ * - 마지막 행의 (REG_DATE, PK)를 URL-safe Base64로 감싼 불투명 문자열
+ * - 다음 페이지는 (REG_DATE, PK) < (regDate, key) 조건으로 이어서 조회하므로 OFFSET 스캔이 없음
+ */
+@Getter
+@RequiredArgsConstructor
+public final class KeysetCursor {
+
+    private static final char SEPARATOR = '|';
+
+    private final LocalDateTime regDate;
+    private final String key;
+
+    public String encode() {
+        String raw = regDate.toString() + SEPARATOR + key;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 클라이언트가 돌려준 커서 해석
+     * @return 첫 페이지 요청(null/빈 문자열)이면 null
+     */
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) return null;
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int idx = raw.indexOf(SEPARATOR);
+            if (idx <= 0 || idx == raw.length() - 1) {
+                throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+            }
+            return new KeysetCursor(LocalDateTime.parse(raw.substring(0, idx)), raw.substring(idx + 1));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+        }
+    }
+
+    // 마지막 행 기준 다음 커서 (정렬 키가 비어 있으면 이어서 조회 불가 -> null)
+    public static String next(LocalDateTime regDate, String key) {
+        if (regDate == null || key == null) return null;
+        return new KeysetCursor(regDate, key).encode();
+    }
+}
@@ -0,0 +1,88 @@
+package com.company.erp.common.session;
+
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
+
+/**
+ * 현재 스레드의 로그인 사용자
+ * - HTTP 요청: SessionInterceptor가 세션 검사 통과 시 한 번 설정하고 요청 종료 시 해제
+ * - 배치/비동기: runAs로 실행 사용자를 지정하거나 wrap으로 호출 스레드의 사용자를 넘김
+ * - 서비스는 HttpSession 프록시 대신 이 값을 사용하므로 요청 스레드가 아니어도 호출 가능
+ */
+public final class CurrentUser {
+    private CurrentUser() {}
+
+    private static final ThreadLocal<SessionUser> HOLDER = new ThreadLocal<>();
+
+    // 현재 사용자 (없으면 null)
+    public static SessionUser get() {
+        return HOLDER.get();
+    }
+
+    // 현재 사용자 ID (없으면 fallback)
+    public static String userIdOr(String fallback) {
+        SessionUser user = HOLDER.get();
+        return (user != null && user.getUserId() != null) ? user.getUserId() : fallback;
+    }
+
+    // 현재 사용자 부서 코드 (없으면 null)
+    public static String deptCd() {
+        SessionUser user = HOLDER.get();
+        return user != null ? user.getDeptCd() : null;
+    }
+
+    /**
+     * user로 task 실행 후 이전 사용자로 복원 (배치 작업 등)
+     */
+    public static <T> T runAs(SessionUser user, Supplier<T> task) {
+        SessionUser previous = HOLDER.get();
+        HOLDER.set(user);
+        try {
+            return task.get();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    public static void runAs(SessionUser user, Runnable task) {
+        runAs(user, () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    /**
+     * 호출 스레드의 사용자를 캡처해서 다른 스레드(Executor)에서 같은 사용자로 실행
+     * - TaskDecorator로도 사용 가능 (executor.setTaskDecorator(CurrentUser::wrap))
+     */
+    public static Runnable wrap(Runnable task) {
+        SessionUser captured = HOLDER.get();
+        return () -> runAs(captured, task);
+    }
+
+    public static <T> Callable<T> wrap(Callable<T> task) {
+        SessionUser captured = HOLDER.get();
+        return () -> {
+            SessionUser previous = HOLDER.get();
+            HOLDER.set(captured);
+            try {
+                return task.call();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+
+    static void set(SessionUser user) {
+        HOLDER.set(user);
+    }
+
+    static void clear() {
+        HOLDER.remove();
+    }
+
+    private static void restore(SessionUser previous) {
+        if (previous == null) HOLDER.remove();
+        else HOLDER.set(previous);
+    }
+}
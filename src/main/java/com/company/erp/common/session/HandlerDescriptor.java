@@ -0,0 +1,57 @@
+package com.company.erp.common.session;
+
+import com.company.erp.common.auth.RequireRole;
+import com.company.erp.common.auth.Role;
+import org.springframework.web.method.HandlerMethod;
+
+/**
+ * 핸들러(컨트롤러 메서드)별 세션 가드 정보 - 기동 시 한 번 계산해서 SessionInterceptor가 재사용
+ * - ignored : @SessionIgnore (메서드 또는 클래스)
+ * - allowedRoles : @RequireRole 허용 권한 비트마스크 (메서드 우선, 없으면 클래스)
+ */
+final class HandlerDescriptor {
+
+    // 세션 검사만 하고 권한 제한 없음 (HandlerMethod가 아닌 핸들러 포함)
+    static final HandlerDescriptor UNRESTRICTED = new HandlerDescriptor(false, false, 0);
+
+    private final boolean ignored;
+    private final boolean roleRequired;
+    private final int allowedRoles;
+
+    private HandlerDescriptor(boolean ignored, boolean roleRequired, int allowedRoles) {
+        this.ignored = ignored;
+        this.roleRequired = roleRequired;
+        this.allowedRoles = allowedRoles;
+    }
+
+    static HandlerDescriptor of(HandlerMethod hm) {
+        Class<?> beanType = hm.getBeanType();
+
+        boolean ignored = hm.hasMethodAnnotation(SessionIgnore.class)
+                || beanType.isAnnotationPresent(SessionIgnore.class);
+
+        // 메서드 우선 → 없으면 클래스에서 탐색
+        RequireRole requireRole = hm.getMethodAnnotation(RequireRole.class);
+        if (requireRole == null) {
+            requireRole = beanType.getAnnotation(RequireRole.class);
+        }
+
+        // @RequireRole 없으면 제한 없음
+        if (requireRole == null) {
+            return ignored ? new HandlerDescriptor(true, false, 0) : UNRESTRICTED;
+        }
+        return new HandlerDescriptor(ignored, true, Role.maskOf(requireRole.value()));
+    }
+
+    boolean isIgnored() {
+        return ignored;
+    }
+
+    // 로그인 사용자 권한이 허용 목록에 있는지
+    boolean allows(String userRole) {
+        if (!roleRequired) return true;
+
+        Role role = Role.from(userRole);
+        return role != null && (allowedRoles & role.bit) != 0;
+    }
+}
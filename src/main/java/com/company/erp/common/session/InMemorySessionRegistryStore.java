@@ -0,0 +1,107 @@
+package com.company.erp.common.session;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 단일 노드용 세션 레지스트리 (로컬 메모리)
+ * - 노드가 여러 대면 다른 노드의 로그인을 알 수 없으므로 JdbcSessionRegistryStore 사용
+ * - 강퇴 표식은 세션 타임아웃이 지나면 정리 (토큰 모드에서는 강퇴된 토큰이 다시 오지 않아 종료 이벤트가 없음)
+ * - 토큰 폐기 기록은 토큰 만료 시각이 지나면 정리
+ */
+@Component
+@ConditionalOnProperty(name = "app.session.registry.store", havingValue = "memory", matchIfMissing = true)
+public class InMemorySessionRegistryStore implements SessionRegistryStore {
+
+    // userId(key), sessionId(value) - 로그인 된 userId의 sessionId 저장할 맵
+    private final Map<String, String> userToSession = new ConcurrentHashMap<>();
+
+    // sessionId(key), userId(value)  역방향도 저장
+    private final Map<String, String> sessionToUser = new ConcurrentHashMap<>();
+
+    // 로그아웃 대상인 sessionId ( 로그인했던 sessionId ), value = 표식 시각(ms)
+    private final Map<String, Long> logoutTargetSessions = new ConcurrentHashMap<>();
+
+    // 폐기된 토큰 ID(key), 토큰 만료 시각 ms(value)
+    private final Map<String, Long> revokedTokens = new ConcurrentHashMap<>();
+
+    private final long logoutTargetRetentionMs;
+
+    public InMemorySessionRegistryStore(@Value("${server.servlet.session.timeout:30m}") Duration sessionTimeout) {
+        this.logoutTargetRetentionMs = sessionTimeout.toMillis();
+    }
+
+    @Override
+    public String findSessionId(String userId) {
+        return userToSession.get(userId);
+    }
+
+    @Override
+    public void registerLogin(String userId, String sessionId) {
+        // 기존 세션이 있으면 역방향 맵에서 제거
+        String oldSessionId = userToSession.put(userId, sessionId);
+        if (oldSessionId != null) sessionToUser.remove(oldSessionId);
+
+        // 새 세션 역방향 등록
+        sessionToUser.put(sessionId, userId);
+    }
+
+    @Override
+    public void markLogoutTarget(String sessionId) {
+        long now = System.currentTimeMillis();
+
+        // 타임아웃이 지난 표식은 해당 세션/토큰이 더 이상 유효하지 않으므로 정리
+        logoutTargetSessions.values().removeIf(markedAt -> now - markedAt > logoutTargetRetentionMs);
+        logoutTargetSessions.put(sessionId, now);
+    }
+
+    @Override
+    public boolean removeLogoutTarget(String sessionId) {
+        return logoutTargetSessions.remove(sessionId) != null;
+    }
+
+    @Override
+    public boolean isLogoutTarget(String sessionId) {
+        return logoutTargetSessions.containsKey(sessionId);
+    }
+
+    @Override
+    public void unmarkLogoutTarget(String sessionId) {
+        logoutTargetSessions.remove(sessionId);
+    }
+
+    @Override
+    public void unregister(String userId, String sessionId) {
+        userToSession.remove(userId, sessionId);
+        sessionToUser.remove(sessionId);
+        logoutTargetSessions.remove(sessionId);
+    }
+
+    @Override
+    public void unregisterBySessionId(String sessionId) {
+        String uid = sessionToUser.remove(sessionId); // sessionId -> userId
+        if (uid != null) {
+            userToSession.remove(uid, sessionId);
+        }
+        logoutTargetSessions.remove(sessionId);
+    }
+
+    @Override
+    public void revoke(String sessionId, long expiresAtMillis) {
+        long now = System.currentTimeMillis();
+
+        // 만료 시각이 지난 토큰은 서명 검증에서 이미 거부되므로 정리
+        revokedTokens.values().removeIf(expiresAt -> expiresAt <= now);
+        revokedTokens.merge(sessionId, expiresAtMillis, Math::max);
+    }
+
+    @Override
+    public boolean isRevoked(String sessionId) {
+        return revokedTokens.containsKey(sessionId);
+    }
+}
@@ -0,0 +1,164 @@
+package com.company.erp.common.session;
+
+import com.company.erp.common.session.mapper.SessionRegistryMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 여러 노드가 공유하는 세션 레지스트리 (SSRG 테이블)
+ * - 로그인/로그아웃/강퇴 표식은 DB에 바로 반영
+ * - 강퇴 대상 여부(isLogoutTarget)는 요청마다 호출되므로 로컬 근거리 캐시만 조회
+ *   근거리 캐시는 near-cache-ttl-ms 주기로 DB의 강퇴 대상 전체로 교체
+ *   -> 다른 노드에서 강퇴된 세션은 최대 TTL만큼 늦게 차단될 수 있음
+ * - 강퇴 처리(removeLogoutTarget)는 DB DELETE 영향 행으로 판단하므로 노드가 여러 대여도 한 번만 성공
+ * - 토큰 폐기 기록(SSRV)도 같은 방식으로 근거리 캐시에서 조회하고, 토큰 만료 시각이 지나면 정리
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.session.registry.store", havingValue = "jdbc")
+public class JdbcSessionRegistryStore implements SessionRegistryStore {
+
+    private static final long PURGE_INTERVAL_MS = 10 * 60 * 1000L;
+
+    private final SessionRegistryMapper sessionRegistryMapper;
+    private final long nearCacheTtlMs;
+    private final Duration sessionTimeout;
+
+    // 강퇴 대상 sessionId 근거리 캐시 (갱신 시 통째로 교체)
+    private volatile Set<String> logoutTargets = ConcurrentHashMap.newKeySet();
+
+    // 폐기된 토큰 ID 근거리 캐시 (갱신 시 통째로 교체)
+    private volatile Set<String> revokedTokens = ConcurrentHashMap.newKeySet();
+
+    private ScheduledExecutorService refresher;
+
+    public JdbcSessionRegistryStore(SessionRegistryMapper sessionRegistryMapper,
+                                    @Value("${app.session.registry.near-cache-ttl-ms:1000}") long nearCacheTtlMs,
+                                    @Value("${server.servlet.session.timeout:30m}") Duration sessionTimeout) {
+        this.sessionRegistryMapper = sessionRegistryMapper;
+        this.nearCacheTtlMs = nearCacheTtlMs;
+        this.sessionTimeout = sessionTimeout;
+    }
+
+    @PostConstruct
+    public void start() {
+        refresher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "session-registry-refresher");
+            t.setDaemon(true);
+            return t;
+        });
+        refresher.scheduleWithFixedDelay(this::refreshQuietly, 0, nearCacheTtlMs, TimeUnit.MILLISECONDS);
+        refresher.scheduleWithFixedDelay(this::purgeQuietly, PURGE_INTERVAL_MS, PURGE_INTERVAL_MS, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (refresher != null) refresher.shutdownNow();
+    }
+
+    @Override
+    public String findSessionId(String userId) {
+        return sessionRegistryMapper.selectSessionIdByUserId(userId);
+    }
+
+    @Override
+    @Transactional
+    public void registerLogin(String userId, String sessionId) {
+        // 기존 로그인 행 정리 (강퇴 표식이 남은 행은 해당 세션 요청 시 처리되도록 유지)
+        sessionRegistryMapper.deleteActiveByUserId(userId, sessionId);
+        sessionRegistryMapper.upsertLogin(userId, sessionId);
+    }
+
+    @Override
+    public void markLogoutTarget(String sessionId) {
+        sessionRegistryMapper.upsertLogoutTarget(sessionId);
+        logoutTargets.add(sessionId);
+    }
+
+    @Override
+    public boolean removeLogoutTarget(String sessionId) {
+        logoutTargets.remove(sessionId);
+        return sessionRegistryMapper.deleteLogoutTarget(sessionId) == 1;
+    }
+
+    @Override
+    public boolean isLogoutTarget(String sessionId) {
+        return logoutTargets.contains(sessionId);
+    }
+
+    @Override
+    public void unmarkLogoutTarget(String sessionId) {
+        // 표식 행은 이미 다른 세션으로 교체된 로그인이므로 행째 제거
+        logoutTargets.remove(sessionId);
+        sessionRegistryMapper.deleteLogoutTarget(sessionId);
+    }
+
+    @Override
+    public void unregister(String userId, String sessionId) {
+        // SESSION_ID가 PK라 userId 매핑/역방향/표식이 한 행에 있음
+        unregisterBySessionId(sessionId);
+    }
+
+    @Override
+    public void unregisterBySessionId(String sessionId) {
+        logoutTargets.remove(sessionId);
+        sessionRegistryMapper.deleteBySessionId(sessionId);
+    }
+
+    @Override
+    public void revoke(String sessionId, long expiresAtMillis) {
+        LocalDateTime expireDate = LocalDateTime.ofInstant(Instant.ofEpochMilli(expiresAtMillis), ZoneId.systemDefault());
+        sessionRegistryMapper.upsertRevokedToken(sessionId, expireDate);
+        revokedTokens.add(sessionId);
+    }
+
+    @Override
+    public boolean isRevoked(String sessionId) {
+        return revokedTokens.contains(sessionId);
+    }
+
+    // DB의 강퇴 대상/폐기 토큰 전체로 근거리 캐시 교체
+    void refreshLogoutTargets() {
+        Set<String> fresh = ConcurrentHashMap.newKeySet();
+        fresh.addAll(sessionRegistryMapper.selectLogoutTargets());
+        logoutTargets = fresh;
+
+        Set<String> revoked = ConcurrentHashMap.newKeySet();
+        revoked.addAll(sessionRegistryMapper.selectRevokedTokens(LocalDateTime.now()));
+        revokedTokens = revoked;
+    }
+
+    private void refreshQuietly() {
+        try {
+            refreshLogoutTargets();
+        } catch (RuntimeException e) {
+            // 갱신 실패 시 이전 캐시 유지, 다음 주기에 재시도
+            log.warn("세션 레지스트리 강퇴 대상 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    // 세션 타임아웃이 지난 강퇴 표식, 만료 시각이 지난 폐기 기록은 더 이상 요청이 올 수 없으므로 정리
+    private void purgeQuietly() {
+        try {
+            sessionRegistryMapper.deleteLogoutTargetsBefore(LocalDateTime.now().minus(sessionTimeout));
+            sessionRegistryMapper.deleteRevokedTokensBefore(LocalDateTime.now());
+        } catch (RuntimeException e) {
+            log.warn("세션 레지스트리 강퇴 표식 정리 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -1,28 +1,37 @@
 package com.company.erp.common.session;
 
-import com.company.erp.common.auth.RequireRole;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
 import org.springframework.stereotype.Component;
 import org.springframework.web.method.HandlerMethod;
-import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
 
-import java.util.Arrays;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Component
 @RequiredArgsConstructor
-public class SessionInterceptor implements HandlerInterceptor {
+public class SessionInterceptor implements AsyncHandlerInterceptor, ApplicationListener<ContextRefreshedEvent> {
 
     private final SessionRegistry sessionRegistry;
 
+    // 컨트롤러 메서드 -> 세션 가드 정보 (@SessionIgnore, @RequireRole)
+    private final Map<Method, HandlerDescriptor> descriptors = new ConcurrentHashMap<>();
+
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
             throws Exception {
 
+        HandlerDescriptor descriptor = describe(handler);
+
         // 0) @SessionIgnore면 스킵
-        if (isSessionIgnored(handler)) return true;
+        if (descriptor.isIgnored()) return true;
 
         HttpSession session = request.getSession(false);
 
@@ -35,11 +44,12 @@ public class SessionInterceptor implements HandlerInterceptor {
 
 
         // 2) 중복로그인 강퇴 대상이면 remove 성공한 첫 요청만 실제 강퇴 처리 -> 동시 요청 시 중복 invalidate 방지
-        if (sessionRegistry.removeLogoutTarget(sessionId)) {
+        // - isLogoutTarget은 로컬 조회만 하므로 대부분의 요청은 저장소(DB)까지 가지 않음
+        if (sessionRegistry.isLogoutTarget(sessionId) && sessionRegistry.removeLogoutTarget(sessionId)) {
             // 레지스트리 정리(양방향 맵/표식)
             sessionRegistry.unregisterBySessionId(sessionId);
 
-            // 세션 종료
+            // 세션 종료 (토큰 모드는 토큰 ID가 폐기되어 이후 같은 토큰 요청은 필터에서 세션 없음 -> 440)
             try {
                 session.invalidate();
             } catch (IllegalStateException ignore) {
@@ -60,55 +70,51 @@ public class SessionInterceptor implements HandlerInterceptor {
         // 4) 권한 체크 (@RequireRole)
         // - 컨트롤러/메서드에 @RequireRole이 붙어있으면 loginUser.role로 권한 검사
         // - 없으면(권한 제한 없음) 그냥 통과
-        if (!checkRoleAuthorization(handler, loginUser, response)) {
-            return false; // checkRoleAuthorization 내부에서 응답 처리(403)
+        if (!descriptor.allows(loginUser.getRole())) {
+            response.setStatus(HttpServletResponse.SC_FORBIDDEN); // 403
+            return false;
         }
 
+        // 5) 서비스에서 쓸 현재 사용자 설정 (afterCompletion / afterConcurrentHandlingStarted에서 해제)
+        CurrentUser.set(loginUser);
         return true;
     }
 
-    // @SessionIgnore가 붙은 컨트롤러/메서드는 세션 가드 대상에서 제외
-    private boolean isSessionIgnored(Object handler) {
-        if (!(handler instanceof HandlerMethod)) return false;
-
-        HandlerMethod hm = (HandlerMethod) handler;
-
-        if (hm.hasMethodAnnotation(SessionIgnore.class)) return true;
-        return hm.getBeanType().isAnnotationPresent(SessionIgnore.class);
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        CurrentUser.clear();
     }
 
-    // 권한 체크 로직
-    private boolean checkRoleAuthorization(Object handler, SessionUser loginUser, HttpServletResponse response) {
-        if (!(handler instanceof HandlerMethod)) return true;
-
-        HandlerMethod hm = (HandlerMethod) handler;
-
-        // 메서드 우선 → 없으면 클래스에서 탐색
-        RequireRole requireRole = hm.getMethodAnnotation(RequireRole.class);
-        if (requireRole == null) {
-            requireRole = hm.getBeanType().getAnnotation(RequireRole.class);
-        }
-
-        // @RequireRole 없으면 제한 없음
-        if (requireRole == null) return true;
+    // 비동기 핸들러(SSE 등)는 최초 디스패치에서 afterCompletion이 호출되지 않으므로 여기서 해제
+    // - 해제하지 않으면 요청 스레드가 다음 요청(@SessionIgnore 등)까지 이전 사용자를 들고 감
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        CurrentUser.clear();
+    }
 
-        String userRole = loginUser.getRole(); // "BUYER"/"USER"/"VENDOR"/"ADMIN"
-        if (userRole == null || userRole.isBlank()) {
-            response.setStatus(HttpServletResponse.SC_FORBIDDEN); // 403
-            return false;
-        }
-        String normalized = userRole.trim();
+    /*
+     기동 완료 시 등록된 모든 컨트롤러 메서드의 가드 정보를 미리 계산
+     - 요청 경로에서는 Method 키로 한 번 조회만 하고 리플렉션/스트림/문자열 정규화를 하지 않음
+     - 요청마다 넘어오는 HandlerMethod는 빈이 해석된 새 인스턴스라 Method를 키로 사용
+    */
+    @Override
+    public void onApplicationEvent(ContextRefreshedEvent event) {
+        event.getApplicationContext()
+                .getBeansOfType(RequestMappingHandlerMapping.class)
+                .values()
+                .forEach(mapping -> mapping.getHandlerMethods().values()
+                        .forEach(hm -> descriptors.put(hm.getMethod(), HandlerDescriptor.of(hm))));
+    }
 
-        boolean allowed = Arrays.stream(requireRole.value())
-                .map(String::trim)
-                .anyMatch(r -> r.equalsIgnoreCase(normalized));
+    // 미리 계산되지 않은 핸들러(다른 HandlerMapping 등)는 최초 요청 시 계산해서 보관
+    private HandlerDescriptor describe(Object handler) {
+        if (!(handler instanceof HandlerMethod hm)) return HandlerDescriptor.UNRESTRICTED;
 
-        if (!allowed) {
-            response.setStatus(HttpServletResponse.SC_FORBIDDEN); // 403
-            return false;
+        HandlerDescriptor descriptor = descriptors.get(hm.getMethod());
+        if (descriptor == null) {
+            descriptor = descriptors.computeIfAbsent(hm.getMethod(), m -> HandlerDescriptor.of(hm));
         }
-
-        return true;
+        return descriptor;
     }
 
     // 세션이 유효하지 않을 때 요청을 어떻게 끝낼지 결정 -> redirect 없이 HTTP 상태코드만 내려서 요청 차단
@@ -1,26 +1,22 @@
 package com.company.erp.common.session;
 
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
-import java.util.Map;
-import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
-
+/**
+ * 로그인 세션 레지스트리 (중복로그인 강퇴용)
+ * - userId 정규화/null 방어만 하고 실제 저장은 SessionRegistryStore에 위임
+ */
 @Component
+@RequiredArgsConstructor
 public class SessionRegistry {
 
-    // userId(key), sessionId(value) - 로그인 된 userId의 sessionId 저장할 맵
-    private final Map<String, String> userToSession = new ConcurrentHashMap<>();
-
-    // sessionId(key), userId(value)  역방향도 저장
-    private final Map<String, String> sessionToUser = new ConcurrentHashMap<>();
-
-    // 로그아웃 대상인 sessionId ( 로그인했던 sessionId )
-    private final Set<String> logoutTargetSessions = ConcurrentHashMap.newKeySet();
+    private final SessionRegistryStore store;
 
     // 기존 로그인된 세션 있는지 확인 (없으면 null)
     public String getExistingSessionId(String userId) {
-        return userToSession.get(normalize(userId));
+        String uid = normalize(userId);
+        return uid.isEmpty() ? null : store.findSessionId(uid);
     }
 
     // 로그인 후 userId에 현재 sessionId 등록 - 같은 userId가 재로그인하면 이전 sessionId 역맵 정리
@@ -28,62 +24,54 @@ public class SessionRegistry {
         String uid = normalize(userId);
         if (uid.isEmpty() || sessionId == null) return;
 
-        // 기존 세션이 있으면 역방향 맵에서 제거
-        String oldSessionId = userToSession.put(uid, sessionId);
-        if (oldSessionId != null) sessionToUser.remove(oldSessionId);
-
-        // 새 세션 역방향 등록
-        sessionToUser.put(sessionId, uid);
+        store.registerLogin(uid, sessionId);
     }
 
     // 로그아웃 될 대상인 Id에게 표식남기기
     public void markLogoutTarget(String sessionId) {
-        if (sessionId != null) logoutTargetSessions.add(sessionId);
+        if (sessionId != null) store.markLogoutTarget(sessionId);
     }
 
     // 강제 로그아웃 대상이면 제거하고 true
     public boolean removeLogoutTarget(String sessionId) {
-        return sessionId != null && logoutTargetSessions.remove(sessionId);
+        return sessionId != null && store.removeLogoutTarget(sessionId);
     }
 
-    // 현재 요청된 세션이 로그아웃 될 대상인지 판단
+    // 현재 요청된 세션이 로그아웃 될 대상인지 판단 (로컬 조회만 하므로 요청마다 호출 가능)
     public boolean isLogoutTarget(String sessionId) {
-        return sessionId != null && logoutTargetSessions.contains(sessionId);
+        return sessionId != null && store.isLogoutTarget(sessionId);
     }
 
     // 강제 로그아웃 처리가 끝났으면 대상에서 제거
     public void unmarkLogoutTarget(String sessionId) {
-        if (sessionId != null) logoutTargetSessions.remove(sessionId);
+        if (sessionId != null) store.unmarkLogoutTarget(sessionId);
     }
 
     // 로그아웃시 호출하여 세션정리
     public void unregister(String userId, String sessionId) {
         String uid = normalize(userId);
-        if (uid.isEmpty()) return;
-
-        String mapped = userToSession.get(uid);
-        if (sessionId != null && sessionId.equals(mapped)) {
-            userToSession.remove(uid);
-        }
+        if (uid.isEmpty() || sessionId == null) return;
 
-        if (sessionId != null) {
-            sessionToUser.remove(sessionId);
-            unmarkLogoutTarget(sessionId);
-        }
+        store.unregister(uid, sessionId);
     }
 
     // 세션 만료/강제 종료 등 (userId를 모를 때) sessionId로 정리
     public void unregisterBySessionId(String sessionId) {
         if (sessionId == null) return;
 
-        String uid = sessionToUser.remove(sessionId); // sessionId -> userId
-        if (uid != null) {
-            String mapped = userToSession.get(uid);
-            if (sessionId.equals(mapped)) {
-                userToSession.remove(uid);
-            }
-        }
-        unmarkLogoutTarget(sessionId);
+        store.unregisterBySessionId(sessionId);
+    }
+
+    // 토큰 모드에서 로그아웃/강퇴된 토큰 ID 폐기 - 서명이 유효한 토큰 사본이 남아 있어도 만료 시각까지 거부
+    public void revoke(String sessionId, long expiresAtMillis) {
+        if (sessionId == null || expiresAtMillis <= System.currentTimeMillis()) return;
+
+        store.revoke(sessionId, expiresAtMillis);
+    }
+
+    // 폐기된 토큰인지 판단 (로컬 조회만 하므로 요청마다 호출 가능)
+    public boolean isRevoked(String sessionId) {
+        return sessionId != null && store.isRevoked(sessionId);
     }
 
     // 공백 제거 처리
@@ -0,0 +1,42 @@
+package com.company.erp.common.session;
+
+/**
+ * 로그인 세션 레지스트리 저장소 SPI
+ * - userId -> 최신 로그인 sessionId, sessionId -> userId, 중복로그인 강퇴 표식, 토큰 폐기 기록을 보관
+ * - userId는 SessionRegistry에서 정규화(trim + 대문자)되어 전달되며, 인자는 null이 아님
+ * - memory : 단일 노드용 (기본값), jdbc : 여러 노드가 DB 테이블(SSRG)을 공유
+ *
+ * 설정: app.session.registry.store=memory | jdbc
+ */
+public interface SessionRegistryStore {
+
+    // userId의 최신 로그인 sessionId (없으면 null)
+    String findSessionId(String userId);
+
+    // userId의 최신 로그인 세션을 sessionId로 교체 (이전 세션의 역방향 매핑 정리)
+    void registerLogin(String userId, String sessionId);
+
+    // 중복로그인 강퇴 표식 남기기
+    void markLogoutTarget(String sessionId);
+
+    // 강퇴 표식이 있으면 제거하고 true - 여러 요청/노드 중 한 번만 true
+    boolean removeLogoutTarget(String sessionId);
+
+    // 강퇴 대상인지 확인 (요청마다 호출되므로 로컬 조회만 수행해야 함)
+    boolean isLogoutTarget(String sessionId);
+
+    // 강퇴 표식만 제거
+    void unmarkLogoutTarget(String sessionId);
+
+    // 로그아웃 - sessionId가 userId의 최신 세션이면 매핑 제거, 역방향/표식 정리
+    void unregister(String userId, String sessionId);
+
+    // 세션 만료/강제 종료 등 (userId를 모를 때) sessionId로 정리
+    void unregisterBySessionId(String sessionId);
+
+    // 토큰 폐기 기록 (토큰 모드 로그아웃/강퇴) - expiresAtMillis 이후에는 토큰 자체가 만료되므로 정리해도 됨
+    void revoke(String sessionId, long expiresAtMillis);
+
+    // 폐기된 토큰인지 확인 (요청마다 호출되므로 로컬 조회만 수행, 기록을 소비하지 않음)
+    boolean isRevoked(String sessionId);
+}
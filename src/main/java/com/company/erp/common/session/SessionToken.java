@@ -0,0 +1,24 @@
+package com.company.erp.common.session;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 검증된 세션 토큰 내용 (토큰 모드)
+ * - id : 세션 ID 역할 (중복로그인 강퇴 표식 키)
+ * - issuedAt / expiresAt : epoch 초
+ */
+@Getter
+@RequiredArgsConstructor
+public final class SessionToken {
+
+    private final String id;
+    private final long issuedAt;
+    private final long expiresAt;
+    private final SessionUser user;
+
+    // 유효기간 절반이 지나면 재발급 (세션 타임아웃처럼 요청이 있으면 연장)
+    boolean needsRefresh(long nowEpochSec) {
+        return nowEpochSec >= issuedAt + (expiresAt - issuedAt) / 2;
+    }
+}
@@ -0,0 +1,157 @@
+package com.company.erp.common.session;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+
+/**
+ * HMAC-SHA256 서명 세션 토큰 (app.session.mode=token)
+ * - 형식: Base64Url(payload) + "." + Base64Url(HMAC(payload))
+ * - payload: 버전, 토큰ID, 발급/만료 시각, SessionUser 필드 (DataOutput 바이너리)
+ * - 키는 기동 시 한 번만 해석하고, Mac은 스레드별로 재사용
+ */
+@Component
+@ConditionalOnProperty(name = "app.session.mode", havingValue = "token")
+public class SessionTokenCodec {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final byte VERSION = 1;
+    private static final int TOKEN_ID_BYTES = 16;
+
+    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecretKeySpec keySpec;
+    private final Duration ttl;
+
+    private final ThreadLocal<Mac> macHolder = ThreadLocal.withInitial(this::newMac);
+
+    public SessionTokenCodec(@Value("${app.session.token.secret}") String secretBase64,
+                             @Value("${server.servlet.session.timeout:30m}") Duration ttl) {
+        byte[] secret = Base64.getDecoder().decode(secretBase64);
+        if (secret.length < 32) {
+            throw new IllegalArgumentException("세션 토큰 서명 키는 32바이트 이상이어야 합니다. 현재 길이: " + secret.length);
+        }
+        this.keySpec = new SecretKeySpec(secret, ALGORITHM);
+        this.ttl = ttl;
+    }
+
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    // 새 토큰 ID (세션 ID 역할)
+    public String newTokenId() {
+        byte[] id = new byte[TOKEN_ID_BYTES];
+        SECURE_RANDOM.nextBytes(id);
+        return ENCODER.encodeToString(id);
+    }
+
+    /**
+     * 토큰 발급 - 만료 시각 = nowEpochSec + ttl
+     */
+    public String issue(String tokenId, SessionUser user, long nowEpochSec) {
+        byte[] payload = writePayload(tokenId, nowEpochSec, nowEpochSec + ttl.getSeconds(), user);
+        return ENCODER.encodeToString(payload) + "." + ENCODER.encodeToString(sign(payload));
+    }
+
+    /**
+     * 토큰 검증 - 형식 오류/서명 불일치/만료면 null
+     */
+    public SessionToken verify(String token, long nowEpochSec) {
+        if (token == null) return null;
+
+        int dot = token.indexOf('.');
+        if (dot <= 0 || dot == token.length() - 1) return null;
+
+        byte[] payload;
+        byte[] signature;
+        try {
+            payload = DECODER.decode(token.substring(0, dot));
+            signature = DECODER.decode(token.substring(dot + 1));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+
+        // 상수 시간 비교
+        if (!MessageDigest.isEqual(sign(payload), signature)) return null;
+
+        SessionToken parsed = readPayload(payload);
+        if (parsed == null || parsed.getExpiresAt() <= nowEpochSec) return null;
+        return parsed;
+    }
+
+    private byte[] sign(byte[] payload) {
+        return macHolder.get().doFinal(payload);
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(keySpec);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("세션 토큰 서명 초기화 실패", e);
+        }
+    }
+
+    private static byte[] writePayload(String tokenId, long issuedAt, long expiresAt, SessionUser user) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(192);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            out.writeUTF(tokenId);
+            out.writeLong(issuedAt);
+            out.writeLong(expiresAt);
+            writeNullable(out, user.getUserId());
+            writeNullable(out, user.getIpAddress());
+            writeNullable(out, user.getComType());
+            writeNullable(out, user.getVendorCd());
+            writeNullable(out, user.getUserName());
+            writeNullable(out, user.getDeptCd());
+            writeNullable(out, user.getDeptName());
+            writeNullable(out, user.getRole());
+        } catch (IOException e) {
+            throw new IllegalStateException("세션 토큰 생성 실패", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static SessionToken readPayload(byte[] payload) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            if (in.readByte() != VERSION) return null;
+
+            String tokenId = in.readUTF();
+            long issuedAt = in.readLong();
+            long expiresAt = in.readLong();
+            SessionUser user = new SessionUser(
+                    readNullable(in), readNullable(in), readNullable(in), readNullable(in),
+                    readNullable(in), readNullable(in), readNullable(in), readNullable(in));
+            return new SessionToken(tokenId, issuedAt, expiresAt, user);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static void writeNullable(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) out.writeUTF(value);
+    }
+
+    private static String readNullable(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
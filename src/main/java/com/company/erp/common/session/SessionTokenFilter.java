@@ -0,0 +1,176 @@
+package com.company.erp.common.session;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * 토큰 모드 (app.session.mode=token) - 컨테이너 HttpSession 대신 서명 토큰 쿠키로 로그인 사용자 복원
+ * - 토큰 검증은 HMAC 계산만 하고 서버 저장소를 조회하지 않음 -> 노드 간 sticky session 불필요
+ * - 요청을 래핑해서 getSession()이 토큰 기반 TokenHttpSession을 돌려주므로
+ *   SessionInterceptor, 로그인/로그아웃, 컨트롤러의 @SessionAttribute 코드는 그대로 사용
+ * - 로그인(LOGIN_USER 저장) 시 토큰 발급, 유효기간 절반이 지난 토큰은 요청 시 재발급
+ * - 로그아웃/중복로그인 강퇴(invalidate) 시 쿠키 삭제 + 토큰 ID를 SessionRegistry에 폐기 기록
+ *   -> 복사된 토큰이 남아 있어도 만료 시각까지 세션 없음으로 처리하고 재발급하지 않음
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@ConditionalOnProperty(name = "app.session.mode", havingValue = "token")
+public class SessionTokenFilter extends OncePerRequestFilter {
+
+    public static final String COOKIE_NAME = "ERP_SESSION";
+
+    private final SessionTokenCodec codec;
+    private final SessionRegistry sessionRegistry;
+    private final boolean secureCookie;
+    private final String sameSite;
+
+    public SessionTokenFilter(SessionTokenCodec codec,
+                              SessionRegistry sessionRegistry,
+                              @Value("${server.servlet.session.cookie.secure:false}") boolean secureCookie,
+                              @Value("${server.servlet.session.cookie.same-site:lax}") String sameSite) {
+        this.codec = codec;
+        this.sessionRegistry = sessionRegistry;
+        this.secureCookie = secureCookie;
+        this.sameSite = sameSite;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+
+        long now = System.currentTimeMillis() / 1000;
+        SessionToken token = codec.verify(readCookie(request), now);
+
+        // 로그아웃/강퇴로 폐기된 토큰은 서명이 유효해도 세션 없음 (표식을 소비하지 않으므로 몇 번이 와도 거부)
+        if (token != null && sessionRegistry.isRevoked(token.getId())) {
+            token = null;
+            addCookie(response, "", Duration.ZERO);
+        }
+
+        TokenSessionRequest wrapped = new TokenSessionRequest(request, response, token);
+
+        // 응답 본문이 쓰이기 전에 재발급 쿠키를 붙여야 하므로 체인 실행 전에 처리
+        if (token != null && token.needsRefresh(now)) {
+            writeToken(response, token.getId(), token.getUser());
+        }
+
+        chain.doFilter(wrapped, response);
+    }
+
+    private static String readCookie(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) return null;
+        for (Cookie c : cookies) {
+            if (COOKIE_NAME.equals(c.getName())) return c.getValue();
+        }
+        return null;
+    }
+
+    private void writeToken(HttpServletResponse response, String tokenId, SessionUser user) {
+        String token = codec.issue(tokenId, user, System.currentTimeMillis() / 1000);
+        addCookie(response, token, codec.getTtl());
+    }
+
+    private void addCookie(HttpServletResponse response, String value, Duration maxAge) {
+        ResponseCookie cookie = ResponseCookie.from(COOKIE_NAME, value)
+                .httpOnly(true)
+                .secure(secureCookie)
+                .sameSite(sameSite)
+                .path("/")
+                .maxAge(maxAge)
+                .build();
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+    }
+
+    /**
+     * 토큰 기반 세션을 제공하는 요청 래퍼
+     */
+    private final class TokenSessionRequest extends HttpServletRequestWrapper implements TokenHttpSession.Listener {
+
+        private final HttpServletResponse response;
+        private TokenHttpSession session;
+
+        private TokenSessionRequest(HttpServletRequest request, HttpServletResponse response, SessionToken token) {
+            super(request);
+            this.response = response;
+            if (token != null) {
+                session = newSession(token.getId(), token.getIssuedAt() * 1000, false);
+                session.restore(token.getUser());
+            }
+        }
+
+        @Override
+        public HttpSession getSession(boolean create) {
+            if (session != null && session.isInvalid()) session = null;
+            if (session == null && create) {
+                session = newSession(codec.newTokenId(), System.currentTimeMillis(), true);
+            }
+            return session;
+        }
+
+        @Override
+        public HttpSession getSession() {
+            return getSession(true);
+        }
+
+        @Override
+        public String changeSessionId() {
+            if (session == null || session.isInvalid()) {
+                throw new IllegalStateException("세션이 존재하지 않습니다.");
+            }
+            session.changeId(codec.newTokenId());
+            Object user = session.getAttribute(SessionConst.LOGIN_USER);
+            if (user instanceof SessionUser sessionUser) {
+                writeToken(response, session.getId(), sessionUser);
+            }
+            return session.getId();
+        }
+
+        @Override
+        public String getRequestedSessionId() {
+            return session == null ? null : session.getId();
+        }
+
+        @Override
+        public boolean isRequestedSessionIdValid() {
+            return session != null && !session.isInvalid() && !session.isNew();
+        }
+
+        @Override
+        public void loginUserChanged(TokenHttpSession changed, SessionUser user) {
+            if (user != null) {
+                writeToken(response, changed.getId(), user);
+            } else {
+                addCookie(response, "", Duration.ZERO);
+            }
+        }
+
+        @Override
+        public void invalidated(TokenHttpSession invalidated) {
+            // 이 ID로 발급된 토큰(요청 중 재발급 포함)은 늦어도 지금 + ttl에 만료
+            sessionRegistry.revoke(invalidated.getId(), System.currentTimeMillis() + codec.getTtl().toMillis());
+            addCookie(response, "", Duration.ZERO);
+        }
+
+        private TokenHttpSession newSession(String id, long creationTime, boolean isNew) {
+            return new TokenHttpSession(getServletContext(), this, id, creationTime,
+                    (int) codec.getTtl().getSeconds(), isNew);
+        }
+    }
+}
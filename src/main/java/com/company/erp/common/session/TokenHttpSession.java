@@ -0,0 +1,140 @@
+package com.company.erp.common.session;
+
+import jakarta.servlet.ServletContext;
+import jakarta.servlet.http.HttpSession;
+
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 토큰 모드에서 요청 범위로만 존재하는 HttpSession
+ * - 서버에 저장하지 않고, 기존 컨트롤러의 @SessionAttribute / getAttribute(LOGIN_USER)가 그대로 동작하도록 흉내
+ * - LOGIN_USER 저장/제거 시 토큰 쿠키 발급/삭제, invalidate 시 토큰 폐기를 요청 래퍼에 위임
+ */
+final class TokenHttpSession implements HttpSession {
+
+    interface Listener {
+        void loginUserChanged(TokenHttpSession session, SessionUser user);
+
+        void invalidated(TokenHttpSession session);
+    }
+
+    private final ServletContext servletContext;
+    private final Listener listener;
+    private final long creationTime;
+    private final boolean isNew;
+    private final Map<String, Object> attributes = new HashMap<>(4);
+
+    private String id;
+    private int maxInactiveInterval;
+    private boolean invalid;
+
+    TokenHttpSession(ServletContext servletContext, Listener listener, String id,
+                     long creationTime, int maxInactiveInterval, boolean isNew) {
+        this.servletContext = servletContext;
+        this.listener = listener;
+        this.id = id;
+        this.creationTime = creationTime;
+        this.maxInactiveInterval = maxInactiveInterval;
+        this.isNew = isNew;
+    }
+
+    // 복원된 토큰의 사용자 (쿠키 재발급 없이 보관만)
+    void restore(SessionUser user) {
+        attributes.put(SessionConst.LOGIN_USER, user);
+    }
+
+    void changeId(String newId) {
+        this.id = newId;
+    }
+
+    boolean isInvalid() {
+        return invalid;
+    }
+
+    @Override
+    public long getCreationTime() {
+        checkValid();
+        return creationTime;
+    }
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    @Override
+    public long getLastAccessedTime() {
+        checkValid();
+        return System.currentTimeMillis();
+    }
+
+    @Override
+    public ServletContext getServletContext() {
+        return servletContext;
+    }
+
+    @Override
+    public void setMaxInactiveInterval(int interval) {
+        this.maxInactiveInterval = interval;
+    }
+
+    @Override
+    public int getMaxInactiveInterval() {
+        return maxInactiveInterval;
+    }
+
+    @Override
+    public Object getAttribute(String name) {
+        checkValid();
+        return attributes.get(name);
+    }
+
+    @Override
+    public Enumeration<String> getAttributeNames() {
+        checkValid();
+        return Collections.enumeration(attributes.keySet());
+    }
+
+    @Override
+    public void setAttribute(String name, Object value) {
+        checkValid();
+        if (value == null) {
+            removeAttribute(name);
+            return;
+        }
+        attributes.put(name, value);
+        if (SessionConst.LOGIN_USER.equals(name) && value instanceof SessionUser user) {
+            listener.loginUserChanged(this, user);
+        }
+    }
+
+    @Override
+    public void removeAttribute(String name) {
+        checkValid();
+        if (attributes.remove(name) != null && SessionConst.LOGIN_USER.equals(name)) {
+            listener.loginUserChanged(this, null);
+        }
+    }
+
+    @Override
+    public void invalidate() {
+        checkValid();
+        invalid = true;
+        attributes.clear();
+        listener.invalidated(this);
+    }
+
+    @Override
+    public boolean isNew() {
+        checkValid();
+        return isNew;
+    }
+
+    // 컨테이너 세션과 같이 invalidate 이후 접근은 IllegalStateException
+    private void checkValid() {
+        if (invalid) throw new IllegalStateException("이미 종료된 세션입니다.");
+    }
+}
@@ -0,0 +1,66 @@
+package com.company.erp.common.session.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * SSRG (세션 레지스트리) - 노드 간 공유되는 로그인 세션/강퇴 표식
+ *
+ * CREATE TABLE SSRG (
+ *     SESSION_ID VARCHAR(100) NOT NULL PRIMARY KEY,
+ *     USER_ID    VARCHAR(50)  NULL,
+ *     LOGOUT_YN  CHAR(1)      NOT NULL DEFAULT 'N',
+ *     REG_DATE   DATETIME     NOT NULL,
+ *     KEY IX_SSRG_USER (USER_ID, LOGOUT_YN),
+ *     KEY IX_SSRG_LOGOUT (LOGOUT_YN, REG_DATE)
+ * );
+ *
+ * SSRV (토큰 폐기) - 토큰 모드에서 로그아웃/강퇴된 토큰 ID, 토큰 만료 시각이 지나면 정리
+ *
+ * CREATE TABLE SSRV (
+ *     SESSION_ID  VARCHAR(100) NOT NULL PRIMARY KEY,
+ *     EXPIRE_DATE DATETIME     NOT NULL,
+ *     KEY IX_SSRV_EXPIRE (EXPIRE_DATE)
+ * );
+ */
+@Mapper
+public interface SessionRegistryMapper {
+
+    // userId의 최신 로그인 세션 (강퇴 표식 행 제외)
+    String selectSessionIdByUserId(@Param("userId") String userId);
+
+    // userId의 기존 로그인 행 중 강퇴 표식 없는 행 삭제 (현재 세션 제외)
+    int deleteActiveByUserId(@Param("userId") String userId,
+                             @Param("sessionId") String sessionId);
+
+    // 로그인 행 등록 (같은 sessionId 재로그인이면 갱신)
+    int upsertLogin(@Param("userId") String userId,
+                    @Param("sessionId") String sessionId);
+
+    // 강퇴 표식 (행이 없으면 표식만 있는 행으로 등록)
+    int upsertLogoutTarget(@Param("sessionId") String sessionId);
+
+    // 강퇴 표식 행 삭제 - 영향 행 1이면 이 호출이 표식을 가져감
+    int deleteLogoutTarget(@Param("sessionId") String sessionId);
+
+    int deleteBySessionId(@Param("sessionId") String sessionId);
+
+    // 근거리 캐시 갱신용 전체 강퇴 대상
+    List<String> selectLogoutTargets();
+
+    // 처리되지 않고 남은 오래된 강퇴 표식 정리 (노드 장애 등으로 세션 종료 이벤트를 놓친 경우)
+    int deleteLogoutTargetsBefore(@Param("before") LocalDateTime before);
+
+    // 토큰 폐기 기록 (같은 토큰 ID면 더 늦은 만료 시각 유지)
+    int upsertRevokedToken(@Param("sessionId") String sessionId,
+                           @Param("expireDate") LocalDateTime expireDate);
+
+    // 근거리 캐시 갱신용 - 아직 만료되지 않은 폐기 토큰 ID
+    List<String> selectRevokedTokens(@Param("now") LocalDateTime now);
+
+    // 만료 시각이 지난 폐기 기록 정리
+    int deleteRevokedTokensBefore(@Param("before") LocalDateTime before);
+}
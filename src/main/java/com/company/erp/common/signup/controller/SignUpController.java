@@ -61,10 +61,7 @@ public class SignUpController {
         String vendorCode = responseDto.getVendorCode();
         String askNum = responseDto.getAskNum();
         if (files != null && !files.isEmpty()) {
-
-            for (MultipartFile file : files) {
-                fileService.upload(file, "OV", askNum, vendorCode, null);
-            }
+            fileService.uploadAll(files, "OV", askNum, vendorCode, null);
         }
         return ApiResponse.ok(null);
     }
@@ -0,0 +1,43 @@
+package com.company.erp.common.util;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 상대 시간 표시 ("방금 전", "5분 전", "3시간 전", "2일 전", 7일 이상은 날짜)
+ * - now는 호출하는 쪽에서 응답당 한 번만 구해서 넘김 (목록 전체가 같은 기준 시각)
+ * - 차이는 초 단위 정수 연산으로 계산하고, 날짜 포맷터는 상수로 재사용
+ */
+public final class RelativeTimeFormatter {
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
+    private static final long MINUTE = 60L;
+    private static final long HOUR = 60L * MINUTE;
+    private static final long DAY = 24L * HOUR;
+
+    private RelativeTimeFormatter() {
+    }
+
+    public static String format(LocalDateTime time, LocalDateTime now) {
+        if (time == null) {
+            return "알 수 없음";
+        }
+
+        long seconds = now.toEpochSecond(ZoneOffset.UTC) - time.toEpochSecond(ZoneOffset.UTC);
+
+        if (seconds < MINUTE) {
+            return "방금 전";
+        } else if (seconds < HOUR) {
+            return (seconds / MINUTE) + "분 전";
+        } else if (seconds < DAY) {
+            return (seconds / HOUR) + "시간 전";
+        } else if (seconds < 7 * DAY) {
+            return (seconds / DAY) + "일 전";
+        } else {
+            // 7일 이상이면 날짜 표시
+            return DATE_FORMAT.format(time);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.company.erp.inventory.dto;
+
+import java.math.BigDecimal;
+
+import lombok.Data;
+
+@Data
+public class PoItemReceiptRow {
+    private String poNo; // 발주번호
+    private String itemCode; // 품목코드
+    private BigDecimal receivedQty; // 누적 입고수량 (정상 상태만)
+    private String warehouseCode; // 기존 GR 저장위치
+}
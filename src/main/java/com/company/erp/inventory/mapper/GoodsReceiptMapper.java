@@ -1,6 +1,7 @@
 package com.company.erp.inventory.mapper;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -8,6 +9,7 @@ import org.apache.ibatis.annotations.Param;
 
 import com.company.erp.inventory.dto.GoodsReceiptDTO;
 import com.company.erp.inventory.dto.GoodsReceiptItemDTO;
+import com.company.erp.inventory.dto.PoItemReceiptRow;
 import com.company.erp.po.dto.PurchaseOrderDTO;
 
 public interface GoodsReceiptMapper {
@@ -37,16 +39,21 @@ public interface GoodsReceiptMapper {
         List<GoodsReceiptItemDTO> selectItems(@Param("grNo") String grNo);
 
         /**
-         * 입고 헤더 등록
+         * 입고번호 목록의 상세 품목 일괄 조회 (목록 화면 N+1 방지)
          */
-        int insertHeader(@Param("dto") GoodsReceiptDTO dto,
+        List<GoodsReceiptItemDTO> selectItemsByGrNos(@Param("grNos") List<String> grNos);
+
+        /**
+         * 입고 헤더 다건 등록 (multi-row insert)
+         */
+        int insertHeaders(@Param("headers") List<GoodsReceiptDTO> headers,
                         @Param("regUserId") String regUserId,
                         @Param("ctrlDeptCd") String ctrlDeptCd);
 
         /**
-         * 입고 상세 품목 등록
+         * 입고 상세 품목 다건 등록 (multi-row insert)
          */
-        int insertItem(@Param("item") GoodsReceiptItemDTO item);
+        int insertItems(@Param("items") List<GoodsReceiptItemDTO> items);
 
         // ========== 입고조정 ==========
         /**
@@ -56,9 +63,10 @@ public interface GoodsReceiptMapper {
                         @Param("modUserId") String modUserId);
 
         /**
-         * 상세 품목 수량 증분 (추가 입고용) - 원자적 증가
+         * 상세 품목 수량 다건 증분 (추가 입고용) - 한 번의 UPDATE로 원자적 증가
+         * - (grNo, itemCode)는 중복 없이 전달
          */
-        int updateItemIncrement(@Param("item") GoodsReceiptItemDTO item,
+        int updateItemsIncrement(@Param("items") List<GoodsReceiptItemDTO> items,
                         @Param("modUserId") String modUserId);
 
         /**
@@ -84,10 +92,9 @@ public interface GoodsReceiptMapper {
                         @Param("modUserId") String modUserId);
 
         /**
-         * 헤더 총액 증분 업데이트 (원자적 증가)
+         * 헤더 총액 다건 증분 업데이트 (품목 금액을 GR별로 합산해 원자적 증가)
          */
-        int updateHeaderAmountIncrement(@Param("grNo") String grNo,
-                        @Param("amount") BigDecimal amount,
+        int updateHeadersAmountIncrement(@Param("items") List<GoodsReceiptItemDTO> items,
                         @Param("modUserId") String modUserId);
 
         /**
@@ -123,6 +130,12 @@ public interface GoodsReceiptMapper {
          */
         Integer getReceivedQuantity(@Param("poNo") String poNo, @Param("itemCode") String itemCode);
 
+        /**
+         * 발주번호 목록의 품목별 입고 수량 + 기존 GR 저장위치 일괄 조회
+         * - getReceivedQuantity / selectWarehouseByPoAndItem 의 다건 버전 (입고대상조회 N+1 방지)
+         */
+        List<PoItemReceiptRow> selectReceiptSummaryByPoNos(@Param("poNos") List<String> poNos);
+
         /**
          * 발주번호로 기존 GR 정보 조회 (중복채번 방지용)
          * - 기존 GR이 있으면 해당 GR번호와 저장위치 반환
@@ -130,9 +143,11 @@ public interface GoodsReceiptMapper {
         Map<String, Object> selectExistingGrByPoNo(@Param("poNo") String poNo);
 
         /**
-         * PO 번호와 품목 코드로 기존 GR 번호 조회 (PO, Item 기준 유일한 활성 GR 찾기)
+         * PO 번호와 품목 코드 목록으로 기존 활성 GR 일괄 조회 + 행 잠금 (PO, Item 기준 유일한 활성 GR 찾기)
+         * - grNo, itemCode, warehouseCode만 채워서 반환
          */
-        String selectExistingGrByPoAndItem(@Param("poNo") String poNo, @Param("itemCode") String itemCode);
+        List<GoodsReceiptItemDTO> selectExistingGrItemsForUpdate(@Param("poNo") String poNo,
+                        @Param("itemCodes") List<String> itemCodes);
 
         /**
          * PO 번호와 품목 코드로 기존 GR의 저장위치 조회 (품목별 입고번호 기준 저장위치 확인용)
@@ -140,12 +155,8 @@ public interface GoodsReceiptMapper {
         String selectWarehouseByPoAndItem(@Param("poNo") String poNo, @Param("itemCode") String itemCode);
 
         /**
-         * 특정 GR의 입고수량 합계 조회 (정상 상태만)
+         * GR 헤더 상태 일괄 재계산 (쓰기 시점에만 호출, 취소 문서 제외)
          */
-        BigDecimal selectGrAccumulatedQty(@Param("grNo") String grNo);
-
-        /**
-         * 특정 GR에 속한 품목들의 발주수량 합계 조회
-         */
-        BigDecimal selectGrOrderQty(@Param("grNo") String grNo);
+        int recalculateHeaderStatus(@Param("grNos") Collection<String> grNos,
+                        @Param("modUserId") String modUserId);
 }
@@ -3,28 +3,36 @@ package com.company.erp.inventory.service;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.stream.Collectors;
 
-import com.company.erp.common.session.SessionConst;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.company.erp.common.dashboard.buyer.counter.DashboardCounters;
+import com.company.erp.common.dashboard.buyer.counter.DashboardDoc;
+import com.company.erp.common.dashboard.live.DashboardEvent;
+import com.company.erp.common.dashboard.live.DashboardEventBus;
 import com.company.erp.common.docNum.service.DocKey;
 import com.company.erp.common.docNum.service.DocNumService;
-import com.company.erp.common.session.SessionUser;
+import com.company.erp.common.session.CurrentUser;
 import com.company.erp.inventory.constants.GoodsReceiptStatus;
 import com.company.erp.inventory.dto.GoodsReceiptDTO;
 import com.company.erp.inventory.dto.GoodsReceiptItemDTO;
+import com.company.erp.inventory.dto.PoItemReceiptRow;
 import com.company.erp.inventory.mapper.GoodsReceiptMapper;
 import com.company.erp.po.dto.PurchaseOrderDTO;
 import com.company.erp.po.dto.PurchaseOrderItemDTO;
 import com.company.erp.po.enums.PoStatusCode;
 import com.company.erp.po.mapper.PurchaseOrderMapper;
 
-import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 
 @Service
@@ -34,7 +42,8 @@ public class GoodsReceiptService {
     private final GoodsReceiptMapper goodsReceiptMapper;
     private final DocNumService docNumService;
     private final PurchaseOrderMapper purchaseOrderMapper;
-    private final HttpSession httpSession;
+    private final DashboardCounters dashboardCounters;
+    private final DashboardEventBus dashboardEventBus;
 
     // 입고대상조회: 입고 가능한 PO 목록 (품목 정보 포함)
     public List<PurchaseOrderDTO> getPendingPOList(
@@ -47,41 +56,63 @@ public class GoodsReceiptService {
         params.put("endDate", endDate);
 
         List<PurchaseOrderDTO> list = goodsReceiptMapper.selectPendingPOList(params);
+        if (list.isEmpty()) {
+            return list;
+        }
+
+        // 1. PO 번호 추출
+        List<String> poNos = list.stream()
+                .map(PurchaseOrderDTO::getPoNo)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+
+        // 2. 품목 / 품목별 입고 요약을 PO 목록 단위로 한 번씩만 조회
+        Map<String, List<PurchaseOrderItemDTO>> itemMap = purchaseOrderMapper.selectItemsByPoNos(poNos).stream()
+                .collect(Collectors.groupingBy(PurchaseOrderItemDTO::getPoNo));
 
-        // 각 PO에 대해 품목 상세 조회하여 추가
+        Map<String, PoItemReceiptRow> receiptMap = goodsReceiptMapper.selectReceiptSummaryByPoNos(poNos).stream()
+                .collect(Collectors.toMap(r -> receiptKey(r.getPoNo(), r.getItemCode()), r -> r));
+
+        // 3. PO별 품목 조립 + 남은 입고 수량 및 기존 GR 저장위치 계산 (품목별 개별 관리)
         for (PurchaseOrderDTO po : list) {
-            if (po.getPoNo() != null) {
-                List<PurchaseOrderItemDTO> items = purchaseOrderMapper.selectItems(po.getPoNo());
-
-                // 각 품목별 남은 입고 수량 및 기존 GR 저장위치 계산 (품목별 개별 관리)
-                for (PurchaseOrderItemDTO item : items) {
-                    // 입고된 수량 조회
-                    Integer receivedQty = goodsReceiptMapper.getReceivedQuantity(po.getPoNo(), item.getItemCode());
-                    if (receivedQty == null)
-                        receivedQty = 0;
-
-                    int remaining = item.getOrderQuantity() - receivedQty;
-                    item.setRemainingQuantity(Math.max(0, remaining));
-
-                    // 품목별로 기존 GR 저장위치 조회 (입고번호 기준)
-                    String existingWarehouse = goodsReceiptMapper.selectWarehouseByPoAndItem(po.getPoNo(), item.getItemCode());
-                    // 기존 GR이 있으면 별도 필드에 저장 (storageLocation은 원래 값 유지)
-                    item.setExistingGrWarehouse(existingWarehouse);
-                }
-
-                po.setItems(items);
+            if (po.getPoNo() == null) {
+                continue;
+            }
+
+            List<PurchaseOrderItemDTO> items = itemMap.getOrDefault(po.getPoNo(), new ArrayList<>());
+            for (PurchaseOrderItemDTO item : items) {
+                PoItemReceiptRow receipt = receiptMap.get(receiptKey(po.getPoNo(), item.getItemCode()));
+
+                // 입고된 수량
+                int receivedQty = (receipt != null && receipt.getReceivedQty() != null)
+                        ? receipt.getReceivedQty().intValue()
+                        : 0;
+
+                int remaining = item.getOrderQuantity() - receivedQty;
+                item.setRemainingQuantity(Math.max(0, remaining));
+
+                // 기존 GR이 있으면 별도 필드에 저장 (storageLocation은 원래 값 유지)
+                item.setExistingGrWarehouse(receipt != null ? receipt.getWarehouseCode() : null);
             }
+
+            po.setItems(items);
         }
 
         return list;
     }
 
+    // PO + 품목 기준 조인 키
+    private static String receiptKey(String poNo, String itemCode) {
+        return poNo + "|" + itemCode;
+    }
+
     // 발주번호로 기존 GR 정보 조회 (API용)
     public Map<String, Object> getExistingGrInfo(String poNo) {
         return goodsReceiptMapper.selectExistingGrByPoNo(poNo);
     }
 
-    // 입고현황 목록 조회
+    // 입고현황 목록 조회 (상태는 쓰기 시점에 확정되므로 조회만 수행)
+    @Transactional(readOnly = true)
     public List<GoodsReceiptDTO> getList(
             String grNo, String vendorName, String status, String startDate, String endDate) {
         Map<String, Object> params = new HashMap<>();
@@ -92,22 +123,22 @@ public class GoodsReceiptService {
         params.put("endDate", endDate);
 
         List<GoodsReceiptDTO> list = goodsReceiptMapper.selectList(params);
+        if (list.isEmpty()) {
+            return list;
+        }
+
+        // 입고 건들의 품목을 한 번에 조회 후 GR 번호 기준으로 그룹핑
+        List<String> grNos = list.stream()
+                .map(GoodsReceiptDTO::getGrNo)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+
+        Map<String, List<GoodsReceiptItemDTO>> itemMap = goodsReceiptMapper.selectItemsByGrNos(grNos).stream()
+                .collect(Collectors.groupingBy(GoodsReceiptItemDTO::getGrNo));
 
-        // 각 입고 건에 대해 품목 상세 조회 및 상태 재계산
         for (GoodsReceiptDTO gr : list) {
             if (gr.getGrNo() != null) {
-                List<GoodsReceiptItemDTO> items = goodsReceiptMapper.selectItems(gr.getGrNo());
-                gr.setItems(items);
-
-                // GR별로 상태 재계산 (GR 번호 기준)
-                String currentUserId = getCurrentUserId();
-                updateGrHeaderStatus(gr.getGrNo(), currentUserId);
-
-                // 재계산된 상태로 다시 조회
-                GoodsReceiptDTO updated = goodsReceiptMapper.selectHeader(gr.getGrNo());
-                if (updated != null) {
-                    gr.setStatus(updated.getStatus());
-                }
+                gr.setItems(itemMap.getOrDefault(gr.getGrNo(), new ArrayList<>()));
             }
         }
 
@@ -115,6 +146,7 @@ public class GoodsReceiptService {
     }
 
     // 입고 상세 조회
+    @Transactional(readOnly = true)
     public GoodsReceiptDTO getDetail(String grNo) {
         GoodsReceiptDTO header = goodsReceiptMapper.selectHeader(grNo);
         if (header == null) {
@@ -124,16 +156,6 @@ public class GoodsReceiptService {
         List<GoodsReceiptItemDTO> items = goodsReceiptMapper.selectItems(grNo);
         header.setItems(items);
 
-        // GR별로 상태 재계산 (GR 번호 기준)
-        String currentUserId = getCurrentUserId();
-        updateGrHeaderStatus(grNo, currentUserId);
-
-        // 재계산된 상태로 다시 조회
-        GoodsReceiptDTO updated = goodsReceiptMapper.selectHeader(grNo);
-        if (updated != null) {
-            header.setStatus(updated.getStatus());
-        }
-
         return header;
     }
 
@@ -169,6 +191,9 @@ public class GoodsReceiptService {
         }
         String vendorCode = poHeader.getVendorCode();
 
+        // 입고 완료 여부로 PO의 입고 대기 집계가 바뀜
+        dashboardCounters.track(DashboardDoc.PO, dto.getPoNo());
+
         // 규격 매핑 정보 준비
         Map<String, String> poSpecMap = new HashMap<>();
         List<PurchaseOrderItemDTO> poItems = purchaseOrderMapper.selectItems(dto.getPoNo());
@@ -176,25 +201,21 @@ public class GoodsReceiptService {
             poSpecMap.put(poItem.getItemCode(), poItem.getSpecification());
         }
 
-        // 2. 신규 입고 품목과 기존 입고(추가) 품목 분류
-        List<GoodsReceiptItemDTO> newItems = new java.util.ArrayList<>();
-        List<GoodsReceiptItemDTO> updateItems = new java.util.ArrayList<>();
+        // 2. 같은 품목이 여러 줄로 들어오면 한 줄로 합산 (PO내 품목별 유일성 보장)
+        List<GoodsReceiptItemDTO> requestItems = mergeByItemCode(dto.getItems());
 
-        for (GoodsReceiptItemDTO item : dto.getItems()) {
-            // 해당 품목에 대한 기존 GR 문서가 있는지 확인 (PO내 품목별 유일성 보장)
-            String existingGrNo = goodsReceiptMapper.selectExistingGrByPoAndItem(dto.getPoNo(), item.getItemCode());
-            if (existingGrNo != null) {
-                item.setGrNo(existingGrNo);
-                updateItems.add(item);
-            } else {
-                newItems.add(item);
-            }
-        }
+        // 3. 기존 활성 GR을 한 번에 조회(행 잠금)하여 신규 / 추가입고 분류
+        List<String> itemCodes = requestItems.stream()
+                .map(GoodsReceiptItemDTO::getItemCode)
+                .collect(Collectors.toList());
+        Map<String, GoodsReceiptItemDTO> existingMap = goodsReceiptMapper
+                .selectExistingGrItemsForUpdate(dto.getPoNo(), itemCodes).stream()
+                .collect(Collectors.toMap(GoodsReceiptItemDTO::getItemCode, e -> e, (first, second) -> first));
 
-        List<String> processedGrNos = new java.util.ArrayList<>();
+        List<GoodsReceiptItemDTO> newItems = new ArrayList<>();
+        List<GoodsReceiptItemDTO> updateItems = new ArrayList<>();
 
-        // 3. 기존 입고 건 업데이트 처리
-        for (GoodsReceiptItemDTO item : updateItems) {
+        for (GoodsReceiptItemDTO item : requestItems) {
             item.setVendorCode(vendorCode);
             item.setCtrlUserId(currentUserId);
             item.setCtrlDeptCd(currentDeptCd);
@@ -203,34 +224,39 @@ public class GoodsReceiptService {
                 item.setItemSpec(poSpecMap.get(item.getItemCode()));
             }
 
-            List<GoodsReceiptItemDTO> dbItems = goodsReceiptMapper.selectItems(item.getGrNo());
-            GoodsReceiptItemDTO existing = dbItems.stream()
-                    .filter(i -> i.getItemCode().equals(item.getItemCode()))
-                    .findFirst()
-                    .orElse(null);
-
+            GoodsReceiptItemDTO existing = existingMap.get(item.getItemCode());
             if (existing != null) {
+                item.setGrNo(existing.getGrNo());
                 // 기존 창고 유지 (입력값 없으면)
                 if (item.getWarehouseCode() == null)
                     item.setWarehouseCode(existing.getWarehouseCode());
-
-                // updateItemIncrement 쿼리가 GR_QT = GR_QT + #{item.grQuantity} 방식으로 동작
-                // 증분 값(item.grQuantity, item.grAmount)을 그대로 전달
-                goodsReceiptMapper.updateItemIncrement(item, currentUserId);
-                
-                // 헤더 총액도 원자적 증분 업데이트 (동시성 성능 최적화)
-                goodsReceiptMapper.updateHeaderAmountIncrement(item.getGrNo(), item.getGrAmount(), currentUserId);
-                
-                processedGrNos.add(item.getGrNo());
+                updateItems.add(item);
+            } else {
+                newItems.add(item);
             }
         }
 
-        // 4. 신규 입고 건 생성 처리 (품목별로 개별 입고문서 생성)
+        List<String> processedGrNos = new ArrayList<>();
+        List<String> createdGrNos = new ArrayList<>();
+
+        // 4. 기존 입고 건: 품목 수량/금액과 헤더 총액을 각각 한 번의 UPDATE로 증분
+        if (!updateItems.isEmpty()) {
+            // GR_QT = GR_QT + 증분 방식이므로 증분 값(grQuantity, grAmount)을 그대로 전달
+            goodsReceiptMapper.updateItemsIncrement(updateItems, currentUserId);
+            goodsReceiptMapper.updateHeadersAmountIncrement(updateItems, currentUserId);
+
+            updateItems.forEach(item -> processedGrNos.add(item.getGrNo()));
+        }
+
+        // 5. 신규 입고 건: 품목별 개별 입고문서를 multi-row insert로 생성
         if (!newItems.isEmpty()) {
-            // 각 품목별로 개별 입고문서 생성
-            for (GoodsReceiptItemDTO item : newItems) {
-                // 품목별로 새로운 입고번호 생성
-                String newGrNo = docNumService.generateDocNumStr(DocKey.GR);
+            // 신규 품목 수만큼 입고번호를 한 번에 채번
+            List<String> newGrNos = docNumService.generateDocNums(DocKey.GR, newItems.size());
+
+            List<GoodsReceiptDTO> newHeaders = new ArrayList<>(newItems.size());
+            for (int i = 0; i < newItems.size(); i++) {
+                GoodsReceiptItemDTO item = newItems.get(i);
+                String newGrNo = newGrNos.get(i);
 
                 // 헤더 생성 (품목별 개별 문서)
                 GoodsReceiptDTO newHeader = new GoodsReceiptDTO();
@@ -240,44 +266,56 @@ public class GoodsReceiptService {
                 newHeader.setStatus(GoodsReceiptStatus.PARTIAL);
                 newHeader.setTotalAmount(item.getGrAmount()); // 품목별 금액
                 newHeader.setRemark(dto.getRemark());
+                newHeaders.add(newHeader);
 
-                goodsReceiptMapper.insertHeader(newHeader, currentUserId, currentDeptCd);
-
-                // 아이템 Insert
                 item.setGrNo(newGrNo);
-                item.setVendorCode(vendorCode);
-                item.setCtrlUserId(currentUserId);
-                item.setCtrlDeptCd(currentDeptCd);
-
-                if (poSpecMap.containsKey(item.getItemCode())) {
-                    item.setItemSpec(poSpecMap.get(item.getItemCode()));
-                }
                 if (item.getStatusCode() == null || item.getStatusCode().isEmpty())
                     item.setStatusCode("N");
                 if (item.getGrDate() == null)
                     item.setGrDate(LocalDateTime.now());
 
-                goodsReceiptMapper.insertItem(item);
-                
                 // 처리된 GR 번호 목록에 추가
                 processedGrNos.add(newGrNo);
             }
-        }
 
-        // 5. 각 GR별 상태 업데이트 및 PO 전체 상태 업데이트
-        for (String grNo : processedGrNos) {
-            updateGrHeaderStatus(grNo, currentUserId);
+            goodsReceiptMapper.insertHeaders(newHeaders, currentUserId, currentDeptCd);
+            goodsReceiptMapper.insertItems(newItems);
+            createdGrNos.addAll(newGrNos);
         }
-        // PO 전체 상태 업데이트 (한 번만 호출)
+
+        // 6. 처리된 GR 상태 + PO 전체 상태를 한 번에 재계산
         if (!processedGrNos.isEmpty()) {
-            updateHeaderStatusByPO(dto.getPoNo(), processedGrNos.get(processedGrNos.size() - 1), currentUserId);
+            refreshStatus(dto.getPoNo(), processedGrNos, currentUserId);
         }
 
         // 마지막 처리된 GR 반환
         String lastProcessedGrNo = processedGrNos.isEmpty() ? null : processedGrNos.get(processedGrNos.size() - 1);
+        // 활동 이력은 새로 만든 GR 문서마다 한 건 (기존 GR 추가입고는 이력 없음), 실시간 전송은 한 번
+        dashboardEventBus.publish(DashboardEvent.GR_CREATED, lastProcessedGrNo, createdGrNos);
         return lastProcessedGrNo != null ? getDetail(lastProcessedGrNo) : null;
     }
 
+    // 같은 품목코드의 요청 줄을 합산 (수량/금액 합계, 나머지 값은 먼저 들어온 줄 기준)
+    private List<GoodsReceiptItemDTO> mergeByItemCode(List<GoodsReceiptItemDTO> items) {
+        Map<String, GoodsReceiptItemDTO> merged = new LinkedHashMap<>();
+        for (GoodsReceiptItemDTO item : items) {
+            GoodsReceiptItemDTO first = merged.putIfAbsent(item.getItemCode(), item);
+            if (first != null) {
+                first.setGrQuantity(first.getGrQuantity().add(item.getGrQuantity()));
+                first.setGrAmount(addNullable(first.getGrAmount(), item.getGrAmount()));
+                if (item.getWarehouseCode() != null)
+                    first.setWarehouseCode(item.getWarehouseCode());
+            }
+        }
+        return new ArrayList<>(merged.values());
+    }
+
+    private BigDecimal addNullable(BigDecimal a, BigDecimal b) {
+        if (a == null) return b;
+        if (b == null) return a;
+        return a.add(b);
+    }
+
     // 입고 품목 수정
     @Transactional
     public GoodsReceiptDTO updateItem(String grNo, String itemCode, GoodsReceiptItemDTO item) {
@@ -294,13 +332,14 @@ public class GoodsReceiptService {
         String currentUserId = getCurrentUserId();
 
         // 품목 수정
+        dashboardCounters.track(DashboardDoc.PO, existing.getPoNo());
         goodsReceiptMapper.updateItem(item, currentUserId);
 
         // 헤더 총액 재계산
         recalculateHeaderAmount(grNo, currentUserId);
 
-        // PO의 입고 상태 재계산
-        updateHeaderStatusByPO(existing.getPoNo(), grNo, currentUserId);
+        // GR / PO 입고 상태 재계산
+        refreshStatus(existing.getPoNo(), List.of(grNo), currentUserId);
 
         return getDetail(grNo);
     }
@@ -334,6 +373,7 @@ public class GoodsReceiptService {
         String currentUserId = getCurrentUserId();
 
         // 품목 취소 처리
+        dashboardCounters.track(DashboardDoc.PO, existing.getPoNo());
         goodsReceiptMapper.cancelItem(grNo, itemCode, cancelRemark, currentUserId);
 
         // 모든 품목이 취소되었는지 확인
@@ -342,8 +382,8 @@ public class GoodsReceiptService {
             // 모든 품목이 취소되면 헤더 상태를 입고취소로 변경
             goodsReceiptMapper.updateHeaderStatus(grNo, GoodsReceiptStatus.CANCELLED, currentUserId);
         } else {
-            // PO의 입고 상태 재계산
-            updateHeaderStatusByPO(existing.getPoNo(), grNo, currentUserId);
+            // GR / PO 입고 상태 재계산
+            refreshStatus(existing.getPoNo(), List.of(grNo), currentUserId);
         }
 
         return getDetail(grNo);
@@ -361,15 +401,21 @@ public class GoodsReceiptService {
         goodsReceiptMapper.updateHeaderAmount(grNo, totalAmount, userId);
     }
 
-    // PO의 입고 상태에 따라 헤더 상태 업데이트
-    private void updateHeaderStatusByPO(String poNo, String grNo, String userId) {
+    /*
+     입고 상태 재계산 (쓰기 시점 전용 단일 단계)
+     - GR 헤더 상태: 입고수량 0이면 미입고, 발주수량 이상이면 입고완료, 그 외 부분입고 (취소 문서 제외)
+     - PO 상태: PO 전체 누적 입고수량이 발주수량 이상이면 완료(C)
+     조회(getList/getDetail)는 이 값을 읽기만 함
+    */
+    private void refreshStatus(String poNo, Collection<String> grNos, String userId) {
+        if (grNos != null && !grNos.isEmpty()) {
+            goodsReceiptMapper.recalculateHeaderStatus(grNos, userId);
+        }
+
         if (poNo == null || poNo.isEmpty()) {
             return;
         }
 
-        // GR별로 상태 업데이트 (GR 번호 기준)
-        updateGrHeaderStatus(grNo, userId);
-
         // PO 전체의 누적 입고수량 조회
         BigDecimal accumulatedQty = goodsReceiptMapper.selectAccumulatedQty(poNo);
 
@@ -383,61 +429,13 @@ public class GoodsReceiptService {
         }
     }
 
-    // GR별로 입고 상태 업데이트 (GR 번호 기준)
-    private void updateGrHeaderStatus(String grNo, String userId) {
-        if (grNo == null || grNo.isEmpty()) {
-            return;
-        }
-
-        // 현재 헤더 상태 조회 (이미 취소된 문서는 상태 유지)
-        GoodsReceiptDTO currentHeader = goodsReceiptMapper.selectHeader(grNo);
-        if (currentHeader == null) {
-            return;
-        }
-
-        // 취소된 문서는 상태를 변경하지 않음
-        if (GoodsReceiptStatus.CANCELLED.equals(currentHeader.getStatus())) {
-            return;
-        }
-
-        // GR의 입고수량 합계 조회
-        BigDecimal grAccumulatedQty = goodsReceiptMapper.selectGrAccumulatedQty(grNo);
-
-        // GR에 속한 품목들의 발주수량 합계 조회
-        BigDecimal grOrderQty = goodsReceiptMapper.selectGrOrderQty(grNo);
-
-        // 상태 결정
-        String newStatus;
-        if (grAccumulatedQty.compareTo(BigDecimal.ZERO) == 0) {
-            // 입고수량이 0이면 미입고 (모든 품목이 취소된 경우)
-            newStatus = GoodsReceiptStatus.NOT_RECEIVED;
-        } else if (grAccumulatedQty.compareTo(grOrderQty) >= 0) {
-            // 입고수량 >= 발주수량: 입고완료
-            newStatus = GoodsReceiptStatus.COMPLETED;
-        } else {
-            // 입고수량 < 발주수량: 부분입고
-            newStatus = GoodsReceiptStatus.PARTIAL;
-        }
-
-        // 해당 GR 헤더 상태 업데이트
-        goodsReceiptMapper.updateHeaderStatus(grNo, newStatus, userId);
-    }
-
-    // 세션에서 로그인 사용자 정보 가져오기
-    private SessionUser getSessionUser() {
-        Object sessionAttr = httpSession.getAttribute(SessionConst.LOGIN_USER);
-        return (sessionAttr instanceof SessionUser) ? (SessionUser) sessionAttr : null;
-    }
-
-    // 현재 사용자 ID 가져오기 (세션에서)
+    // 현재 사용자 ID 가져오기 (요청 밖 배치/비동기 실행이면 SYSTEM)
     private String getCurrentUserId() {
-        SessionUser user = getSessionUser();
-        return user != null ? user.getUserId() : "SYSTEM";
+        return CurrentUser.userIdOr("SYSTEM");
     }
 
-    // 현재 사용자 부서 코드 가져오기 (세션에서)
+    // 현재 사용자 부서 코드 가져오기
     private String getCurrentUserDeptCd() {
-        SessionUser user = getSessionUser();
-        return user != null ? user.getDeptCd() : null;
+        return CurrentUser.deptCd();
     }
 }
@@ -13,4 +13,5 @@ public class ItemResponseDto<T> { // 추후에 자식 필드의 T(타입) 결정
     private int pageSize;
     private int totalPages;
     private int totalCount;
+    private String nextCursor; // 키셋 페이징 다음 커서 (마지막 페이지 또는 OFFSET 방식이면 null)
 }
@@ -37,4 +37,15 @@ public class ItemSearchDto {
     public int getOffset(){
         return (page - 1) * pageSize;
     }
+
+    // 키셋 페이징 (cursor가 있으면 OFFSET 대신 사용, 빈 값 = 첫 페이지)
+    private String cursor;
+    // 커서를 해석한 값 (서비스에서 세팅)
+    private LocalDateTime cursorRegDate;
+    private String cursorItemCode;
+
+    // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+    public int getKeysetLimit(){
+        return pageSize + 1;
+    }
 }
@@ -3,6 +3,8 @@ package com.company.erp.master.item.service;
 import com.company.erp.common.docNum.dto.DocNumDTO;
 import com.company.erp.common.docNum.service.DocKey;
 import com.company.erp.common.docNum.service.DocNumService;
+import com.company.erp.common.paging.CountCache;
+import com.company.erp.common.paging.KeysetCursor;
 import com.company.erp.common.session.SessionUser;
 import com.company.erp.master.item.dto.*;
 import com.company.erp.master.item.mapper.ItemMapper;
@@ -12,6 +14,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Service
 public class ItemService {
@@ -19,6 +22,8 @@ public class ItemService {
     ItemMapper itemMapper;
     @Autowired
     DocNumService docNumService;
+    @Autowired
+    CountCache countCache;
 
     /* 조회 */
     public ItemResponseDto<ItemDetailDto> getItemList(ItemSearchDto searchDto, String loginId) {
@@ -30,6 +35,9 @@ public class ItemService {
             searchDto.setStartDate(start);
             searchDto.setEndDate(end);
         }
+        if (searchDto.getCursor() != null) {
+            return getItemListByCursor(searchDto);
+        }
         // 2. 총 품목 수 계산
         int totalCount = itemMapper.countItemList(searchDto);
         // 3. 총 페이지 계산
@@ -40,7 +48,39 @@ public class ItemService {
                 searchDto.getPage(),
                 searchDto.getPageSize(),
                 totalPage,
-                totalCount);
+                totalCount,
+                null);
+    }
+
+    /* 조회 (키셋 페이징) - (REG_DATE, ITEM_CD) 기준으로 이어서 조회, 총 건수는 캐시 사용 */
+    private ItemResponseDto<ItemDetailDto> getItemListByCursor(ItemSearchDto searchDto) {
+        KeysetCursor after = KeysetCursor.decode(searchDto.getCursor());
+        searchDto.setCursorRegDate(after != null ? after.getRegDate() : null);
+        searchDto.setCursorItemCode(after != null ? after.getKey() : null);
+
+        List<ItemDetailDto> rows = itemMapper.selectItemList(searchDto);
+        boolean hasNext = rows.size() > searchDto.getPageSize();
+        List<ItemDetailDto> items = hasNext ? rows.subList(0, searchDto.getPageSize()) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            ItemDetailDto last = items.get(items.size() - 1);
+            nextCursor = KeysetCursor.next(last.getCreatedAt(), last.getItemCode());
+        }
+
+        int totalCount = countCache.get(
+                CountCache.key("ITEM", searchDto.getItemCode(), searchDto.getItemName(), searchDto.getUseYn(),
+                        searchDto.getStartDate(), searchDto.getEndDate(), searchDto.getManufacturerName()),
+                () -> itemMapper.countItemList(searchDto));
+        int totalPage = (int) Math.ceil((double) totalCount / searchDto.getPageSize());
+
+        return new ItemResponseDto<ItemDetailDto>(
+                items,
+                searchDto.getPage(),
+                searchDto.getPageSize(),
+                totalPage,
+                totalCount,
+                nextCursor);
     }
 
     /* 상세 품목 조회 */
@@ -38,13 +38,33 @@ public class PurchaseOrderController {
             @RequestParam(required = false) String vendorName, // (VNGL 테이블 JOIN, VENDOR_NM 등)
             @RequestParam(required = false) String startDate, // PO_DATE(검색조건 시작)
             @RequestParam(required = false) String endDate, // PO_DATE(검색조건 종료)
-            @RequestParam(required = false) String status // PROGRESS_CD
+            @RequestParam(required = false) String status, // PROGRESS_CD
+            @RequestParam(defaultValue = "true") boolean includeItems // false면 헤더 + 품목 수만 조회
     ) {
         List<PurchaseOrderDTO> list = purchaseOrderService.getList(
-                poNo, poName, purchaseManager, vendorName, startDate, endDate, status);
+                poNo, poName, purchaseManager, vendorName, startDate, endDate, status, includeItems);
         return ResponseEntity.ok(list);
     }
 
+    // 목록 조회 (키셋 페이징) - cursor 없이 호출하면 첫 페이지, 응답의 nextCursor로 다음 페이지 조회
+    @GetMapping("/page")
+    public ResponseEntity<Map<String, Object>> getPage(
+            @RequestParam(required = false) String poNo,
+            @RequestParam(required = false) String poName,
+            @RequestParam(required = false) String purchaseManager,
+            @RequestParam(required = false) String vendorName,
+            @RequestParam(required = false) String startDate,
+            @RequestParam(required = false) String endDate,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "10") Integer pageSize,
+            @RequestParam(defaultValue = "false") boolean includeItems) {
+        Map<String, Object> page = purchaseOrderService.getPage(
+                poNo, poName, purchaseManager, vendorName, startDate, endDate, status,
+                cursor, pageSize, includeItems);
+        return ResponseEntity.ok(page);
+    }
+
     // ========== 발주대기 조회 (RFQ 선정완료) ==========
     @GetMapping("/pending")
     public ResponseEntity<List<RfqSelectedDTO>> getRfqSelectedList(
@@ -53,9 +73,10 @@ public class PurchaseOrderController {
             @RequestParam(required = false) String vendorName,
             @RequestParam(required = false) String purchaseType,
             @RequestParam(required = false) String startDate,
-            @RequestParam(required = false) String endDate) {
+            @RequestParam(required = false) String endDate,
+            @RequestParam(defaultValue = "true") boolean includeItems) {
         List<RfqSelectedDTO> list = purchaseOrderService.getRfqSelectedList(
-                rfqNo, rfqName, vendorName, purchaseType, startDate, endDate);
+                rfqNo, rfqName, vendorName, purchaseType, startDate, endDate, includeItems);
         return ResponseEntity.ok(list);
     }
 
@@ -65,8 +86,9 @@ public class PurchaseOrderController {
     public ResponseEntity<List<PurchaseOrderDTO>> getVendorOrderList(
             @RequestParam(required = false) String poNo,
             @RequestParam(required = false) String poName,
-            @RequestParam(required = false) String status) {
-        List<PurchaseOrderDTO> list = purchaseOrderService.getVendorOrderList(poNo, poName, status);
+            @RequestParam(required = false) String status,
+            @RequestParam(defaultValue = "true") boolean includeItems) {
+        List<PurchaseOrderDTO> list = purchaseOrderService.getVendorOrderList(poNo, poName, status, includeItems);
         return ResponseEntity.ok(list);
     }
 
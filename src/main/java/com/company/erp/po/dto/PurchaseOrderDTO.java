@@ -26,10 +26,14 @@ public class PurchaseOrderDTO {
     private String checkFlag; // 협력사 확인여부 - DB: CHECK_FLAG
     private LocalDateTime checkDate; // 확인일자 - DB: CHECK_DATE
     private String ctrlDeptCd; // 담당자 부서 - DB: CTRL_DEPT_CD
+    private LocalDateTime regDate; // 등록일시 - DB: REG_DATE (목록 정렬/커서 기준)
 
     // 상세 품목 리스트
     private List<PurchaseOrderItemDTO> items;
 
     // 추가: 목록 조회 시 표시할 총 입고 수량
     private BigDecimal receivedQuantity;
+
+    // 목록 조회 시 품목 수 (items 미포함 조회에서도 표시)
+    private Integer itemCount;
 }
\ No newline at end of file
@@ -16,6 +16,9 @@ public interface PurchaseOrderMapper {
 
         List<PurchaseOrderDTO> selectList(Map<String, Object> params);
 
+        // 목록 총 건수 (키셋 페이징용)
+        int selectListCount(Map<String, Object> params);
+
         // 협력사 전용: 본인 발주 목록 조회
         List<PurchaseOrderDTO> selectVendorOrderList(Map<String, Object> params);
 
@@ -25,6 +28,9 @@ public interface PurchaseOrderMapper {
 
         List<PurchaseOrderItemDTO> selectItems(String poNo);
 
+        // 발주번호 목록의 품목 일괄 조회 (목록 화면 N+1 방지)
+        List<PurchaseOrderItemDTO> selectItemsByPoNos(@Param("poNos") List<String> poNos);
+
         // 등록 시 regUserId, ctrlDeptCd 별도 전달 (DTO에 포함되지 않음)
         int insertHeader(@Param("dto") PurchaseOrderDTO dto,
                         @Param("regUserId") String regUserId,
@@ -65,4 +71,10 @@ public interface PurchaseOrderMapper {
 
         // PR 품목을 RfqSelectedItemDTO로 조회 (긴급/단가계약용)
         List<RfqSelectedItemDTO> selectPrItemsAsRfqItems(String prNum);
+
+        // RFQ 선정완료 품목 일괄 조회 (발주대기 목록 N+1 방지)
+        List<RfqSelectedItemDTO> selectRfqSelectedItemsByRfqNos(@Param("rfqNos") List<String> rfqNos);
+
+        // PR 품목 일괄 조회 (긴급/단가계약용)
+        List<RfqSelectedItemDTO> selectPrItemsAsRfqItemsByPrNos(@Param("prNos") List<String> prNos);
 }
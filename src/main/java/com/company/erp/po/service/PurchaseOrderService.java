@@ -2,19 +2,27 @@ package com.company.erp.po.service;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.stream.Collectors;
 
-import com.company.erp.common.session.SessionConst;
-import com.company.erp.common.util.AesCryptoUtil;
-import org.springframework.beans.factory.annotation.Value;
+import com.company.erp.common.session.CurrentUser;
+import com.company.erp.common.crypto.AesGcmEngine;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.company.erp.common.dashboard.buyer.counter.DashboardCounters;
+import com.company.erp.common.dashboard.buyer.counter.DashboardDoc;
+import com.company.erp.common.dashboard.live.DashboardEvent;
+import com.company.erp.common.dashboard.live.DashboardEventBus;
 import com.company.erp.common.docNum.service.DocKey;
 import com.company.erp.common.docNum.service.DocNumService;
+import com.company.erp.common.paging.CountCache;
+import com.company.erp.common.paging.KeysetCursor;
 import com.company.erp.common.session.SessionUser;
 import com.company.erp.po.dto.PurchaseOrderDTO;
 import com.company.erp.po.dto.PurchaseOrderItemDTO;
@@ -23,7 +31,6 @@ import com.company.erp.po.mapper.PurchaseOrderMapper;
 import com.company.erp.rfq.dto.RfqSelectedDTO;
 import com.company.erp.rfq.dto.RfqSelectedItemDTO;
 
-import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 
 @Service
@@ -32,15 +39,16 @@ public class PurchaseOrderService {
 
     private final PurchaseOrderMapper purchaseOrderMapper;
     private final DocNumService docNumService;
-    private final HttpSession httpSession;
-
-    @Value("${app.crypto.key}")
-    private String cryptoKey;
+    private final CountCache countCache;
+    private final AesGcmEngine cryptoEngine;
+    private final DashboardCounters dashboardCounters;
+    private final DashboardEventBus dashboardEventBus;
 
     // ========== 발주대기 조회 (RFQ 선정완료) ==========
     public List<RfqSelectedDTO> getRfqSelectedList(
             String rfqNo, String rfqName, String vendorName,
-            String purchaseType, String startDate, String endDate) {
+            String purchaseType, String startDate, String endDate,
+            boolean includeItems) {
         Map<String, Object> params = new HashMap<>();
         params.put("rfqNo", rfqNo);
         params.put("rfqName", rfqName);
@@ -51,39 +59,58 @@ public class PurchaseOrderService {
 
         List<RfqSelectedDTO> list = purchaseOrderMapper.selectRfqSelectedList(params);
 
-        // 각 RFQ에 대해 품목 상세 조회하여 추가 및 복호화
+        // 헤더 총액 복호화 (안전 처리)
         for (RfqSelectedDTO rfq : list) {
-            // 헤더 총액 복호화 (안전 처리)
             rfq.setRfqAmount(decryptSafe(rfq.getRfqAmount()));
+        }
+
+        if (!includeItems || list.isEmpty()) {
+            return list;
+        }
 
-            if (rfq.getRfqNo() != null) {
-                List<RfqSelectedItemDTO> items;
-                // 긴급(E) 또는 단가계약(C) 인 경우 PR 아이템 조회 (단, rfqNo는 prNo로 alias 되어있음)
-                if ("E".equals(rfq.getPurchaseType()) || "C".equals(rfq.getPurchaseType())) {
-                    items = purchaseOrderMapper.selectPrItemsAsRfqItems(rfq.getRfqNo());
-                } else {
-                    items = purchaseOrderMapper.selectRfqSelectedItems(rfq.getRfqNo());
-                }
-
-                // 품목별 단가/금액 복호화 (안전 처리)
-                if (items != null) {
-                    for (RfqSelectedItemDTO item : items) {
-                        item.setUnitPrice(decryptSafe(item.getUnitPrice()));
-                        item.setAmount(decryptSafe(item.getAmount()));
-                    }
-                }
-                rfq.setItems(items);
+        // 긴급(E) 또는 단가계약(C) 인 경우 PR 아이템 조회 (단, rfqNo는 prNo로 alias 되어있음)
+        List<String> prNos = new ArrayList<>();
+        List<String> rfqNos = new ArrayList<>();
+        for (RfqSelectedDTO rfq : list) {
+            if (rfq.getRfqNo() == null) continue;
+            if (isPrBased(rfq.getPurchaseType())) {
+                prNos.add(rfq.getRfqNo());
+            } else {
+                rfqNos.add(rfq.getRfqNo());
             }
         }
 
+        // 구분별로 한 번씩 일괄 조회 후 번호 기준 그룹핑
+        Map<String, List<RfqSelectedItemDTO>> prItemMap = prNos.isEmpty() ? Map.of()
+                : purchaseOrderMapper.selectPrItemsAsRfqItemsByPrNos(prNos).stream()
+                        .collect(Collectors.groupingBy(RfqSelectedItemDTO::getRfqNo));
+        Map<String, List<RfqSelectedItemDTO>> rfqItemMap = rfqNos.isEmpty() ? Map.of()
+                : purchaseOrderMapper.selectRfqSelectedItemsByRfqNos(rfqNos).stream()
+                        .collect(Collectors.groupingBy(RfqSelectedItemDTO::getRfqNo));
+
+        for (RfqSelectedDTO rfq : list) {
+            if (rfq.getRfqNo() == null) continue;
+
+            Map<String, List<RfqSelectedItemDTO>> itemMap = isPrBased(rfq.getPurchaseType()) ? prItemMap : rfqItemMap;
+            List<RfqSelectedItemDTO> items = itemMap.getOrDefault(rfq.getRfqNo(), new ArrayList<>());
+
+            // 품목별 단가/금액 복호화 (안전 처리)
+            for (RfqSelectedItemDTO item : items) {
+                item.setUnitPrice(decryptSafe(item.getUnitPrice()));
+                item.setAmount(decryptSafe(item.getAmount()));
+            }
+            rfq.setItems(items);
+        }
+
         return list;
     }
 
-    // 목록 조회
+    // 목록 조회 (includeItems=false면 헤더 + 품목 수만 반환)
     public List<PurchaseOrderDTO> getList(
             String poNo, String poName,
             String purchaseManager, String vendorName,
-            String startDate, String endDate, String status) {
+            String startDate, String endDate, String status,
+            boolean includeItems) {
         Map<String, Object> params = new HashMap<>();
         params.put("poNo", poNo);
         params.put("poName", poName);
@@ -95,20 +122,67 @@ public class PurchaseOrderService {
 
         List<PurchaseOrderDTO> list = purchaseOrderMapper.selectList(params);
 
-        // 각 PO에 대해 품목 상세 조회하여 추가
-        for (PurchaseOrderDTO po : list) {
-            if (po.getPoNo() != null) {
-                List<PurchaseOrderItemDTO> items = purchaseOrderMapper.selectItems(po.getPoNo());
-                po.setItems(items);
-            }
+        if (includeItems) {
+            attachItems(list);
         }
 
         return list;
     }
 
+    // 목록 조회 (키셋 페이징) - (REG_DATE, PO_NUM) 기준으로 이어서 조회, 총 건수는 캐시 사용
+    public Map<String, Object> getPage(
+            String poNo, String poName,
+            String purchaseManager, String vendorName,
+            String startDate, String endDate, String status,
+            String cursor, Integer pageSize, boolean includeItems) {
+        if (pageSize == null || pageSize < 1) pageSize = 10;
+
+        Map<String, Object> params = new HashMap<>();
+        params.put("poNo", poNo);
+        params.put("poName", poName);
+        params.put("purchaseManager", purchaseManager);
+        params.put("vendorName", vendorName);
+        params.put("startDate", startDate);
+        params.put("endDate", endDate);
+        params.put("status", status);
+
+        int totalCount = countCache.get(
+                CountCache.key("PO", poNo, poName, purchaseManager, vendorName, startDate, endDate, status),
+                () -> purchaseOrderMapper.selectListCount(params));
+
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        if (after != null) {
+            params.put("cursorRegDate", after.getRegDate());
+            params.put("cursorPoNo", after.getKey());
+        }
+        params.put("limit", pageSize + 1); // 다음 페이지 존재 여부 확인용 1건 추가
+
+        List<PurchaseOrderDTO> rows = purchaseOrderMapper.selectList(params);
+        boolean hasNext = rows.size() > pageSize;
+        List<PurchaseOrderDTO> list = hasNext ? rows.subList(0, pageSize) : rows;
+
+        if (includeItems) {
+            attachItems(list);
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            PurchaseOrderDTO last = list.get(list.size() - 1);
+            nextCursor = KeysetCursor.next(last.getRegDate(), last.getPoNo());
+        }
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("items", list);
+        result.put("totalCount", totalCount);
+        result.put("totalPages", (int) Math.ceil((double) totalCount / pageSize));
+        result.put("pageSize", pageSize);
+        result.put("nextCursor", nextCursor);
+        return result;
+    }
+
     // 협력사 전용: 본인 발주 목록 조회
-    public List<PurchaseOrderDTO> getVendorOrderList(String poNo, String poName, String status) {
-        SessionUser user = getSessionUser();
+    public List<PurchaseOrderDTO> getVendorOrderList(String poNo, String poName, String status, boolean includeItems) {
+        SessionUser user = CurrentUser.get();
         if (user == null || user.getVendorCd() == null) {
             throw new SecurityException("협력사 정보가 없습니다.");
         }
@@ -121,15 +195,36 @@ public class PurchaseOrderService {
 
         List<PurchaseOrderDTO> list = purchaseOrderMapper.selectVendorOrderList(params);
 
-        // 각 PO에 대해 품목 상세 조회하여 추가
+        if (includeItems) {
+            attachItems(list);
+        }
+
+        return list;
+    }
+
+    // 목록의 PO 품목을 한 번에 조회하여 poNo 기준으로 붙임
+    private void attachItems(List<PurchaseOrderDTO> list) {
+        List<String> poNos = list.stream()
+                .map(PurchaseOrderDTO::getPoNo)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+
+        if (poNos.isEmpty()) {
+            return;
+        }
+
+        Map<String, List<PurchaseOrderItemDTO>> itemMap = purchaseOrderMapper.selectItemsByPoNos(poNos).stream()
+                .collect(Collectors.groupingBy(PurchaseOrderItemDTO::getPoNo));
+
         for (PurchaseOrderDTO po : list) {
             if (po.getPoNo() != null) {
-                List<PurchaseOrderItemDTO> items = purchaseOrderMapper.selectItems(po.getPoNo());
-                po.setItems(items);
+                po.setItems(itemMap.getOrDefault(po.getPoNo(), new ArrayList<>()));
             }
         }
+    }
 
-        return list;
+    private boolean isPrBased(String purchaseType) {
+        return "E".equals(purchaseType) || "C".equals(purchaseType);
     }
 
     // 상세 조회
@@ -140,7 +235,7 @@ public class PurchaseOrderService {
         }
 
         // VENDOR인 경우: 본인 협력사 발주만 조회 가능
-        SessionUser user = getSessionUser();
+        SessionUser user = CurrentUser.get();
         if (user != null && "VENDOR".equals(user.getRole())) {
             String userVendorCd = user.getVendorCd();
             if (userVendorCd == null || !userVendorCd.equals(header.getVendorCode())) {
@@ -207,7 +302,9 @@ public class PurchaseOrderService {
         // 발주담당자 설정 (세션의 현재 사용자)
         dto.setPurchaseManager(currentUserId);
 
-        // 헤더 등록 (regUserId, ctrlDeptCd 별도 전달)
+        // 헤더 등록 (regUserId, ctrlDeptCd 별도 전달) - 원 RFQ는 발주 대기에서 빠짐
+        dashboardCounters.track(DashboardDoc.PO, poNo);
+        dashboardCounters.track(DashboardDoc.RFQ, dto.getRfqNo());
         purchaseOrderMapper.insertHeader(dto, currentUserId, currentDeptCd);
 
         // [Refactoring] 규격(Specification) 데이터 무결성 보장
@@ -245,28 +342,22 @@ public class PurchaseOrderService {
             item.setPoNo(poNo);
             purchaseOrderMapper.insertItem(item, currentUserId);
         }
+        dashboardEventBus.publish(DashboardEvent.PO_CREATED, poNo);
         return getDetail(poNo);
     }
 
-    // 세션에서 로그인 사용자 정보 가져오기
-    private SessionUser getSessionUser() {
-        Object sessionAttr = httpSession.getAttribute(SessionConst.LOGIN_USER);
-        return (sessionAttr instanceof SessionUser) ? (SessionUser) sessionAttr : null;
-    }
-
-    // 현재 사용자 ID 가져오기 (세션에서)
+    // 현재 사용자 ID 가져오기 (SessionInterceptor가 설정한 CurrentUser)
     private String getCurrentUserId() {
-        SessionUser user = getSessionUser();
-        if (user == null || user.getUserId() == null) {
+        String userId = CurrentUser.userIdOr(null);
+        if (userId == null) {
             throw new SecurityException("로그인 정보가 없습니다. 다시 로그인해주세요.");
         }
-        return user.getUserId();
+        return userId;
     }
 
-    // 현재 사용자 부서 코드 가져오기 (세션에서)
+    // 현재 사용자 부서 코드 가져오기
     private String getCurrentUserDeptCd() {
-        SessionUser user = getSessionUser();
-        return user != null ? user.getDeptCd() : null;
+        return CurrentUser.deptCd();
     }
 
     // 수정
@@ -298,6 +389,7 @@ public class PurchaseOrderService {
         if (PoStatusCode.REJECTED.getCode().equals(currentStatus)) {
             // 상태 전이 검증
             validateStatusTransition(currentStatus, PoStatusCode.SAVED.getCode());
+            dashboardCounters.track(DashboardDoc.PO, poNo);
             purchaseOrderMapper.updateStatus(poNo, PoStatusCode.SAVED.getCode(), currentUserId);
         }
         
@@ -326,6 +418,7 @@ public class PurchaseOrderService {
                     "임시저장 상태에서만 삭제할 수 있습니다. 현재 상태: " + existing.getStatus());
         }
 
+        dashboardCounters.track(DashboardDoc.PO, poNo);
         purchaseOrderMapper.deleteHeader(poNo);
         purchaseOrderMapper.deleteItems(poNo);
         return true;
@@ -374,6 +467,7 @@ public class PurchaseOrderService {
         // 상태 전이 검증
         validateStatusTransition(existing.getStatus(), PoStatusCode.REJECTED.getCode());
         // 반려 시 반려(R) 상태로 변경
+        dashboardCounters.track(DashboardDoc.PO, poNo);
         purchaseOrderMapper.updateStatusWithReason(
                 poNo,
                 PoStatusCode.REJECTED.getCode(),
@@ -386,7 +480,9 @@ public class PurchaseOrderService {
     @Transactional
     public Boolean send(String poNo) {
         String currentUserId = getCurrentUserId();
-        return updateStatus(poNo, PoStatusCode.SENT.getCode(), currentUserId);
+        Boolean sent = updateStatus(poNo, PoStatusCode.SENT.getCode(), currentUserId);
+        dashboardEventBus.publish(DashboardEvent.PO_SENT, poNo);
+        return sent;
     }
 
     // 종결
@@ -405,7 +501,7 @@ public class PurchaseOrderService {
         }
 
         // VENDOR 본인 협력사 발주만 수신확인 가능
-        SessionUser user = getSessionUser();
+        SessionUser user = CurrentUser.get();
         if (user != null && "VENDOR".equals(user.getRole())) {
             String userVendorCd = user.getVendorCd();
             if (userVendorCd == null || !userVendorCd.equals(existing.getVendorCode())) {
@@ -441,6 +537,7 @@ public class PurchaseOrderService {
         }
         // 상태 전이 검증
         validateStatusTransition(existing.getStatus(), nextStatus);
+        dashboardCounters.track(DashboardDoc.PO, poNo);
         purchaseOrderMapper.updateStatus(poNo, nextStatus, userId);
         return true;
     }
@@ -451,7 +548,7 @@ public class PurchaseOrderService {
      */
     private String decryptSafe(String value) {
         try {
-            return AesCryptoUtil.decrypt(value, cryptoKey);
+            return cryptoEngine.decrypt(value);
         } catch (Exception e) {
             // 복호화 실패 시, 원본이 숫자라면 평문으로 간주하여 반환 (테스트 데이터 호환성)
             if (value != null && value.matches("-?\\d+(\\.\\d+)?")) {
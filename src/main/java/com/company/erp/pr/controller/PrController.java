@@ -110,10 +110,11 @@ public class PrController {
                                                                  @RequestParam(required = false) String requestDate,
                                                                  @RequestParam(required = false, defaultValue = "1") Integer page,
                                                                  @RequestParam(required = false, defaultValue = "10") Integer pageSize,
+                                                                 @RequestParam(required = false) String cursor, // 키셋 페이징 (빈 값 = 첫 페이지)
                                                                  HttpSession session){
 
         SessionUser user = getSessionUser(session);
-        Map<String, Object> result = prService.selectPrList(prNum, prSubject, requester, deptName, progressCd, pcType, requestDate, page, pageSize, user);
+        Map<String, Object> result = prService.selectPrList(prNum, prSubject, requester, deptName, progressCd, pcType, requestDate, page, pageSize, cursor, user);
 
         return ResponseEntity.ok(result);
     }
@@ -3,6 +3,7 @@ package com.company.erp.pr.mapper;
 import com.company.erp.pr.dto.*;
 import org.apache.ibatis.annotations.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface PrMapper {
@@ -29,7 +30,9 @@ public interface PrMapper {
                                       @Param("offset") Integer offset,
                                       @Param("pageSize") Integer pageSize,
                                       @Param("regUserId") String regUserId,
-                                      @Param("isBuyerDept") Boolean isBuyerDept);
+                                      @Param("isBuyerDept") Boolean isBuyerDept,
+                                      @Param("cursorRegDate") LocalDateTime cursorRegDate,
+                                      @Param("cursorPrNum") String cursorPrNum);
     
     // 구매요청 현황 목록 총 개수 조회
     int selectPrListCount(@Param("prNum") String prNum,
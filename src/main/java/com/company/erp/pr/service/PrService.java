@@ -1,7 +1,13 @@
 package com.company.erp.pr.service;
 
+import com.company.erp.common.dashboard.buyer.counter.DashboardCounters;
+import com.company.erp.common.dashboard.buyer.counter.DashboardDoc;
+import com.company.erp.common.dashboard.live.DashboardEvent;
+import com.company.erp.common.dashboard.live.DashboardEventBus;
 import com.company.erp.common.docNum.service.DocKey;
 import com.company.erp.common.docNum.service.DocNumService;
+import com.company.erp.common.paging.CountCache;
+import com.company.erp.common.paging.KeysetCursor;
 import com.company.erp.common.session.SessionUser;
 import com.company.erp.pr.dto.*;
 import com.company.erp.pr.mapper.PrMapper;
@@ -10,6 +16,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.*;
 
 @RequiredArgsConstructor
@@ -18,6 +27,9 @@ public class PrService {
 
     private final PrMapper prMapper;
     private final DocNumService docNumService;
+    private final CountCache countCache;
+    private final DashboardCounters dashboardCounters;
+    private final DashboardEventBus dashboardEventBus;
 
     //초기 구매요청 화면 조회
     public Map<String,Object> initPurchaseData(String userId, String deptName){
@@ -101,8 +113,10 @@ public class PrService {
                 .build();
 
 
+        dashboardCounters.track(DashboardDoc.PR, prNum);
         prMapper.insertPrHd(prHdDTO);
         prMapper.insertPrDt(prDtDTOList);
+        dashboardEventBus.publish(DashboardEvent.PR_CREATED, prNum);
 
         // 생성된 PR 번호 반환 (첨부파일 연계를 위해 사용)
         return prNum;
@@ -129,9 +143,10 @@ public class PrService {
 
 
     //구매요청현황 목록 조회 (헤더만)
+    // cursor가 null이면 기존 page/OFFSET 방식, 값이 있으면(빈 문자열 = 첫 페이지) 키셋 방식
     public Map<String, Object> selectPrList(String prNum, String prSubject, String requester,
                                              String deptNm, String progressCd, String pcType, String requestDate,
-                                             Integer page, Integer pageSize, SessionUser user){
+                                             Integer page, Integer pageSize, String cursor, SessionUser user){
         // 페이징 파라미터 기본값 설정
         if (page == null || page < 1) page = 1;
         if (pageSize == null || pageSize < 1) pageSize = 10;
@@ -152,9 +167,14 @@ public class PrService {
                 regUserId = user.getUserId();
             }
         }
+
+        if (cursor != null) {
+            return selectPrListByCursor(prNum, prSubject, requester, deptNm, progressCd, pcType, requestDate,
+                    pageSize, cursor, regUserId, isBuyerDept);
+        }
         
         // 목록 조회
-        List<PrListResponse> list = prMapper.selectPrList(prNum, prSubject, requester, deptNm, progressCd, pcType, requestDate, offset, pageSize, regUserId, isBuyerDept);
+        List<PrListResponse> list = prMapper.selectPrList(prNum, prSubject, requester, deptNm, progressCd, pcType, requestDate, offset, pageSize, regUserId, isBuyerDept, null, null);
         
         // 총 개수 조회
         int totalCount = prMapper.selectPrListCount(prNum, prSubject, requester, deptNm, progressCd, pcType, requestDate, regUserId, isBuyerDept);
@@ -171,6 +191,47 @@ public class PrService {
         
         return result;
     }
+
+    // 키셋 페이징: (REG_DATE, PR_NUM) 기준으로 이어서 조회, 총 건수는 캐시 사용
+    private Map<String, Object> selectPrListByCursor(String prNum, String prSubject, String requester,
+                                                     String deptNm, String progressCd, String pcType, String requestDate,
+                                                     int pageSize, String cursor, String regUserId, boolean isBuyerDept){
+        KeysetCursor after = KeysetCursor.decode(cursor);
+
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        List<PrListResponse> rows = prMapper.selectPrList(prNum, prSubject, requester, deptNm, progressCd, pcType, requestDate,
+                null, pageSize + 1, regUserId, isBuyerDept,
+                after != null ? after.getRegDate() : null,
+                after != null ? after.getKey() : null);
+
+        boolean hasNext = rows.size() > pageSize;
+        List<PrListResponse> list = hasNext ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            PrListResponse last = list.get(list.size() - 1);
+            nextCursor = KeysetCursor.next(toLocalDateTime(last.getRegDate()), last.getPrNum());
+        }
+
+        int totalCount = countCache.get(
+                CountCache.key("PR", prNum, prSubject, requester, deptNm, progressCd, pcType, requestDate, regUserId, isBuyerDept),
+                () -> prMapper.selectPrListCount(prNum, prSubject, requester, deptNm, progressCd, pcType, requestDate, regUserId, isBuyerDept));
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("items", list);
+        result.put("totalCount", totalCount);
+        result.put("totalPages", (int) Math.ceil((double) totalCount / pageSize));
+        result.put("pageSize", pageSize);
+        result.put("nextCursor", nextCursor);
+
+        return result;
+    }
+
+    private LocalDateTime toLocalDateTime(Date date) {
+        if (date == null) return null;
+        if (date instanceof Timestamp ts) return ts.toLocalDateTime();
+        return LocalDateTime.ofInstant(date.toInstant(), ZoneId.systemDefault());
+    }
     
     //구매요청 상세 품목 목록 조회
     public List<PrDtDTO> selectPrDetail(String prNum){
@@ -227,11 +288,13 @@ public class PrService {
         }
 
         // 승인 처리
+        dashboardCounters.track(DashboardDoc.PR, prNum);
         int updatedRows = prMapper.approvePr(userId, deptCd, prNum);
         
         if(updatedRows == 0){
             throw new IllegalStateException("구매요청 승인에 실패했습니다.");
         }
+        dashboardEventBus.publish(DashboardEvent.PR_APPROVED, prNum);
     }
 
     //구매요청 반려
@@ -247,6 +310,7 @@ public class PrService {
         }
 
         // 반려 처리
+        dashboardCounters.track(DashboardDoc.PR, prNum);
         prMapper.rejectPr(prNum, userId, deptCd);
 
         PrHdDTO updatedPrHd = prMapper.selectPrNum(prNum);
@@ -273,6 +337,7 @@ public class PrService {
             throw new IllegalStateException("승인된 구매요청은 삭제할 수 없습니다.");
         }
 
+        dashboardCounters.track(DashboardDoc.PR, prNum);
         prMapper.deletePrHd(prNum);
         prMapper.deletePrDt(prNum);
 
@@ -325,6 +390,7 @@ public class PrService {
         }
 
         // 반려 상태인 경우 임시저장으로 상태 변경
+        dashboardCounters.track(DashboardDoc.PR, prNum);
         if (progressCd != null && isRejectedStatus(progressCd)) {
             int statusUpdatedRows = prMapper.updatePrProgressToTemp(prNum);
             if (statusUpdatedRows == 0) {
@@ -358,6 +424,7 @@ public class PrService {
         }
 
         // 반려 상태인 경우 임시저장으로 상태 변경
+        dashboardCounters.track(DashboardDoc.PR, prNum);
         if (progressCd != null && isRejectedStatus(progressCd)) {
             int statusUpdatedRows = prMapper.updatePrProgressToTemp(prNum);
             if (statusUpdatedRows == 0) {
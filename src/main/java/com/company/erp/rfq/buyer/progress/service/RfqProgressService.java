@@ -1,5 +1,9 @@
 package com.company.erp.rfq.buyer.progress.service;
 
+import com.company.erp.common.dashboard.buyer.counter.DashboardCounters;
+import com.company.erp.common.dashboard.buyer.counter.DashboardDoc;
+import com.company.erp.common.dashboard.live.DashboardEvent;
+import com.company.erp.common.dashboard.live.DashboardEventBus;
 import com.company.erp.rfq.buyer.progress.dto.request.RfqProgressSearchRequest;
 import com.company.erp.rfq.buyer.progress.dto.response.RfqProgressGroupResponse;
 import com.company.erp.rfq.buyer.progress.mapper.RfqProgressMapper;
@@ -15,6 +19,8 @@ import java.util.stream.Collectors;
 public class RfqProgressService {
 
     private final RfqProgressMapper mapper;
+    private final DashboardCounters dashboardCounters;
+    private final DashboardEventBus dashboardEventBus;
 
     /**
      * 견적 진행 현황 목록 조회
@@ -56,6 +62,7 @@ public class RfqProgressService {
         }
 
         // 헤더 상태 변경 (T -> RFQS)
+        dashboardCounters.track(DashboardDoc.RFQ, rfqNum);
         int hdUpdated = mapper.updateRfqStatus(rfqNum, "RFQS", userId);
         if (hdUpdated != 1) {
             throw new IllegalStateException("전송 가능한 상태(임시저장)가 아닙니다.");
@@ -63,6 +70,7 @@ public class RfqProgressService {
 
         // 모든 협력사 상태 변경
         mapper.updateAllVendorStatus(rfqNum, "RFQS", userId);
+        dashboardEventBus.publish(DashboardEvent.RFQ_SENT, rfqNum);
     }
 
     /**
@@ -70,10 +78,12 @@ public class RfqProgressService {
      */
     @Transactional
     public void closeRfq(String rfqNum, String userId) {
+        dashboardCounters.track(DashboardDoc.RFQ, rfqNum);
         int updated = mapper.updateRfqStatus(rfqNum, "M", userId);
         if (updated != 1) {
             throw new IllegalStateException("마감 가능한 상태(발송/진행)가 아닙니다.");
         }
+        dashboardEventBus.publish(DashboardEvent.RFQ_CLOSED, rfqNum);
     }
 
 }
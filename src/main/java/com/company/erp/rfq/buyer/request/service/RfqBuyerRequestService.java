@@ -1,5 +1,9 @@
 package com.company.erp.rfq.buyer.request.service;
 
+import com.company.erp.common.dashboard.buyer.counter.DashboardCounters;
+import com.company.erp.common.dashboard.buyer.counter.DashboardDoc;
+import com.company.erp.common.dashboard.live.DashboardEvent;
+import com.company.erp.common.dashboard.live.DashboardEventBus;
 import com.company.erp.common.docNum.service.DocKey;
 import com.company.erp.common.docNum.service.DocNumService;
 import com.company.erp.rfq.buyer.request.dto.request.RfqSaveRequest;
@@ -25,6 +29,8 @@ public class RfqBuyerRequestService {
 
     private final RfqBuyerRequestMapper mapper;
     private final DocNumService docNumService;
+    private final DashboardCounters dashboardCounters;
+    private final DashboardEventBus dashboardEventBus;
 
     /**
      * [신규] PR 기반 견적 초안 초기 데이터 조회
@@ -60,7 +66,9 @@ public class RfqBuyerRequestService {
         String rfqNum = docNumService.generateDocNumStr(DocKey.RQ);
         request.setRfqNum(rfqNum);
 
-        // 3. HD 저장
+        // 3. HD 저장 (PR은 견적 대기에서 빠짐)
+        dashboardCounters.track(DashboardDoc.RFQ, rfqNum);
+        dashboardCounters.track(DashboardDoc.PR, request.getPrNum());
         mapper.insertRfqHeader(request, request.getPrNum(), request.getPcType(), userId);
 
         // 3. DT/VN 저장
@@ -208,6 +216,7 @@ public class RfqBuyerRequestService {
             throw new IllegalStateException("전송 대상 협력사 목록이 현재 RFQ 협력사 목록과 일치하지 않습니다. 새로고침 후 다시 시도해주세요.");
         }
 
+        dashboardCounters.track(DashboardDoc.RFQ, rfqNum);
         int hdUpdated = mapper.updateRfqStatusToSend(rfqNum, userId);
         if (hdUpdated != 1) {
             throw new IllegalStateException("전송 가능한 상태(임시저장)가 아닙니다.");
@@ -218,6 +227,7 @@ public class RfqBuyerRequestService {
         if (vnUpdated == 0) {
             throw new IllegalStateException("전송할 협력사 정보가 없거나 전송에 실패했습니다.");
         }
+        dashboardEventBus.publish(DashboardEvent.RFQ_SENT, rfqNum);
     }
 
     /**
@@ -225,6 +235,11 @@ public class RfqBuyerRequestService {
      */
     @Transactional
     public void deleteRfq(String rfqNum, String userId) {
+        // 삭제되면 원 PR이 다시 견적 대기로 집계됨
+        RfqDetailResponse.Header header = mapper.selectRfqHeader(rfqNum);
+        dashboardCounters.track(DashboardDoc.RFQ, rfqNum);
+        if (header != null) dashboardCounters.track(DashboardDoc.PR, header.getPrNum());
+
         int updated = mapper.deleteRfq(rfqNum, userId);
         if (updated != 1) {
             throw new IllegalStateException("삭제가 불가능한 상태(임시저장만 가능)이거나 권한이 없습니다.");
@@ -1,15 +1,15 @@
 package com.company.erp.rfq.buyer.result.service;
 
-import com.company.erp.common.util.AesCryptoUtil;
+import com.company.erp.common.crypto.AesGcmEngine;
 import com.company.erp.rfq.buyer.result.dto.response.RfqResultItem;
 import com.company.erp.rfq.buyer.result.dto.response.RfqSelectionResultDetailResponse;
 import com.company.erp.rfq.buyer.result.dto.response.RfqSelectionResultResponse;
 import com.company.erp.rfq.buyer.result.mapper.RfqResultMapper;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
@@ -20,17 +20,19 @@ import java.util.NoSuchElementException;
 public class RfqResultService {
 
     private final RfqResultMapper mapper;
-
-    @Value("${app.crypto.key}")
-    private String cryptoKey;
+    private final AesGcmEngine cryptoEngine;
 
     /**
      * 선정 결과 목록 조회
      */
     public List<RfqSelectionResultResponse> getRfqResultList(Map<String, Object> params) {
         List<RfqSelectionResultResponse> list = mapper.selectRfqResultList(params);
-        for (RfqSelectionResultResponse res : list) {
-            res.setTotalAmt(AesCryptoUtil.decrypt(res.getTotalAmt(), cryptoKey));
+
+        // 총액 일괄 복호화
+        List<String> totalAmts = cryptoEngine.decryptAll(
+                list.stream().map(RfqSelectionResultResponse::getTotalAmt).toList());
+        for (int i = 0; i < list.size(); i++) {
+            list.get(i).setTotalAmt(totalAmts.get(i));
         }
         return list;
     }
@@ -46,14 +48,21 @@ public class RfqResultService {
         if (header == null) {
             throw new NoSuchElementException("해당 견적 결과가 존재하지 않거나 선정되지 않았습니다.");
         }
-        header.setTotalAmt(AesCryptoUtil.decrypt(header.getTotalAmt(), cryptoKey));
+        header.setTotalAmt(cryptoEngine.decrypt(header.getTotalAmt()));
 
         // 품목 정보 조회
         List<RfqResultItem> items = mapper.selectRfqResultItems(rfqNum);
         if (items != null) {
+            // 단가/금액을 [단가0, 금액0, 단가1, 금액1, ...] 순서로 모아 일괄 복호화
+            List<String> encrypted = new ArrayList<>(items.size() * 2);
             for (RfqResultItem item : items) {
-                item.setUnitPrice(AesCryptoUtil.decrypt(item.getUnitPrice(), cryptoKey));
-                item.setAmt(AesCryptoUtil.decrypt(item.getAmt(), cryptoKey));
+                encrypted.add(item.getUnitPrice());
+                encrypted.add(item.getAmt());
+            }
+            List<String> plain = cryptoEngine.decryptAll(encrypted);
+            for (int i = 0; i < items.size(); i++) {
+                items.get(i).setUnitPrice(plain.get(i * 2));
+                items.get(i).setAmt(plain.get(i * 2 + 1));
             }
         }
 
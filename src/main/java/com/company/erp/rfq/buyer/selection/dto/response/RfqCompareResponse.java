@@ -12,7 +12,7 @@ public class RfqCompareResponse {
     private String rfqName;
     private List<Item> items;
     private List<Vendor> vendors;
-    private List<Quote> quotes;
+    private PriceMatrix matrix;
 
     @Getter @Setter @NoArgsConstructor @AllArgsConstructor
     public static class Item {
@@ -31,13 +31,26 @@ public class RfqCompareResponse {
         private String selectYn; // 'Y'|'N'
     }
 
+    /**
+     * 견적 비교표 (열 = 협력사, 행 = 품목 라인)
+     * - columns 순서 = vendors 순서, 각 배열 인덱스 = lineNos 인덱스
+     * - quoted[i]가 false인 칸은 견적 없음, 견적은 있어도 단가/금액이 비었거나 마스킹이면 해당 값은 null
+     * - 금액 합계는 BigDecimal로 정확히 계산 (값이 있는 칸만)
+     */
     @Getter @Setter @NoArgsConstructor @AllArgsConstructor
-    public static class Quote {
+    public static class PriceMatrix {
+        private int[] lineNos;
+        private List<VendorColumn> columns;
+    }
+
+    @Getter @Setter @NoArgsConstructor @AllArgsConstructor
+    public static class VendorColumn {
         private String vendorCd;
-        private Integer lineNo;
-        private BigDecimal unitPrice;
-        private BigDecimal quoteQt;
-        private BigDecimal amount;
+        private boolean[] quoted;
+        private BigDecimal[] unitPrice;
+        private BigDecimal[] quoteQt;
+        private BigDecimal[] amount;
+        private BigDecimal totalAmount;
     }
 
     @Getter @Setter
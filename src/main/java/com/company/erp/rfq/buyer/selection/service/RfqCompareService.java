@@ -1,24 +1,27 @@
 package com.company.erp.rfq.buyer.selection.service;
 
-import com.company.erp.common.util.AesCryptoUtil;
+import com.company.erp.common.crypto.AesGcmEngine;
 import com.company.erp.rfq.buyer.selection.dto.response.RfqCompareResponse;
 import com.company.erp.rfq.buyer.selection.mapper.RfqCompareMapper;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
 
 @Service
 @RequiredArgsConstructor
 public class RfqCompareService {
 
     private final RfqCompareMapper rfqCompareMapper;
+    private final AesGcmEngine cryptoEngine;
 
-    @Value("${app.crypto.key}")
-    private String cryptoKey;
+    private static final Pattern PLAIN_NUMBER = Pattern.compile("^-?\\d+(\\.\\d+)?$");
 
     @Transactional(readOnly = true)
     public RfqCompareResponse getCompareDetail(String rfqNo) {
@@ -34,46 +37,91 @@ public class RfqCompareService {
         // 암호문 rows
         List<RfqCompareResponse.RfqCompareQuoteRow> rows = rfqCompareMapper.selectQuoteRows(rfqNo);
 
-        // 복호화해서 최종 quotes 만들기
-        List<RfqCompareResponse.Quote> quotes = rows.stream().map(r -> {
-            RfqCompareResponse.Quote q = new RfqCompareResponse.Quote();
-            q.setVendorCd(r.getVendorCd());
-            q.setLineNo(r.getLineNo());
-            q.setQuoteQt(r.getQuoteQt());
+        // 단가/금액 암호문을 [단가0, 금액0, 단가1, 금액1, ...] 로 모아 한 번에 병렬 복호화
+        List<String> encrypted = new ArrayList<>(rows.size() * 2);
+        for (RfqCompareResponse.RfqCompareQuoteRow r : rows) {
+            encrypted.add(cipherTextOrNull(r.getUnitPriceEnc()));
+            encrypted.add(cipherTextOrNull(r.getAmountEnc()));
+        }
+        List<String> plain = cryptoEngine.decryptAllParallel(encrypted);
+
+        header.setItems(items);
+        header.setVendors(vendors);
+        header.setMatrix(buildMatrix(items, vendors, rows, plain));
+
+        return header;
+    }
+
+    // 협력사(열) x 라인(행) 비교표 채우기
+    private RfqCompareResponse.PriceMatrix buildMatrix(List<RfqCompareResponse.Item> items,
+                                                      List<RfqCompareResponse.Vendor> vendors,
+                                                      List<RfqCompareResponse.RfqCompareQuoteRow> rows,
+                                                      List<String> plain) {
+        int lineCount = items.size();
+
+        int[] lineNos = new int[lineCount];
+        Map<Integer, Integer> lineIndex = new HashMap<>();
+        for (int i = 0; i < lineCount; i++) {
+            Integer lineNo = items.get(i).getLineNo();
+            lineNos[i] = (lineNo == null) ? 0 : lineNo;
+            lineIndex.put(lineNo, i);
+        }
+
+        List<RfqCompareResponse.VendorColumn> columns = new ArrayList<>(vendors.size());
+        Map<String, RfqCompareResponse.VendorColumn> columnByVendor = new HashMap<>();
+        for (RfqCompareResponse.Vendor v : vendors) {
+            RfqCompareResponse.VendorColumn column = new RfqCompareResponse.VendorColumn(
+                    v.getVendorCd(), new boolean[lineCount],
+                    new BigDecimal[lineCount], new BigDecimal[lineCount], new BigDecimal[lineCount], BigDecimal.ZERO);
+            columns.add(column);
+            columnByVendor.put(v.getVendorCd(), column);
+        }
 
-            BigDecimal unitPrice = decryptToBigDecimal(r.getUnitPriceEnc());
-            BigDecimal amount = decryptToBigDecimal(r.getAmountEnc());
+        for (int i = 0; i < rows.size(); i++) {
+            RfqCompareResponse.RfqCompareQuoteRow r = rows.get(i);
 
-            q.setUnitPrice(unitPrice);
-            q.setAmount(amount);
+            // 비교표에 없는 협력사/라인의 견적은 화면에 표시되지 않으므로 제외
+            RfqCompareResponse.VendorColumn column = columnByVendor.get(r.getVendorCd());
+            Integer line = lineIndex.get(r.getLineNo());
+            if (column == null || line == null) continue;
 
+            // 단가가 비었거나 마스킹이어도 견적 칸은 남기고 값만 null
+            BigDecimal unitPrice = toAmount(r.getUnitPriceEnc(), plain.get(i * 2));
+            BigDecimal amount = toAmount(r.getAmountEnc(), plain.get(i * 2 + 1));
             // amount가 비어 있으면 quoteQt * unitPrice로 계산
-            if (q.getAmount() == null && unitPrice != null) {
-                BigDecimal qt = (q.getQuoteQt() == null) ? BigDecimal.ZERO : q.getQuoteQt();
-                q.setAmount(qt.multiply(unitPrice));
+            if (amount == null && unitPrice != null) {
+                BigDecimal qt = (r.getQuoteQt() == null) ? BigDecimal.ZERO : r.getQuoteQt();
+                amount = qt.multiply(unitPrice);
             }
-            return q;
-        }).toList();
 
-        header.setItems(items);
-        header.setVendors(vendors);
-        header.setQuotes(quotes);
+            column.getQuoted()[line] = true;
+            column.getUnitPrice()[line] = unitPrice;
+            column.getQuoteQt()[line] = r.getQuoteQt();
+            column.getAmount()[line] = amount;
+            if (amount != null) column.setTotalAmount(column.getTotalAmount().add(amount));
+        }
 
-        return header;
+        return new RfqCompareResponse.PriceMatrix(lineNos, columns);
     }
 
-    private BigDecimal decryptToBigDecimal(String enc) {
+    // 평문 숫자로 저장된 값(테스트 데이터 등)과 빈 값은 복호화 대상에서 제외
+    private String cipherTextOrNull(String enc) {
         if (enc == null || enc.isBlank()) return null;
+        return PLAIN_NUMBER.matcher(enc).matches() ? null : enc;
+    }
 
-        // 혹시 평문 숫자 문자열로 저장된 경우도 방어
-        if (enc.matches("^-?\\d+(\\.\\d+)?$")) return new BigDecimal(enc);
-
-        String plain = AesCryptoUtil.decrypt(enc, cryptoKey); //
-        if (plain == null || plain.isBlank()) return null;
+    // 원문 컬럼값과 복호화 결과로 금액 해석, 값이 없거나 마스킹("***") 등 숫자가 아니면 null
+    private BigDecimal toAmount(String enc, String decrypted) {
+        if (enc == null || enc.isBlank()) return null;
 
-        // 복호화 결과가 "***" 같은 마스킹이면 null 처리
-        if ("***".equals(plain)) return null;
+        // 혹시 평문 숫자 문자열로 저장된 경우도 방어
+        if (decrypted == null) return PLAIN_NUMBER.matcher(enc).matches() ? new BigDecimal(enc) : null;
 
-        return new BigDecimal(plain);
+        if (decrypted.isBlank() || "***".equals(decrypted)) return null;
+        try {
+            return new BigDecimal(decrypted.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
     }
 }
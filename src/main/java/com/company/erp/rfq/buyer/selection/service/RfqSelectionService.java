@@ -1,11 +1,14 @@
 package com.company.erp.rfq.buyer.selection.service;
 
-import com.company.erp.common.util.AesCryptoUtil;
+import com.company.erp.common.crypto.AesGcmEngine;
+import com.company.erp.common.dashboard.buyer.counter.DashboardCounters;
+import com.company.erp.common.dashboard.buyer.counter.DashboardDoc;
+import com.company.erp.common.dashboard.live.DashboardEvent;
+import com.company.erp.common.dashboard.live.DashboardEventBus;
 import com.company.erp.rfq.buyer.selection.dto.request.RfqSelectionRequest;
 import com.company.erp.rfq.buyer.selection.dto.response.RfqSelectionResponse;
 import com.company.erp.rfq.buyer.selection.mapper.RfqSelectionMapper;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,9 +23,9 @@ import java.util.Map;
 public class RfqSelectionService {
 
     private final RfqSelectionMapper mapper;
-
-    @Value("${app.crypto.key}")
-    private String cryptoKey;
+    private final AesGcmEngine cryptoEngine;
+    private final DashboardCounters dashboardCounters;
+    private final DashboardEventBus dashboardEventBus;
 
     /**
      * 선정 대상 조회 (M, G, J 상태)
@@ -35,7 +38,7 @@ public class RfqSelectionService {
         for (RfqSelectionResponse res : list) {
             String status = res.getProgressCd();
             if ("G".equals(status) || "J".equals(status)) {
-                res.setTotalAmt(AesCryptoUtil.decrypt(res.getTotalAmt(), cryptoKey));
+                res.setTotalAmt(cryptoEngine.decrypt(res.getTotalAmt()));
             } else {
                 res.setTotalAmt("***"); // 마감(M) 상태 등에서는 마스킹 처리
             }
@@ -49,6 +52,7 @@ public class RfqSelectionService {
      */
     @Transactional
     public void openRfq(String rfqNum, String userId) {
+        dashboardCounters.track(DashboardDoc.RFQ, rfqNum);
         int updated = mapper.updateRfqStatusToOpened(rfqNum, userId);
         if (updated != 1) {
             throw new IllegalStateException("개찰 가능한 상태(마감)가 아니거나 권한이 없습니다.");
@@ -64,6 +68,7 @@ public class RfqSelectionService {
         String vendorCd = request.getVendorCd();
 
         // 1. Header 상태 전환 (G -> J)
+        dashboardCounters.track(DashboardDoc.RFQ, rfqNum);
         int hdUpdated = mapper.updateRfqStatusToSelected(rfqNum, userId);
         if (hdUpdated != 1) {
             throw new IllegalStateException("선정 권한이 없거나 개찰(G) 상태가 아닙니다.");
@@ -81,5 +86,6 @@ public class RfqSelectionService {
         if (itemUpdated < 1) {
             throw new IllegalStateException("선정된 협력사의 품목 정보가 존재하지 않습니다.");
         }
+        dashboardEventBus.publish(DashboardEvent.RFQ_SELECTED, rfqNum);
     }
 }
@@ -24,6 +24,7 @@ public class RfqSelectedDTO {
     private String ctrlUserName; // CTRL_USER_NM (담당자명)
     private String prNo; // PR_NUM (구매요청번호)
     private String remark; // RMK
+    private Integer itemCount; // 품목 수 (RFQDT / PRDT)
 
     // 품목 목록
     private List<RfqSelectedItemDTO> items;
@@ -0,0 +1,102 @@
+package com.company.erp.common.crypto;
+
+import com.company.erp.common.util.AesCryptoUtil;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AesGcmEngineBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(AesGcmEngineBenchmarkTest.class);
+
+    private static final int QUOTE_COUNT = 100_000;
+    private static final int WARMUP_ROUNDS = 2;
+
+    private static String newKey() {
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        return Base64.getEncoder().encodeToString(key);
+    }
+
+    @Test
+    @DisplayName("기존 AesCryptoUtil과 암호문 포맷이 호환되어야 한다")
+    void compatibleWithAesCryptoUtil() {
+        String key = newKey();
+        AesGcmEngine engine = new AesGcmEngine(key);
+
+        assertEquals("12500.50", engine.decrypt(AesCryptoUtil.encrypt("12500.50", key)));
+        assertEquals("12500.50", AesCryptoUtil.decrypt(engine.encrypt("12500.50"), key));
+        assertEquals("견적 금액", engine.decryptAll(engine.encryptAll(List.of("견적 금액"))).get(0));
+
+        List<String> withBlanks = new ArrayList<>();
+        withBlanks.add(null);
+        withBlanks.add("");
+        List<String> decrypted = engine.decryptAll(withBlanks);
+        assertNull(decrypted.get(0));
+        assertEquals("", decrypted.get(1));
+
+        assertThrows(IllegalStateException.class, () -> engine.decrypt("not-encrypted"));
+        assertThrows(IllegalArgumentException.class, () -> new AesGcmEngine(Base64.getEncoder().encodeToString(new byte[16])));
+    }
+
+    /*
+     견적 금액 10만 건 복호화 비교 (JMH 대신 JUnit 측정, 각 방식 워밍업 후 1회 측정)
+     - AesCryptoUtil.decrypt : 호출마다 키 Base64 해석 + SecretKeySpec + Cipher.getInstance
+     - AesGcmEngine.decryptAll : 키 1회 해석, 스레드별 Cipher/버퍼 재사용
+     - AesGcmEngine.decryptAllParallel : decryptAll을 청크 단위로 ForkJoinPool에서 분할 처리
+    */
+    @Test
+    @DisplayName("견적 금액 10만 건 복호화: AesCryptoUtil vs decryptAll vs decryptAllParallel")
+    void decryptHundredThousandQuoteAmounts() {
+        String key = newKey();
+        AesGcmEngine engine = new AesGcmEngine(key);
+
+        Random random = new Random(42);
+        List<String> amounts = new ArrayList<>(QUOTE_COUNT);
+        for (int i = 0; i < QUOTE_COUNT; i++) {
+            amounts.add(random.nextInt(10_000_000) + "." + String.format("%02d", random.nextInt(100)));
+        }
+        List<String> encrypted = engine.encryptAll(amounts);
+
+        List<String> utilResult = null;
+        List<String> engineResult = null;
+        List<String> parallelResult = null;
+        for (int round = 0; round <= WARMUP_ROUNDS; round++) {
+            long start = System.nanoTime();
+            utilResult = new ArrayList<>(QUOTE_COUNT);
+            for (String enc : encrypted) {
+                utilResult.add(AesCryptoUtil.decrypt(enc, key));
+            }
+            long utilMs = (System.nanoTime() - start) / 1_000_000;
+
+            start = System.nanoTime();
+            engineResult = engine.decryptAll(encrypted);
+            long engineMs = (System.nanoTime() - start) / 1_000_000;
+
+            start = System.nanoTime();
+            parallelResult = engine.decryptAllParallel(encrypted);
+            long parallelMs = (System.nanoTime() - start) / 1_000_000;
+
+            if (round == WARMUP_ROUNDS) {
+                log.info("[AES 복호화 {}건] AesCryptoUtil: {} ms, decryptAll: {} ms, decryptAllParallel: {} ms",
+                        QUOTE_COUNT, utilMs, engineMs, parallelMs);
+            }
+        }
+        engine.shutdown();
+
+        assertEquals(amounts, utilResult);
+        assertEquals(amounts, engineResult);
+        assertEquals(amounts, parallelResult);
+    }
+}
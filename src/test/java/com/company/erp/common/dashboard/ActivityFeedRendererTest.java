@@ -0,0 +1,52 @@
+package com.company.erp.common.dashboard;
+
+import com.company.erp.common.dashboard.buyer.dto.response.RecentActivityResponse;
+import com.company.erp.common.util.RelativeTimeFormatter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ActivityFeedRendererTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 3, 10, 12, 0, 0);
+
+    @Test
+    @DisplayName("상대 시간 구간: 1분 미만 / 분 / 시간 / 일 / 7일 이상은 날짜")
+    void formatsRelativeTime() {
+        assertEquals("방금 전", RelativeTimeFormatter.format(NOW.minusSeconds(59), NOW));
+        assertEquals("5분 전", RelativeTimeFormatter.format(NOW.minusMinutes(5).minusSeconds(30), NOW));
+        assertEquals("23시간 전", RelativeTimeFormatter.format(NOW.minusHours(23).minusMinutes(59), NOW));
+        assertEquals("6일 전", RelativeTimeFormatter.format(NOW.minusDays(6), NOW));
+        assertEquals("2026-03-03", RelativeTimeFormatter.format(NOW.minusDays(7), NOW));
+        assertEquals("방금 전", RelativeTimeFormatter.format(NOW.plusMinutes(3), NOW));
+        assertEquals("알 수 없음", RelativeTimeFormatter.format(null, NOW));
+    }
+
+    @Test
+    @DisplayName("응답은 사본으로 만들고, epoch 요청이면 포맷 없이 regAt만 채운다")
+    void rendersCopies() {
+        LocalDateTime regDate = LocalDateTime.now().minusMinutes(3);
+        RecentActivityResponse row = RecentActivityResponse.builder()
+                .type("request").title("사무용품").regDate(regDate).build();
+
+        RecentActivityResponse text = ActivityFeedRenderer.render(List.of(row), false).get(0);
+        assertEquals("3분 전", text.getTime());
+        assertEquals(regDate, text.getRegDate());
+        assertNull(text.getRegAt());
+
+        RecentActivityResponse epoch = ActivityFeedRenderer.render(List.of(row), true).get(0);
+        assertNull(epoch.getTime());
+        assertNull(epoch.getRegDate());
+        assertEquals(regDate.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli(), epoch.getRegAt());
+
+        // 캐시에 보관된 원본은 그대로
+        assertNull(row.getTime());
+        assertEquals(regDate, row.getRegDate());
+    }
+}
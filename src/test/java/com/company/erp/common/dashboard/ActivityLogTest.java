@@ -0,0 +1,117 @@
+package com.company.erp.common.dashboard;
+
+import com.company.erp.common.dashboard.activity.ActivityLog;
+import com.company.erp.common.dashboard.activity.mapper.ActivityLogMapper;
+import com.company.erp.common.dashboard.buyer.dto.response.RecentActivityResponse;
+import com.company.erp.common.dashboard.live.DashboardEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ActivityLogTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 3, 10, 12, 0, 0);
+
+    private final ActivityLogMapper mapper = mock(ActivityLogMapper.class);
+    private final ActivityLog activityLog = new ActivityLog(mapper);
+
+    @Test
+    @DisplayName("다음 페이지가 있으면 마지막 행의 (REG_DATE, LOG_ID)로 커서를 만들고, 그 커서로 이어서 조회한다")
+    @SuppressWarnings("unchecked")
+    void pagesWithKeysetCursor() {
+        when(mapper.selectTimeline(isNull(), isNull(), isNull(), eq(3))).thenReturn(rows(100, 3));
+
+        Map<String, Object> first = activityLog.page(null, null, 2, false);
+        List<RecentActivityResponse> items = (List<RecentActivityResponse>) first.get("items");
+        assertEquals(2, items.size());
+        assertEquals(99L, items.get(1).getLogId());
+
+        activityLog.page(null, (String) first.get("nextCursor"), 2, false);
+        verify(mapper).selectTimeline(null, BASE.minusMinutes(1), 99L, 3);
+    }
+
+    @Test
+    @DisplayName("마지막 페이지면 nextCursor가 없고, 페이지 크기는 100건으로 제한된다")
+    void lastPageAndPageSizeCap() {
+        when(mapper.selectTimeline(eq("V001"), any(), any(), anyInt())).thenReturn(rows(5, 2));
+
+        Map<String, Object> page = activityLog.page("V001", null, 1_000, true);
+
+        assertNull(page.get("nextCursor"));
+        assertEquals(100, page.get("pageSize"));
+        verify(mapper).selectTimeline("V001", null, null, 101);
+    }
+
+    @Test
+    @DisplayName("잘못된 커서는 400 대상 예외")
+    void rejectsInvalidCursor() {
+        assertThrows(IllegalArgumentException.class, () -> activityLog.page(null, "not-a-cursor", 20, false));
+    }
+
+    @Test
+    @DisplayName("협력사 대상 이벤트만 협력사 행을 추가하고, 기록 실패는 문서 처리를 막지 않는다")
+    void appendsVendorRowsOnlyForVendorEvents() {
+        activityLog.append(DashboardEvent.PR_APPROVED, "PR1");
+        verify(mapper).insertBuyerActivity("PR", "request", "PR_APPROVED", List.of("PR1"), "구매요청 승인", null);
+        verify(mapper, never()).insertVendorActivities(anyString(), anyString(), anyString(), anyString(), anyString(), any());
+
+        activityLog.append(DashboardEvent.PO_SENT, "PO1");
+        verify(mapper).insertVendorActivities("PO_VENDOR", "order", "PO_SENT", "PO1", "발주 전송", null);
+
+        when(mapper.insertBuyerActivity(anyString(), anyString(), anyString(), eq(List.of("GR1")), anyString(), any()))
+                .thenThrow(new DataIntegrityViolationException("ACTIVITY_LOG"));
+        activityLog.append(DashboardEvent.GR_CREATED, "GR1");
+    }
+
+    @Test
+    @DisplayName("한 번의 처리로 생긴 문서는 한 문장으로 문서마다 기록하고, 빈 목록은 기록하지 않는다")
+    void appendsOneRowPerDocument() {
+        activityLog.append(DashboardEvent.GR_CREATED, List.of("GR1", "GR2", "GR3"));
+        verify(mapper).insertBuyerActivity("GR", "receiving", "GR_CREATED", List.of("GR1", "GR2", "GR3"), "입고 등록", null);
+
+        activityLog.append(DashboardEvent.GR_CREATED, List.of());
+        verify(mapper).insertBuyerActivity(anyString(), anyString(), anyString(), any(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("교착 상태/잠금 실패는 트랜잭션 전체가 롤백되므로 삼키지 않고 던진다")
+    void rethrowsTransientFailures() {
+        when(mapper.insertBuyerActivity(anyString(), anyString(), anyString(), eq(List.of("PO1")), anyString(), any()))
+                .thenThrow(new CannotAcquireLockException("Deadlock found when trying to get lock"));
+
+        assertThrows(CannotAcquireLockException.class, () -> activityLog.append(DashboardEvent.PO_CREATED, "PO1"));
+    }
+
+    // LOG_ID가 큰 순서(최신순)로 count건
+    private static List<RecentActivityResponse> rows(long firstLogId, int count) {
+        List<RecentActivityResponse> rows = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            rows.add(RecentActivityResponse.builder()
+                    .logId(firstLogId - i)
+                    .type("request")
+                    .title("PR " + i)
+                    .regDate(BASE.minusMinutes(i))
+                    .build());
+        }
+        return rows;
+    }
+}
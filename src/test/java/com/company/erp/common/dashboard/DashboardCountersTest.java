@@ -0,0 +1,133 @@
+package com.company.erp.common.dashboard;
+
+import com.company.erp.common.dashboard.buyer.counter.DashboardCounters;
+import com.company.erp.common.dashboard.buyer.counter.DashboardDoc;
+import com.company.erp.common.dashboard.buyer.dto.response.BuyerDashboardStatsResponse;
+import com.company.erp.common.dashboard.buyer.mapper.BuyerDashboardMapper;
+import com.company.erp.common.dashboard.cache.DashboardCache;
+import com.company.erp.common.dashboard.live.DashboardEventBus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+class DashboardCountersTest {
+
+    private FakeDashboardMapper mapper;
+    private DashboardCounters counters;
+
+    @BeforeEach
+    void setUp() {
+        mapper = new FakeDashboardMapper();
+        counters = new DashboardCounters(mapper, new DashboardCache(Duration.ofSeconds(30), Duration.ofSeconds(10), 10),
+                mock(DashboardEventBus.class), Duration.ofHours(1));
+        counters.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        counters.stop();
+    }
+
+    @Test
+    @DisplayName("첫 조회에만 전체 집계하고, 이후 조회는 집계 쿼리 없이 메모리 값을 읽는다")
+    void snapshotReadsMemory() {
+        mapper.totals = BuyerDashboardStatsResponse.builder().prCount(10).pendingProcessCount(3).build();
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(10, counters.snapshot().getPrCount());
+        }
+        assertEquals(1, mapper.fullCountQueries.get());
+    }
+
+    @Test
+    @DisplayName("상태 변경은 커밋 후 변경 전/후 소속 차이만큼 반영되고, 롤백되면 반영되지 않는다")
+    void appliesDeltaOnCommitOnly() throws Exception {
+        mapper.totals = BuyerDashboardStatsResponse.builder().prCount(10).pendingProcessCount(3).build();
+        counters.snapshot();
+
+        // PR 승인 (T -> A, RFQ 없음): 처리 대기 -1, 견적 대기 +1
+        mapper.pr.put("PR1", BuyerDashboardStatsResponse.builder().prCount(1).pendingProcessCount(1).build());
+        inTransaction(true, () -> {
+            counters.track(DashboardDoc.PR, "PR1");
+            counters.track(DashboardDoc.PR, "PR1"); // 같은 트랜잭션 중복 호출은 한 번만
+            mapper.pr.put("PR1", BuyerDashboardStatsResponse.builder().prCount(1).rfqPendingCount(1).build());
+        });
+        awaitEquals(2L, () -> counters.snapshot().getPendingProcessCount());
+        assertEquals(1, counters.snapshot().getRfqPendingCount());
+        assertEquals(10, counters.snapshot().getPrCount());
+
+        // 롤백: 변경 후 상태를 DB가 되돌렸다고 보고 반영 없음
+        inTransaction(false, () -> counters.track(DashboardDoc.PR, "PR1"));
+        Thread.sleep(50);
+        assertEquals(1, counters.snapshot().getRfqPendingCount());
+
+        // 재집계는 원본 값으로 덮어씀 (드리프트 보정)
+        mapper.totals = BuyerDashboardStatsResponse.builder().prCount(11).build();
+        counters.reconcile();
+        assertEquals(11, counters.snapshot().getPrCount());
+        assertEquals(0, counters.snapshot().getRfqPendingCount());
+    }
+
+    private static void inTransaction(boolean commit, Runnable body) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            body.run();
+            List<TransactionSynchronization> syncs = TransactionSynchronizationManager.getSynchronizations();
+            if (commit) TransactionSynchronizationUtils.invokeAfterCommit(syncs);
+            TransactionSynchronizationUtils.invokeAfterCompletion(syncs, commit
+                    ? TransactionSynchronization.STATUS_COMMITTED
+                    : TransactionSynchronization.STATUS_ROLLED_BACK);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static void awaitEquals(long expected, Supplier<Long> actual) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (actual.get() != expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(expected, actual.get());
+    }
+
+    static class FakeDashboardMapper implements BuyerDashboardMapper {
+        volatile BuyerDashboardStatsResponse totals = new BuyerDashboardStatsResponse();
+        final Map<String, BuyerDashboardStatsResponse> pr = new ConcurrentHashMap<>();
+        final AtomicInteger fullCountQueries = new AtomicInteger();
+
+        @Override
+        public BuyerDashboardStatsResponse getDashboardStats() {
+            fullCountQueries.incrementAndGet();
+            return totals;
+        }
+
+        @Override
+        public BuyerDashboardStatsResponse selectPrCounterMembership(String prNum) {
+            return pr.get(prNum);
+        }
+
+        @Override
+        public BuyerDashboardStatsResponse selectRfqCounterMembership(String rfqNum) {
+            return null;
+        }
+
+        @Override
+        public BuyerDashboardStatsResponse selectPoCounterMembership(String poNum) {
+            return null;
+        }
+    }
+}
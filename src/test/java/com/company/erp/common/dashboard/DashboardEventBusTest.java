@@ -0,0 +1,196 @@
+package com.company.erp.common.dashboard;
+
+import com.company.erp.common.dashboard.activity.ActivityLog;
+import com.company.erp.common.dashboard.buyer.dto.response.BuyerDashboardStatsResponse;
+import com.company.erp.common.dashboard.buyer.dto.response.RecentActivityResponse;
+import com.company.erp.common.dashboard.cache.DashboardCache;
+import com.company.erp.common.dashboard.live.DashboardEvent;
+import com.company.erp.common.dashboard.live.DashboardEventBus;
+import com.company.erp.common.dashboard.live.mapper.DashboardLiveMapper;
+import com.company.erp.common.dashboard.vendor.dto.response.VendorDashboardStatsResponse;
+import com.company.erp.common.dashboard.vendor.mapper.VendorDashboardMapper;
+import com.company.erp.common.dashboard.vendor.service.VendorDashboardService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class DashboardEventBusTest {
+
+    private static final int SEND_QUEUE_CAPACITY = 4;
+
+    private DashboardLiveMapper liveMapper;
+    private VendorDashboardMapper vendorMapper;
+    private RecordingEventBus bus;
+
+    @BeforeEach
+    void setUp() {
+        liveMapper = mock(DashboardLiveMapper.class);
+        vendorMapper = mock(VendorDashboardMapper.class);
+        ActivityLog activityLog = mock(ActivityLog.class);
+        VendorDashboardService vendorService = new VendorDashboardService(vendorMapper,
+                new DashboardCache(Duration.ofSeconds(30), Duration.ofSeconds(10), 10), activityLog);
+
+        bus = new RecordingEventBus(liveMapper, activityLog, vendorService, 3);
+        bus.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        bus.stop();
+    }
+
+    @Test
+    @DisplayName("구매요청 등록은 구매사 구독자에게만 활동 항목으로 전송된다")
+    void buyerEventGoesToBuyersOnly() throws Exception {
+        when(liveMapper.selectPrSubject("PR1")).thenReturn("사무용품 구매");
+        RecordingEmitter buyer = (RecordingEmitter) bus.subscribeBuyer();
+        RecordingEmitter vendor = (RecordingEmitter) bus.subscribeVendor("V001");
+
+        bus.publish(DashboardEvent.PR_CREATED, "PR1");
+
+        RecentActivityResponse activity = assertInstanceOf(RecentActivityResponse.class, buyer.awaitData());
+        assertEquals("request", activity.getType());
+        assertEquals("사무용품 구매", activity.getTitle());
+        assertEquals("구매요청 등록", activity.getDescription());
+
+        Thread.sleep(50);
+        assertTrue(vendor.data.isEmpty());
+    }
+
+    @Test
+    @DisplayName("견적 발송은 대상 협력사에게 활동 항목과 최신 통계를 보낸다")
+    void rfqEventGoesToTargetVendors() throws Exception {
+        when(liveMapper.selectRfqSubject("RFQ1")).thenReturn("노트북 견적");
+        when(liveMapper.selectRfqVendorCodes("RFQ1", false)).thenReturn(List.of("V001"));
+        when(vendorMapper.getDashboardStats(anyString())).thenReturn(new VendorDashboardStatsResponse());
+
+        RecordingEmitter target = (RecordingEmitter) bus.subscribeVendor("V001");
+        RecordingEmitter other = (RecordingEmitter) bus.subscribeVendor("V002");
+
+        bus.publish(DashboardEvent.RFQ_SENT, "RFQ1");
+
+        assertInstanceOf(RecentActivityResponse.class, target.awaitData());
+        assertInstanceOf(VendorDashboardStatsResponse.class, target.awaitData());
+
+        Thread.sleep(50);
+        assertTrue(other.data.isEmpty());
+    }
+
+    @Test
+    @DisplayName("구독자가 없으면 조회 없이 무시하고, 연결 수 한도를 넘으면 거절한다")
+    void skipsWithoutSubscribersAndLimitsConnections() {
+        bus.publish(DashboardEvent.PO_SENT, "PO1");
+        verifyNoInteractions(liveMapper);
+
+        bus.subscribeBuyer();
+        bus.subscribeBuyer();
+        bus.subscribeVendor("V001");
+        assertThrows(IllegalStateException.class, bus::subscribeBuyer);
+        assertEquals(3, bus.connectionCount());
+    }
+
+    @Test
+    @DisplayName("쓰기가 막힌 연결은 다른 구독자 전송을 막지 않고, 대기열이 넘치면 끊긴다")
+    void slowConsumerDoesNotBlockOthers() throws Exception {
+        StalledEmitter slow = new StalledEmitter();
+        bus.next = slow;
+        bus.subscribeBuyer();
+        RecordingEmitter fast = (RecordingEmitter) bus.subscribeBuyer();
+        slow.stalled = true;
+
+        // 빠른 구독자는 매번 받고, 막힌 연결의 대기열만 쌓임
+        int events = SEND_QUEUE_CAPACITY + 3;
+        for (int i = 0; i < events; i++) {
+            bus.publishBuyerStats(new BuyerDashboardStatsResponse());
+            assertInstanceOf(BuyerDashboardStatsResponse.class, fast.awaitData());
+        }
+        assertEquals(1, bus.connectionCount());
+
+        // 막힌 쓰기가 풀리면 남은 이벤트는 버리고 응답을 끝냄
+        slow.release.countDown();
+        assertTrue(slow.completed.await(5, TimeUnit.SECONDS));
+        assertFalse(slow.data.size() >= events);
+    }
+
+    // 전송된 이벤트의 data 객체만 기록
+    private static class RecordingEmitter extends SseEmitter {
+        final List<Object> data = new CopyOnWriteArrayList<>();
+        private int read;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            builder.build().stream()
+                    .map(part -> part.getData())
+                    .filter(d -> !(d instanceof String))
+                    .forEach(data::add);
+        }
+
+        private Object awaitData() throws InterruptedException {
+            long deadline = System.currentTimeMillis() + 5_000;
+            while (data.size() <= read && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            return data.get(read++);
+        }
+    }
+
+    // stalled 이후의 쓰기는 release될 때까지 멈춤 (TCP 창이 가득 찬 클라이언트 흉내)
+    private static final class StalledEmitter extends RecordingEmitter {
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final CountDownLatch completed = new CountDownLatch(1);
+        private volatile boolean stalled;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (stalled) {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            super.send(builder);
+        }
+
+        @Override
+        public void complete() {
+            completed.countDown();
+        }
+    }
+
+    private static final class RecordingEventBus extends DashboardEventBus {
+        private SseEmitter next;
+
+        private RecordingEventBus(DashboardLiveMapper liveMapper, ActivityLog activityLog,
+                                  VendorDashboardService vendorService, int maxConnections) {
+            super(liveMapper, activityLog, vendorService, Duration.ofMinutes(30), Duration.ofMinutes(30),
+                    maxConnections, 2, SEND_QUEUE_CAPACITY);
+        }
+
+        @Override
+        protected SseEmitter newEmitter(long timeoutMillis) {
+            SseEmitter emitter = next != null ? next : new RecordingEmitter();
+            next = null;
+            return emitter;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.company.erp.common.dashboard;
+
+import com.company.erp.common.dashboard.cache.SingleFlightCache;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SingleFlightCacheTest {
+
+    @Test
+    @DisplayName("같은 키로 동시에 미스가 나면 loader는 한 번만 실행되고 모두 같은 결과를 받는다")
+    void coalescesConcurrentMisses() throws Exception {
+        SingleFlightCache<String, Integer> cache = new SingleFlightCache<>(60_000, 10);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(pool.submit(() -> cache.get("V001", () -> {
+                    loads.incrementAndGet();
+                    await(release);
+                    return 42;
+                })));
+            }
+            Thread.sleep(100);
+            release.countDown();
+
+            for (Future<Integer> result : results) {
+                assertEquals(42, result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.stats().getMisses());
+        assertEquals(7, cache.stats().getHits());
+    }
+
+    @Test
+    @DisplayName("TTL이 지나거나 무효화되면 다시 로드한다")
+    void reloadsAfterExpiryOrInvalidate() throws Exception {
+        SingleFlightCache<String, Integer> cache = new SingleFlightCache<>(50, 10);
+        AtomicInteger loads = new AtomicInteger();
+
+        assertEquals(1, cache.get("k", loads::incrementAndGet));
+        assertEquals(1, cache.get("k", loads::incrementAndGet));
+
+        Thread.sleep(80);
+        assertEquals(2, cache.get("k", loads::incrementAndGet));
+
+        cache.invalidate("k");
+        assertEquals(3, cache.get("k", loads::incrementAndGet));
+    }
+
+    @Test
+    @DisplayName("상한을 넘으면 가장 오래 안 쓴 키부터 제거한다")
+    void evictsLeastRecentlyUsed() {
+        SingleFlightCache<String, String> cache = new SingleFlightCache<>(60_000, 2);
+
+        cache.get("A", () -> "a");
+        cache.get("B", () -> "b");
+        cache.get("A", () -> "a2");   // A 사용 -> B가 LRU
+        cache.get("C", () -> "c");
+
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.stats().getEvictions());
+        assertEquals("a", cache.get("A", () -> "a3"));
+        assertEquals("b2", cache.get("B", () -> "b2"));
+    }
+
+    @Test
+    @DisplayName("loader 실패는 캐시하지 않는다")
+    void doesNotCacheFailures() {
+        SingleFlightCache<String, String> cache = new SingleFlightCache<>(60_000, 10);
+
+        assertThrows(IllegalStateException.class,
+                () -> cache.get("k", () -> { throw new IllegalStateException("DB 오류"); }));
+        assertEquals("ok", cache.get("k", () -> "ok"));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.company.erp.common.docNum;
+
+import com.company.erp.common.docNum.config.DocNumProperties;
+import com.company.erp.common.docNum.service.DocKey;
+import com.company.erp.common.docNum.service.DocNumService;
+import com.company.erp.common.docNum.service.DocSeqReserver;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DocNumBlockConcurrencyTest {
+
+    private static final Logger log = LoggerFactory.getLogger(DocNumBlockConcurrencyTest.class);
+
+    private static final int THREADS = 8;
+    private static final int PER_THREAD = 200;
+
+    /**
+     * DCNB 행 하나를 흉내내는 예약기
+     * - 행 잠금(synchronized) + DB 왕복 지연(1ms)
+     */
+    static class FakeReserver extends DocSeqReserver {
+        private final Map<String, Integer> rows = new HashMap<>();
+        private final AtomicInteger roundTrips = new AtomicInteger();
+
+        FakeReserver() {
+            super(null);
+        }
+
+        @Override
+        public synchronized int reserve(String docType, LocalDate docDate, int count) {
+            roundTrips.incrementAndGet();
+            try {
+                Thread.sleep(1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return rows.merge(docType + docDate, count, Integer::sum);
+        }
+    }
+
+    private DocNumService newService(FakeReserver reserver, int blockSize) {
+        DocNumProperties props = new DocNumProperties();
+        props.getBlockSize().put(DocKey.GR, blockSize);
+        return new DocNumService(reserver, props);
+    }
+
+    private long run(DocNumService service, Set<String> issued) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch latch = new CountDownLatch(THREADS);
+        long start = System.nanoTime();
+        for (int t = 0; t < THREADS; t++) {
+            executor.submit(() -> {
+                try {
+                    for (int i = 0; i < PER_THREAD; i++) {
+                        issued.add(service.generateDocNumStr(DocKey.GR));
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executor.shutdown();
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+
+    @Test
+    @DisplayName("블록 채번: 멀티스레드에서 중복 없이 발급되고 DB 왕복이 줄어야 한다")
+    void blockLeasingBenchmark() throws InterruptedException {
+        FakeReserver perNumber = new FakeReserver();
+        Set<String> perNumberIssued = ConcurrentHashMap.newKeySet();
+        long perNumberMs = run(newService(perNumber, 1), perNumberIssued);
+
+        FakeReserver blocked = new FakeReserver();
+        Set<String> blockIssued = ConcurrentHashMap.newKeySet();
+        long blockMs = run(newService(blocked, 100), blockIssued);
+
+        log.info("건별 채번: {}ms, DB 왕복 {}회", perNumberMs, perNumber.roundTrips.get());
+        log.info("블록 채번(100): {}ms, DB 왕복 {}회", blockMs, blocked.roundTrips.get());
+
+        assertEquals(THREADS * PER_THREAD, perNumberIssued.size());
+        assertEquals(THREADS * PER_THREAD, blockIssued.size());
+        assertEquals(THREADS * PER_THREAD / 100, blocked.roundTrips.get());
+        assertTrue(blockMs < perNumberMs);
+    }
+
+    @Test
+    @DisplayName("블록 채번: 리셋 단위가 바뀌면 seq가 1부터 다시 시작하고 포맷이 유지되어야 한다")
+    void blockRollover() {
+        DocNumProperties props = new DocNumProperties();
+        props.getBlockSize().put(DocKey.GR, 10);
+        props.getBlockSize().put(DocKey.IT, 10);
+        props.getBlockSize().put(DocKey.VN, 10);
+        DocNumService service = new DocNumService(new FakeReserver(), props);
+
+        LocalDate day1 = LocalDate.of(2026, 1, 5);
+        LocalDate day2 = LocalDate.of(2026, 1, 6);
+
+        assertEquals("GR2601050001", service.generateDocNum(DocKey.GR, day1).getDocNo());
+        assertEquals("GR2601050002", service.generateDocNum(DocKey.GR, day1).getDocNo());
+        assertEquals("GR2601060001", service.generateDocNum(DocKey.GR, day2).getDocNo());
+        // 과거 일자 채번은 현재 블록을 건드리지 않음 (day1 블록은 이미 버려져 11번부터)
+        assertEquals("GR2601050011", service.generateDocNum(DocKey.GR, day1).getDocNo());
+        assertEquals("GR2601060002", service.generateDocNum(DocKey.GR, day2).getDocNo());
+
+        assertEquals("IT-2026-000001", service.generateDocNum(DocKey.IT, day1).getDocNo());
+        assertEquals("IT-2026-000002", service.generateDocNum(DocKey.IT, day2).getDocNo());
+        assertEquals("IT-2027-000001", service.generateDocNum(DocKey.IT, LocalDate.of(2027, 1, 1)).getDocNo());
+
+        assertEquals("V001", service.generateDocNum(DocKey.VN, day1).getDocNo());
+        assertEquals("V002", service.generateDocNum(DocKey.VN, day2).getDocNo());
+    }
+
+    @Test
+    @DisplayName("일괄 채번: count개의 연속 번호를 DB 왕복 1회로 발급해야 한다")
+    void generateDocNums() {
+        FakeReserver reserver = new FakeReserver();
+        DocNumService service = newService(reserver, 1);
+
+        String first = service.generateDocNumStr(DocKey.GR);
+        List<String> batch = service.generateDocNums(DocKey.GR, 50);
+
+        assertEquals(50, batch.size());
+        assertEquals(2, reserver.roundTrips.get());
+        String prefix = first.substring(0, first.length() - 4);
+        for (int i = 0; i < batch.size(); i++) {
+            assertEquals(prefix + String.format("%04d", i + 2), batch.get(i));
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.company.erp.common.file;
+
+import com.company.erp.common.file.config.FileProperties;
+import com.company.erp.common.file.infra.ContentAddressedFileStorage;
+import com.company.erp.common.file.infra.StoredFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ContentAddressedFileStorageTest {
+
+    @TempDir
+    Path baseDir;
+
+    private ContentAddressedFileStorage newStorage() {
+        FileProperties props = new FileProperties();
+        props.setBaseDir(baseDir.toString());
+        return new ContentAddressedFileStorage(props);
+    }
+
+    @Test
+    @DisplayName("같은 내용은 파일 이름이 달라도 하나의 파일로 저장된다")
+    void sameContentStoredOnce() throws Exception {
+        byte[] content = new byte[256 * 1024];
+        new Random(11).nextBytes(content);
+        ContentAddressedFileStorage storage = newStorage();
+
+        StoredFile first = storage.store(
+                new MockMultipartFile("file", "a.pdf", "application/pdf", content), "PO/2026/01/05", "uuid-1.pdf");
+        StoredFile second = storage.store(
+                new MockMultipartFile("file", "b.pdf", "application/pdf", content), "PR/2026/01/06", "uuid-2.pdf");
+
+        String hash = first.getSha256();
+        assertEquals("cas/" + hash.substring(0, 2) + "/" + hash.substring(2, 4) + "/" + hash, first.getRelativePath());
+        assertEquals(first.getRelativePath(), second.getRelativePath());
+        assertArrayEquals(content, Files.readAllBytes(Path.of(first.getAbsolutePath())));
+
+        // 실제 파일은 하나, 임시 .part 파일은 남지 않음
+        try (Stream<Path> files = Files.walk(baseDir)) {
+            assertEquals(1, files.filter(Files::isRegularFile).count());
+        }
+    }
+
+    @Test
+    @DisplayName("내용이 다르면 다른 경로에 저장된다")
+    void differentContentDifferentPath() throws Exception {
+        ContentAddressedFileStorage storage = newStorage();
+
+        StoredFile a = storage.store(new MockMultipartFile("file", "a.txt", "text/plain", new byte[]{1}), "PO", "a.txt");
+        StoredFile b = storage.store(new MockMultipartFile("file", "a.txt", "text/plain", new byte[]{2}), "PO", "b.txt");
+
+        assertNotEquals(a.getRelativePath(), b.getRelativePath());
+    }
+
+    @Test
+    @DisplayName("정리 작업은 유예 기간이 지나고 참조가 없는 파일과 그 파생 파일만 지운다")
+    void sweepDeletesOnlyOldUnreferencedBlobs() throws Exception {
+        ContentAddressedFileStorage storage = newStorage();
+        StoredFile orphan = storage.store(new MockMultipartFile("file", "a.pdf", "application/pdf", new byte[]{1}), "PO", "a.pdf");
+        StoredFile kept = storage.store(new MockMultipartFile("file", "b.pdf", "application/pdf", new byte[]{2}), "PO", "b.pdf");
+        StoredFile recent = storage.store(new MockMultipartFile("file", "c.pdf", "application/pdf", new byte[]{3}), "PO", "c.pdf");
+        storage.storeDerived(orphan.getRelativePath() + ".thumb.jpg", new byte[]{9});
+
+        Instant cutoff = Instant.now().minus(Duration.ofHours(1));
+        age(orphan, Duration.ofHours(2));
+        age(kept, Duration.ofHours(2));
+        age(Path.of(orphan.getAbsolutePath() + ".thumb.jpg"), Duration.ofHours(2));
+
+        // 참조 여부는 후보 경로를 묶어서 한 번에 조회
+        List<List<String>> lookups = new ArrayList<>();
+        int deleted = storage.sweep(cutoff, paths -> {
+            lookups.add(List.copyOf(paths));
+            return paths.contains(kept.getRelativePath()) ? Set.of(kept.getRelativePath()) : Set.of();
+        });
+
+        assertEquals(1, deleted);
+        assertEquals(1, lookups.size());
+        assertEquals(Set.of(orphan.getRelativePath(), kept.getRelativePath()), Set.copyOf(lookups.get(0)));
+        assertFalse(Files.exists(Path.of(orphan.getAbsolutePath())));
+        assertFalse(Files.exists(Path.of(orphan.getAbsolutePath() + ".thumb.jpg")));
+        assertTrue(Files.exists(Path.of(kept.getAbsolutePath())));
+        assertTrue(Files.exists(Path.of(recent.getAbsolutePath())));
+    }
+
+    @Test
+    @DisplayName("같은 내용을 다시 올리면 수정 시각이 갱신되어 정리 대상에서 빠진다")
+    void reuseRestartsGracePeriod() throws Exception {
+        ContentAddressedFileStorage storage = newStorage();
+        byte[] content = {7, 7, 7};
+        StoredFile first = storage.store(new MockMultipartFile("file", "a.pdf", "application/pdf", content), "PO", "a.pdf");
+        age(first, Duration.ofHours(2));
+
+        // 두 번째 업로드는 아직 커밋 전 -> 정리 작업에서는 참조 없음으로 보임
+        storage.store(new MockMultipartFile("file", "b.pdf", "application/pdf", content), "PR", "b.pdf");
+
+        assertEquals(0, storage.sweep(Instant.now().minus(Duration.ofHours(1)), paths -> Set.of()));
+        assertTrue(Files.exists(Path.of(first.getAbsolutePath())));
+    }
+
+    private static void age(StoredFile stored, Duration age) throws Exception {
+        age(Path.of(stored.getAbsolutePath()), age);
+    }
+
+    private static void age(Path file, Duration age) throws Exception {
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().minus(age)));
+    }
+}
@@ -0,0 +1,139 @@
+package com.company.erp.common.file;
+
+import com.company.erp.common.file.model.AttFileEntity;
+import com.company.erp.common.file.model.FileDownload;
+import com.company.erp.common.file.util.FileDownloadWriter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FileDownloadWriterTest {
+
+    private static final String CONTENT = "0123456789abcdefghij";
+
+    @TempDir
+    Path tempDir;
+
+    private FileDownload download;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Path path = tempDir.resolve("stored.pdf");
+        Files.writeString(path, CONTENT);
+
+        AttFileEntity file = new AttFileEntity();
+        file.setFileNum("FL2601050001");
+        file.setOriginName("견적서.pdf");
+        file.setContentType("application/pdf");
+        file.setFileSize((long) CONTENT.length());
+        file.setRegDate(LocalDateTime.of(2026, 1, 5, 9, 30, 0));
+        download = new FileDownload(file, new FileSystemResource(path));
+    }
+
+    private MockHttpServletResponse get(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FileDownloadWriter.write(request, response, download);
+        return response;
+    }
+
+    private static MockHttpServletRequest request() {
+        return new MockHttpServletRequest("GET", "/api/files/FL2601050001");
+    }
+
+    @Test
+    @DisplayName("전체 다운로드: ETag / Last-Modified / Accept-Ranges, 같은 ETag로 재요청하면 304")
+    void fullAndNotModified() throws Exception {
+        MockHttpServletResponse full = get(request());
+        assertEquals(200, full.getStatus());
+        assertEquals(CONTENT, full.getContentAsString(StandardCharsets.UTF_8));
+        assertEquals("\"FL2601050001-20\"", full.getHeader(HttpHeaders.ETAG));
+        assertEquals("bytes", full.getHeader(HttpHeaders.ACCEPT_RANGES));
+        assertTrue(full.getHeader(HttpHeaders.CONTENT_DISPOSITION).contains("filename*=UTF-8''"));
+
+        MockHttpServletRequest revalidate = request();
+        revalidate.addHeader(HttpHeaders.IF_NONE_MATCH, full.getHeader(HttpHeaders.ETAG));
+        MockHttpServletResponse notModified = get(revalidate);
+        assertEquals(304, notModified.getStatus());
+        assertEquals(0, notModified.getContentAsByteArray().length);
+
+        MockHttpServletRequest byDate = request();
+        byDate.addHeader(HttpHeaders.IF_MODIFIED_SINCE,
+                LocalDateTime.of(2026, 1, 5, 9, 30, 0).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        assertEquals(304, get(byDate).getStatus());
+    }
+
+    @Test
+    @DisplayName("Range 요청은 206 부분 응답, If-Range 불일치면 전체, 범위 밖이면 416")
+    void rangeRequests() throws Exception {
+        MockHttpServletRequest partial = request();
+        partial.addHeader(HttpHeaders.RANGE, "bytes=10-");
+        MockHttpServletResponse resumed = get(partial);
+        assertEquals(206, resumed.getStatus());
+        assertEquals("bytes 10-19/20", resumed.getHeader(HttpHeaders.CONTENT_RANGE));
+        assertEquals("abcdefghij", resumed.getContentAsString());
+
+        MockHttpServletRequest suffix = request();
+        suffix.addHeader(HttpHeaders.RANGE, "bytes=-3");
+        suffix.addHeader(HttpHeaders.IF_RANGE, "\"FL2601050001-20\"");
+        assertEquals("hij", get(suffix).getContentAsString());
+
+        MockHttpServletRequest stale = request();
+        stale.addHeader(HttpHeaders.RANGE, "bytes=10-");
+        stale.addHeader(HttpHeaders.IF_RANGE, "\"FL2601050001-19\"");
+        MockHttpServletResponse restarted = get(stale);
+        assertEquals(200, restarted.getStatus());
+        assertNull(restarted.getHeader(HttpHeaders.CONTENT_RANGE));
+        assertEquals(CONTENT, restarted.getContentAsString());
+
+        MockHttpServletRequest outOfRange = request();
+        outOfRange.addHeader(HttpHeaders.RANGE, "bytes=50-60");
+        MockHttpServletResponse unsatisfiable = get(outOfRange);
+        assertEquals(416, unsatisfiable.getStatus());
+        assertEquals("bytes */20", unsatisfiable.getHeader(HttpHeaders.CONTENT_RANGE));
+    }
+
+    @Test
+    @DisplayName("컨테이너가 sendfile을 지원하면 본문을 쓰지 않고 sendfile 속성만 설정")
+    void sendfileWhenSupported() throws Exception {
+        MockHttpServletRequest request = request();
+        request.setAttribute("org.apache.tomcat.sendfile.support", Boolean.TRUE);
+        request.addHeader(HttpHeaders.RANGE, "bytes=5-9");
+
+        MockHttpServletResponse response = get(request);
+        assertEquals(206, response.getStatus());
+        assertEquals(0, response.getContentAsByteArray().length);
+        assertEquals(5L, request.getAttribute("org.apache.tomcat.sendfile.start"));
+        assertEquals(10L, request.getAttribute("org.apache.tomcat.sendfile.end"));
+        assertEquals(5, response.getContentLength());
+    }
+
+    @Test
+    @DisplayName("저장소 직접 다운로드 URL이 있으면 본문 없이 리다이렉트")
+    void redirectsToDirectUri() throws Exception {
+        FileDownload direct = new FileDownload(download.getFile(), download.getResource(),
+                URI.create("https://storage.example.com/erp-files/PO/a.pdf?X-Amz-Signature=abc"));
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FileDownloadWriter.write(request(), response, direct);
+
+        assertEquals(302, response.getStatus());
+        assertEquals("https://storage.example.com/erp-files/PO/a.pdf?X-Amz-Signature=abc", response.getRedirectedUrl());
+        assertEquals(0, response.getContentAsByteArray().length);
+    }
+}
@@ -0,0 +1,69 @@
+package com.company.erp.common.file;
+
+import com.company.erp.common.file.model.AttFileEntity;
+import com.company.erp.common.file.model.FileDownload;
+import com.company.erp.common.file.util.FileZipWriter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FileZipWriterTest {
+
+    @TempDir
+    Path tempDir;
+
+    private FileDownload download(String fileNum, String originName, String content) throws Exception {
+        Path path = tempDir.resolve(fileNum);
+        Files.writeString(path, content);
+
+        AttFileEntity file = new AttFileEntity();
+        file.setFileNum(fileNum);
+        file.setOriginName(originName);
+        return new FileDownload(file, new FileSystemResource(path));
+    }
+
+    @Test
+    @DisplayName("문서 첨부를 ZIP으로 스트리밍하고, 같은 파일명은 번호를 붙여 구분한다")
+    void zipsAllWithUniqueNames() throws Exception {
+        List<FileDownload> downloads = List.of(
+                download("FL1", "견적서.pdf", "quote-1"),
+                download("FL2", "견적서.pdf", "quote-2"),
+                download("FL3", "../spec.txt", "spec")
+        );
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FileZipWriter.write(response, "PO_PO2601050001.zip", downloads);
+
+        assertEquals("application/zip", response.getContentType());
+        assertTrue(response.getHeader("Content-Disposition").contains("attachment"));
+
+        Map<String, String> entries = new LinkedHashMap<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(response.getContentAsByteArray()), StandardCharsets.UTF_8)) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                entries.put(entry.getName(), new String(zip.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+
+        assertEquals(Map.of(
+                "견적서.pdf", "quote-1",
+                "견적서 (2).pdf", "quote-2",
+                ".._spec.txt", "spec"
+        ), entries);
+    }
+}
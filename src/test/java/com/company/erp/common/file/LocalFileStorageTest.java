@@ -0,0 +1,58 @@
+package com.company.erp.common.file;
+
+import com.company.erp.common.file.config.FileProperties;
+import com.company.erp.common.file.infra.LocalFileStorage;
+import com.company.erp.common.file.infra.StoredFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LocalFileStorageTest {
+
+    @TempDir
+    Path baseDir;
+
+    private LocalFileStorage newStorage() {
+        FileProperties props = new FileProperties();
+        props.setBaseDir(baseDir.toString());
+        return new LocalFileStorage(props);
+    }
+
+    @Test
+    @DisplayName("저장하면서 크기/SHA-256을 계산하고, 임시 .part 파일은 남지 않는다")
+    void storeComputesSizeAndHash() throws Exception {
+        byte[] content = new byte[3 * 1024 * 1024 + 17];
+        new Random(7).nextBytes(content);
+
+        StoredFile stored = newStorage().store(
+                new MockMultipartFile("file", "spec.pdf", "application/pdf", content), "PO/2026/01/05", "abc.pdf");
+
+        assertEquals(content.length, stored.getSize());
+        assertEquals(HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content)), stored.getSha256());
+        assertEquals("PO/2026/01/05/abc.pdf", stored.getRelativePath());
+        assertArrayEquals(content, Files.readAllBytes(Path.of(stored.getAbsolutePath())));
+        assertFalse(Files.exists(baseDir.resolve("PO/2026/01/05/abc.pdf.part")));
+    }
+
+    @Test
+    @DisplayName("base-dir 밖으로 나가는 경로는 저장하지 않는다")
+    void rejectsTraversal() {
+        LocalFileStorage storage = newStorage();
+        MockMultipartFile file = new MockMultipartFile("file", "a.txt", "text/plain", new byte[]{1});
+
+        assertThrows(SecurityException.class, () -> storage.store(file, "../outside", "a.txt"));
+        assertThrows(SecurityException.class, () -> storage.store(file, "PO", "../../a.txt"));
+    }
+}
@@ -0,0 +1,182 @@
+package com.company.erp.common.file;
+
+import com.company.erp.common.file.config.FileProperties;
+import com.company.erp.common.file.infra.LocalFileStorage;
+import com.company.erp.common.file.model.AttFileEntity;
+import com.company.erp.common.file.service.ThumbnailService;
+import com.company.erp.common.file.util.ThumbnailRenderer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ThumbnailServiceTest {
+
+    @TempDir
+    Path baseDir;
+
+    private ThumbnailService newService() {
+        return new ThumbnailService(new LocalFileStorage(props()), 256, 1, 10);
+    }
+
+    private FileProperties props() {
+        FileProperties props = new FileProperties();
+        props.setBaseDir(baseDir.toString());
+        return props;
+    }
+
+    // 생성 완료(present) 또는 실패(NoSuchElementException)까지 조회 반복
+    private static Optional<Resource> await(ThumbnailService service, AttFileEntity file) throws Exception {
+        Optional<Resource> thumbnail = service.find(file);
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (thumbnail.isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            thumbnail = service.find(file);
+        }
+        return thumbnail;
+    }
+
+    private AttFileEntity file(String originName, String filePath) {
+        AttFileEntity file = new AttFileEntity();
+        file.setFileNum("FL2601050001");
+        file.setOriginName(originName);
+        file.setFilePath(filePath);
+        return file;
+    }
+
+    @Test
+    @DisplayName("이미지는 백그라운드에서 긴 변 256px JPEG 썸네일이 만들어지고, 그 전까지는 대기(empty)")
+    void generatesImageThumbnail() throws Exception {
+        Path original = baseDir.resolve("PO/2026/01/05/a.png");
+        Files.createDirectories(original.getParent());
+        ImageIO.write(new BufferedImage(2000, 1000, BufferedImage.TYPE_INT_ARGB), "png", original.toFile());
+
+        ThumbnailService service = newService();
+        AttFileEntity file = file("도면.png", "PO/2026/01/05/a.png");
+
+        // 첫 조회는 대기 상태 (조회 시 작업 등록)
+        Optional<Resource> thumbnail = service.find(file);
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (thumbnail.isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            thumbnail = service.find(file);
+        }
+
+        assertTrue(thumbnail.isPresent());
+        BufferedImage image;
+        try (InputStream in = thumbnail.get().getInputStream()) {
+            image = ImageIO.read(in);
+        }
+        assertEquals(256, image.getWidth());
+        assertEquals(128, image.getHeight());
+        assertTrue(Files.exists(baseDir.resolve("PO/2026/01/05/a.png.thumb.jpg")));
+    }
+
+    @Test
+    @DisplayName("미리보기를 지원하지 않는 형식은 404")
+    void unsupportedType() {
+        ThumbnailService service = newService();
+        assertThrows(NoSuchElementException.class, () -> service.find(file("견적서.xlsx", "PO/a.xlsx")));
+    }
+
+    @Test
+    @DisplayName("PDF는 첫 페이지를 긴 변 256px로 렌더링한다")
+    void generatesPdfFirstPageThumbnail() throws Exception {
+        Path original = baseDir.resolve("OV/2026/01/05/a.pdf");
+        Files.createDirectories(original.getParent());
+        try (PDDocument document = new PDDocument()) {
+            document.addPage(new PDPage(PDRectangle.A4));
+            document.addPage(new PDPage(PDRectangle.A4));
+            document.save(original.toFile());
+        }
+
+        Optional<Resource> thumbnail = await(newService(), file("사업자등록증.pdf", "OV/2026/01/05/a.pdf"));
+
+        assertTrue(thumbnail.isPresent());
+        BufferedImage image;
+        try (InputStream in = thumbnail.get().getInputStream()) {
+            image = ImageIO.read(in);
+        }
+        assertEquals(256, image.getHeight());
+        assertEquals(Math.round(256 * PDRectangle.A4.getWidth() / PDRectangle.A4.getHeight()), image.getWidth(), 1);
+    }
+
+    @Test
+    @DisplayName("스트림만 있는 PDF 원본(object store)은 임시 파일로 옮겨 렌더링한다")
+    void rendersPdfFromStream() throws Exception {
+        Path original = baseDir.resolve("a.pdf");
+        try (PDDocument document = new PDDocument()) {
+            document.addPage(new PDPage(new PDRectangle(1000, 500)));
+            document.save(original.toFile());
+        }
+
+        byte[] jpeg;
+        try (InputStream in = Files.newInputStream(original)) {
+            jpeg = ThumbnailRenderer.render("PDF", in, 256);
+        }
+
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(jpeg));
+        assertEquals(256, image.getWidth());
+        assertEquals(128, image.getHeight());
+    }
+
+    @Test
+    @DisplayName("디코딩할 수 없는 원본은 실패로 기억하고(404), 원본 읽기 오류는 다음 조회에서 다시 시도한다")
+    void remembersOnlyDecodeFailures() throws Exception {
+        Path broken = baseDir.resolve("PO/broken.pdf");
+        Files.createDirectories(broken.getParent());
+        Files.write(broken, "not a pdf".getBytes());
+
+        ThumbnailService service = newService();
+        AttFileEntity brokenFile = file("깨진.pdf", "PO/broken.pdf");
+        assertThrows(NoSuchElementException.class, () -> await(service, brokenFile));
+
+        // 첫 번째 읽기만 I/O 오류를 내는 저장소
+        Path original = baseDir.resolve("PO/b.png");
+        ImageIO.write(new BufferedImage(300, 300, BufferedImage.TYPE_INT_RGB), "png", original.toFile());
+        AtomicInteger reads = new AtomicInteger();
+        LocalFileStorage flaky = new LocalFileStorage(props()) {
+            @Override
+            public Resource loadAsResource(String relativePath) {
+                Resource resource = super.loadAsResource(relativePath);
+                if (!relativePath.equals("PO/b.png") || reads.getAndIncrement() > 0) return resource;
+                return new FileSystemResource(original) {
+                    @Override
+                    public InputStream getInputStream() throws IOException {
+                        return new InputStream() {
+                            @Override
+                            public int read() throws IOException {
+                                throw new IOException("일시적인 읽기 오류");
+                            }
+                        };
+                    }
+                };
+            }
+        };
+        ThumbnailService flakyService = new ThumbnailService(flaky, 256, 1, 10);
+        AttFileEntity file = file("사진.png", "PO/b.png");
+
+        // 첫 작업은 읽기 오류로 끝나지만 실패로 기억하지 않으므로 이후 조회에서 다시 생성
+        assertTrue(await(flakyService, file).isPresent());
+        assertTrue(reads.get() >= 2);
+    }
+}
@@ -0,0 +1,55 @@
+package com.company.erp.common.session;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class CurrentUserTest {
+
+    private static final SessionUser BUYER =
+            new SessionUser("BUYER01", "127.0.0.1", "B", null, "구매담당", "D100", "구매팀", "BUYER");
+    private static final SessionUser BATCH =
+            new SessionUser("BATCH", null, "B", null, null, "D900", null, "ADMIN");
+
+    @AfterEach
+    void tearDown() {
+        CurrentUser.clear();
+    }
+
+    @Test
+    @DisplayName("요청 밖에서는 fallback, runAs 실행 후에는 이전 사용자로 복원")
+    void runAsRestoresPrevious() {
+        assertEquals("SYSTEM", CurrentUser.userIdOr("SYSTEM"));
+        assertNull(CurrentUser.deptCd());
+
+        CurrentUser.set(BUYER);
+        String inside = CurrentUser.runAs(BATCH, () -> CurrentUser.userIdOr("SYSTEM"));
+
+        assertEquals("BATCH", inside);
+        assertEquals("BUYER01", CurrentUser.userIdOr("SYSTEM"));
+        assertEquals("D100", CurrentUser.deptCd());
+    }
+
+    @Test
+    @DisplayName("wrap으로 넘긴 작업은 다른 스레드에서도 호출 스레드의 사용자로 실행")
+    void wrapCarriesUserToExecutor() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            CurrentUser.set(BUYER);
+            String userId = executor.submit(CurrentUser.wrap(() -> CurrentUser.userIdOr("SYSTEM"))).get();
+            assertEquals("BUYER01", userId);
+
+            // 작업이 끝난 풀 스레드에는 사용자가 남지 않음
+            String after = executor.submit(() -> CurrentUser.userIdOr("SYSTEM")).get();
+            assertEquals("SYSTEM", after);
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.company.erp.common.session;
+
+import com.company.erp.common.auth.RequireRole;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.web.method.HandlerMethod;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SessionInterceptorOverheadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(SessionInterceptorOverheadTest.class);
+
+    private static final int REQUESTS = 1_000_000;
+    private static final int WARMUP_ROUNDS = 2;
+
+    @RequireRole({ "BUYER", "ADMIN" })
+    static class SampleController {
+        public void list() {
+        }
+
+        @RequireRole({ "VENDOR" })
+        public void vendorOnly() {
+        }
+
+        @SessionIgnore
+        public void open() {
+        }
+    }
+
+    private static HandlerMethod handler(String methodName) throws NoSuchMethodException {
+        return new HandlerMethod(new SampleController(), SampleController.class.getMethod(methodName));
+    }
+
+    private static MockHttpServletRequest loginRequest(String role) {
+        MockHttpSession session = new MockHttpSession(null, "S-1");
+        session.setAttribute(SessionConst.LOGIN_USER,
+                new SessionUser("buyer01", "127.0.0.1", "B", null, null, null, null, role));
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setSession(session);
+        return request;
+    }
+
+    // preHandle만 호출하므로 같은 스레드의 다음 테스트로 현재 사용자가 넘어가지 않게 해제
+    @AfterEach
+    void clearCurrentUser() {
+        CurrentUser.clear();
+    }
+
+    private static SessionInterceptor newInterceptor() {
+        return new SessionInterceptor(new SessionRegistry(new InMemorySessionRegistryStore(Duration.ofMinutes(15))));
+    }
+
+    @Test
+    @DisplayName("@SessionIgnore / @RequireRole 판단 결과는 기존과 같아야 한다")
+    void sameDecisionsAsBefore() throws Exception {
+        SessionInterceptor interceptor = newInterceptor();
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        assertTrue(interceptor.preHandle(loginRequest("BUYER"), response, handler("list")));
+        assertTrue(interceptor.preHandle(loginRequest(" admin "), response, handler("list")));
+
+        response = new MockHttpServletResponse();
+        assertFalse(interceptor.preHandle(loginRequest("BUYER"), response, handler("vendorOnly")));
+        assertEquals(403, response.getStatus());
+
+        response = new MockHttpServletResponse();
+        assertFalse(interceptor.preHandle(loginRequest(""), response, handler("list")));
+        assertEquals(403, response.getStatus());
+
+        // 세션 없어도 @SessionIgnore는 통과
+        assertTrue(interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), handler("open")));
+    }
+
+    /*
+     요청당 인터셉터 오버헤드 비교 (JMH 대신 JUnit 측정, 워밍업 후 1회 측정)
+     - 기존 : 요청마다 @SessionIgnore/@RequireRole 리플렉션 + Arrays.stream(...).map(trim).anyMatch(equalsIgnoreCase)
+     - 변경 : Method 키로 미리 계산한 HandlerDescriptor 조회 + 권한 비트마스크 검사
+    */
+    @Test
+    @DisplayName("인터셉터 100만 요청: 리플렉션/스트림 vs 미리 계산한 HandlerDescriptor")
+    void perRequestOverhead() throws Exception {
+        SessionInterceptor interceptor = newInterceptor();
+        MockHttpServletRequest request = loginRequest("BUYER");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        HandlerMethod hm = handler("list");
+
+        int legacyAllowed = 0;
+        int allowed = 0;
+        for (int round = 0; round <= WARMUP_ROUNDS; round++) {
+            legacyAllowed = 0;
+            long start = System.nanoTime();
+            for (int i = 0; i < REQUESTS; i++) {
+                if (legacyPreHandle(request, hm)) legacyAllowed++;
+            }
+            long legacyNs = System.nanoTime() - start;
+
+            allowed = 0;
+            start = System.nanoTime();
+            for (int i = 0; i < REQUESTS; i++) {
+                if (interceptor.preHandle(request, response, hm)) allowed++;
+            }
+            long descriptorNs = System.nanoTime() - start;
+
+            if (round == WARMUP_ROUNDS) {
+                log.info("[SessionInterceptor {}건] 기존: {} ns/요청, HandlerDescriptor: {} ns/요청",
+                        REQUESTS, legacyNs / REQUESTS, descriptorNs / REQUESTS);
+            }
+        }
+
+        assertEquals(REQUESTS, legacyAllowed);
+        assertEquals(REQUESTS, allowed);
+    }
+
+    // 변경 전 preHandle의 세션/권한 검사 경로
+    private static boolean legacyPreHandle(MockHttpServletRequest request, HandlerMethod hm) {
+        if (hm.hasMethodAnnotation(SessionIgnore.class)) return true;
+        if (hm.getBeanType().isAnnotationPresent(SessionIgnore.class)) return true;
+
+        SessionUser loginUser = (SessionUser) request.getSession(false).getAttribute(SessionConst.LOGIN_USER);
+
+        RequireRole requireRole = hm.getMethodAnnotation(RequireRole.class);
+        if (requireRole == null) {
+            requireRole = hm.getBeanType().getAnnotation(RequireRole.class);
+        }
+        if (requireRole == null) return true;
+
+        String normalized = loginUser.getRole().trim();
+        return Arrays.stream(requireRole.value())
+                .map(String::trim)
+                .anyMatch(r -> r.equalsIgnoreCase(normalized));
+    }
+}
@@ -0,0 +1,222 @@
+package com.company.erp.common.session;
+
+import com.company.erp.common.login.service.DuplicateLoginService;
+import com.company.erp.common.session.mapper.SessionRegistryMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpSession;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/*
+ 노드 2대가 SSRG 테이블 하나를 공유하는 상황 (MySQL 대신 행 잠금을 흉내낸 FakeSsrg)
+ - 노드 A 로그인 후 같은 사용자가 노드 B에서 로그인하면 A의 세션이 강퇴 대상이 되어야 한다
+*/
+class SessionRegistryMultiNodeTest {
+
+    /**
+     * SSRG 테이블 하나를 흉내내는 매퍼 (메서드 단위 synchronized = 문장 단위 원자성)
+     */
+    static class FakeSsrg implements SessionRegistryMapper {
+        private static final class Row {
+            String userId;
+            String logoutYn;
+            LocalDateTime regDate;
+        }
+
+        private final Map<String, Row> rows = new HashMap<>();
+        private final Map<String, LocalDateTime> revoked = new HashMap<>();
+        private long tick;
+
+        @Override
+        public synchronized String selectSessionIdByUserId(String userId) {
+            String latest = null;
+            LocalDateTime latestDate = null;
+            for (Map.Entry<String, Row> e : rows.entrySet()) {
+                Row r = e.getValue();
+                if (!userId.equals(r.userId) || !"N".equals(r.logoutYn)) continue;
+                if (latestDate == null || r.regDate.isAfter(latestDate)) {
+                    latest = e.getKey();
+                    latestDate = r.regDate;
+                }
+            }
+            return latest;
+        }
+
+        @Override
+        public synchronized int deleteActiveByUserId(String userId, String sessionId) {
+            int before = rows.size();
+            rows.entrySet().removeIf(e -> userId.equals(e.getValue().userId)
+                    && "N".equals(e.getValue().logoutYn)
+                    && !e.getKey().equals(sessionId));
+            return before - rows.size();
+        }
+
+        @Override
+        public synchronized int upsertLogin(String userId, String sessionId) {
+            Row r = rows.computeIfAbsent(sessionId, k -> new Row());
+            r.userId = userId;
+            r.logoutYn = "N";
+            r.regDate = now();
+            return 1;
+        }
+
+        @Override
+        public synchronized int upsertLogoutTarget(String sessionId) {
+            Row r = rows.computeIfAbsent(sessionId, k -> new Row());
+            r.logoutYn = "Y";
+            r.regDate = now();
+            return 1;
+        }
+
+        @Override
+        public synchronized int deleteLogoutTarget(String sessionId) {
+            Row r = rows.get(sessionId);
+            if (r == null || !"Y".equals(r.logoutYn)) return 0;
+            rows.remove(sessionId);
+            return 1;
+        }
+
+        @Override
+        public synchronized int deleteBySessionId(String sessionId) {
+            return rows.remove(sessionId) == null ? 0 : 1;
+        }
+
+        @Override
+        public synchronized List<String> selectLogoutTargets() {
+            List<String> ids = new ArrayList<>();
+            rows.forEach((id, r) -> {
+                if ("Y".equals(r.logoutYn)) ids.add(id);
+            });
+            return ids;
+        }
+
+        @Override
+        public synchronized int deleteLogoutTargetsBefore(LocalDateTime before) {
+            int size = rows.size();
+            rows.values().removeIf(r -> "Y".equals(r.logoutYn) && r.regDate.isBefore(before));
+            return size - rows.size();
+        }
+
+        @Override
+        public synchronized int upsertRevokedToken(String sessionId, LocalDateTime expireDate) {
+            revoked.merge(sessionId, expireDate, (a, b) -> a.isAfter(b) ? a : b);
+            return 1;
+        }
+
+        @Override
+        public synchronized List<String> selectRevokedTokens(LocalDateTime now) {
+            List<String> ids = new ArrayList<>();
+            revoked.forEach((id, expireDate) -> {
+                if (expireDate.isAfter(now)) ids.add(id);
+            });
+            return ids;
+        }
+
+        @Override
+        public synchronized int deleteRevokedTokensBefore(LocalDateTime before) {
+            int size = revoked.size();
+            revoked.values().removeIf(expireDate -> !expireDate.isAfter(before));
+            return size - revoked.size();
+        }
+
+        // REG_DATE 순서가 뒤섞이지 않도록 호출마다 1초씩 증가
+        private LocalDateTime now() {
+            return LocalDateTime.of(2026, 1, 1, 0, 0).plusSeconds(tick++);
+        }
+    }
+
+    private static final class Node {
+        final JdbcSessionRegistryStore store;
+        final SessionRegistry registry;
+        final DuplicateLoginService duplicateLoginService;
+
+        Node(FakeSsrg ssrg) {
+            store = new JdbcSessionRegistryStore(ssrg, 1000, Duration.ofMinutes(15));
+            registry = new SessionRegistry(store);
+            duplicateLoginService = new DuplicateLoginService(registry);
+        }
+    }
+
+    private static SessionUser user(String userId) {
+        return new SessionUser(userId, "127.0.0.1", "B", null, null, null, null, "BUYER");
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 같은 사용자가 로그인하면 기존 노드 세션이 강퇴 대상이 된다")
+    void duplicateLoginAcrossNodes() {
+        FakeSsrg ssrg = new FakeSsrg();
+        Node nodeA = new Node(ssrg);
+        Node nodeB = new Node(ssrg);
+
+        MockHttpSession sessionOnA = new MockHttpSession(null, "S-A");
+        MockHttpSession sessionOnB = new MockHttpSession(null, "S-B");
+
+        nodeA.duplicateLoginService.handleLoginSuccess(user("buyer01"), sessionOnA);
+        nodeB.duplicateLoginService.handleLoginSuccess(user(" Buyer01 "), sessionOnB);
+
+        // 갱신 전 노드 A는 아직 모름 (근거리 캐시)
+        assertFalse(nodeA.registry.isLogoutTarget("S-A"));
+
+        nodeA.store.refreshLogoutTargets();
+        assertTrue(nodeA.registry.isLogoutTarget("S-A"));
+        assertFalse(nodeA.registry.isLogoutTarget("S-B"));
+        assertEquals("S-B", nodeA.registry.getExistingSessionId("BUYER01"));
+
+        // 강퇴 처리 후 표식/행 정리
+        assertTrue(nodeA.registry.removeLogoutTarget("S-A"));
+        nodeA.registry.unregisterBySessionId("S-A");
+        nodeB.store.refreshLogoutTargets();
+        assertFalse(nodeB.registry.isLogoutTarget("S-A"));
+
+        // 노드 B 로그아웃 후 어느 노드에서도 로그인 세션 없음
+        nodeB.registry.unregister("buyer01", "S-B");
+        assertNull(nodeA.registry.getExistingSessionId("buyer01"));
+    }
+
+    @Test
+    @DisplayName("강퇴 표식은 여러 노드의 동시 요청 중 한 번만 가져갈 수 있다")
+    void logoutTargetTakenOnceAcrossNodes() throws InterruptedException {
+        FakeSsrg ssrg = new FakeSsrg();
+        List<Node> nodes = List.of(new Node(ssrg), new Node(ssrg));
+
+        nodes.get(0).registry.registerLogin("vendor01", "S-OLD");
+        nodes.get(1).registry.markLogoutTarget("S-OLD");
+        nodes.forEach(n -> n.store.refreshLogoutTargets());
+
+        int threads = 8;
+        AtomicInteger taken = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch latch = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            SessionRegistry registry = nodes.get(t % nodes.size()).registry;
+            executor.submit(() -> {
+                try {
+                    if (registry.isLogoutTarget("S-OLD") && registry.removeLogoutTarget("S-OLD")) {
+                        taken.incrementAndGet();
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executor.shutdown();
+
+        assertEquals(1, taken.get());
+    }
+}
@@ -0,0 +1,198 @@
+package com.company.erp.common.session;
+
+import com.company.erp.common.login.service.DuplicateLoginService;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpSession;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SessionTokenModeTest {
+
+    private static final SessionUser BUYER =
+            new SessionUser("BUYER01", "127.0.0.1", "B", null, "구매담당", "D100", "구매팀", "BUYER");
+
+    private static SessionTokenCodec newCodec() {
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        return new SessionTokenCodec(Base64.getEncoder().encodeToString(secret), Duration.ofMinutes(15));
+    }
+
+    private static SessionRegistry newRegistry() {
+        return new SessionRegistry(new InMemorySessionRegistryStore(Duration.ofMinutes(15)));
+    }
+
+    @Test
+    @DisplayName("서명 토큰은 SessionUser를 그대로 복원하고, 변조/만료 토큰은 거부한다")
+    void issueAndVerify() {
+        SessionTokenCodec codec = newCodec();
+        long now = 1_800_000_000L;
+
+        String token = codec.issue("T-1", BUYER, now);
+        SessionToken verified = codec.verify(token, now + 60);
+        assertNotNull(verified);
+        assertEquals("T-1", verified.getId());
+        assertEquals("구매팀", verified.getUser().getDeptName());
+        assertNull(verified.getUser().getVendorCd());
+        assertEquals("BUYER", verified.getUser().getRole());
+
+        // 만료
+        assertNull(codec.verify(token, now + Duration.ofMinutes(15).getSeconds()));
+
+        // payload 변조
+        char[] chars = token.toCharArray();
+        chars[5] = chars[5] == 'A' ? 'B' : 'A';
+        assertNull(codec.verify(new String(chars), now));
+
+        // 다른 키로 서명된 토큰
+        assertNull(newCodec().verify(token, now));
+        assertNull(codec.verify("garbage", now));
+    }
+
+    @Test
+    @DisplayName("로그인 시 토큰 쿠키 발급 -> 다음 요청에서 서버 저장 없이 세션 복원 -> 로그아웃 시 쿠키 삭제")
+    void loginRestoreLogout() throws Exception {
+        SessionTokenFilter filter = new SessionTokenFilter(newCodec(), newRegistry(), false, "lax");
+
+        // 1) 로그인 (LoginController/DuplicateLoginService와 같은 순서)
+        MockHttpServletResponse loginResponse = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest(), loginResponse, new MockFilterChain() {
+            @Override
+            public void doFilter(jakarta.servlet.ServletRequest req, jakarta.servlet.ServletResponse res) {
+                HttpServletRequest request = (HttpServletRequest) req;
+                HttpSession session = request.getSession(true);
+                request.changeSessionId();
+                session.setAttribute(SessionConst.LOGIN_USER, BUYER);
+            }
+        });
+        Cookie issued = loginResponse.getCookie(SessionTokenFilter.COOKIE_NAME);
+        assertNotNull(issued);
+        assertTrue(loginResponse.getHeader(HttpHeaders.SET_COOKIE).contains("HttpOnly"));
+
+        // 2) 다음 요청 - 컨테이너 세션 없이 LOGIN_USER 복원
+        AtomicReference<HttpSession> restored = new AtomicReference<>();
+        MockHttpServletRequest next = new MockHttpServletRequest();
+        next.setCookies(issued);
+        filter.doFilter(next, new MockHttpServletResponse(), new MockFilterChain() {
+            @Override
+            public void doFilter(jakarta.servlet.ServletRequest req, jakarta.servlet.ServletResponse res) {
+                restored.set(((HttpServletRequest) req).getSession(false));
+            }
+        });
+        assertNotNull(restored.get());
+        SessionUser user = (SessionUser) restored.get().getAttribute(SessionConst.LOGIN_USER);
+        assertEquals("BUYER01", user.getUserId());
+
+        // 3) 로그아웃 - 쿠키 만료
+        MockHttpServletRequest logout = new MockHttpServletRequest();
+        logout.setCookies(issued);
+        MockHttpServletResponse logoutResponse = new MockHttpServletResponse();
+        filter.doFilter(logout, logoutResponse, new MockFilterChain() {
+            @Override
+            public void doFilter(jakarta.servlet.ServletRequest req, jakarta.servlet.ServletResponse res) {
+                ((HttpServletRequest) req).getSession(false).invalidate();
+            }
+        });
+        assertEquals(0, logoutResponse.getCookie(SessionTokenFilter.COOKIE_NAME).getMaxAge());
+
+        // 로그아웃 전에 복사해 둔 토큰으로 다시 와도 세션 없음 (여러 번 와도 같음)
+        assertNull(sessionOf(filter, issued));
+        assertNull(sessionOf(filter, issued));
+
+        // 토큰 없는 요청은 세션 없음
+        MockHttpServletRequest anonymous = new MockHttpServletRequest();
+        AtomicReference<HttpSession> none = new AtomicReference<>();
+        filter.doFilter(anonymous, new MockHttpServletResponse(), new MockFilterChain() {
+            @Override
+            public void doFilter(jakarta.servlet.ServletRequest req, jakarta.servlet.ServletResponse res) {
+                none.set(((HttpServletRequest) req).getSession(false));
+            }
+        });
+        assertNull(none.get());
+    }
+
+    @Test
+    @DisplayName("중복로그인으로 강퇴된 토큰은 첫 요청에 441, 이후 요청은 재발급 없이 440")
+    void evictedTokenStaysRevoked() throws Exception {
+        SessionRegistry registry = newRegistry();
+        SessionTokenFilter filter = new SessionTokenFilter(newCodec(), registry, false, "lax");
+        SessionInterceptor interceptor = new SessionInterceptor(registry);
+        DuplicateLoginService duplicateLoginService = new DuplicateLoginService(registry);
+
+        Cookie first = login(filter, duplicateLoginService);
+        Cookie second = login(filter, duplicateLoginService);
+
+        assertEquals(SessionConst.STATUS_MULTI_LOGIN, handle(filter, interceptor, first).getStatus());
+
+        for (int i = 0; i < 2; i++) {
+            MockHttpServletResponse response = handle(filter, interceptor, first);
+            assertEquals(SessionConst.STATUS_NO_SESSION, response.getStatus());
+            assertEquals(0, response.getCookie(SessionTokenFilter.COOKIE_NAME).getMaxAge());
+        }
+
+        // 새로 로그인한 토큰은 그대로 사용
+        assertEquals(200, handle(filter, interceptor, second).getStatus());
+    }
+
+    private static Cookie login(SessionTokenFilter filter, DuplicateLoginService duplicateLoginService) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest(), response, new MockFilterChain() {
+            @Override
+            public void doFilter(jakarta.servlet.ServletRequest req, jakarta.servlet.ServletResponse res) {
+                HttpServletRequest request = (HttpServletRequest) req;
+                HttpSession session = request.getSession(true);
+                request.changeSessionId();
+                duplicateLoginService.handleLoginSuccess(BUYER, session);
+            }
+        });
+        return response.getCookie(SessionTokenFilter.COOKIE_NAME);
+    }
+
+    // 필터 -> 인터셉터 순서로 요청 하나 처리
+    private static MockHttpServletResponse handle(SessionTokenFilter filter, SessionInterceptor interceptor,
+                                                  Cookie cookie) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(cookie);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain() {
+            @Override
+            public void doFilter(jakarta.servlet.ServletRequest req, jakarta.servlet.ServletResponse res) throws java.io.IOException {
+                try {
+                    interceptor.preHandle((HttpServletRequest) req, (jakarta.servlet.http.HttpServletResponse) res, new Object());
+                } catch (Exception e) {
+                    throw new java.io.IOException(e);
+                } finally {
+                    CurrentUser.clear();
+                }
+            }
+        });
+        return response;
+    }
+
+    private static HttpSession sessionOf(SessionTokenFilter filter, Cookie cookie) throws Exception {
+        AtomicReference<HttpSession> session = new AtomicReference<>();
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(cookie);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain() {
+            @Override
+            public void doFilter(jakarta.servlet.ServletRequest req, jakarta.servlet.ServletResponse res) {
+                session.set(((HttpServletRequest) req).getSession(false));
+            }
+        });
+        return session.get();
+    }
+}
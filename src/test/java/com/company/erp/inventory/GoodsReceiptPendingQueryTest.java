@@ -0,0 +1,96 @@
+package com.company.erp.inventory;
+
+import com.company.erp.common.dashboard.buyer.counter.DashboardCounters;
+import com.company.erp.common.dashboard.live.DashboardEventBus;
+import com.company.erp.common.docNum.service.DocNumService;
+import com.company.erp.inventory.dto.PoItemReceiptRow;
+import com.company.erp.inventory.mapper.GoodsReceiptMapper;
+import com.company.erp.inventory.service.GoodsReceiptService;
+import com.company.erp.po.dto.PurchaseOrderDTO;
+import com.company.erp.po.dto.PurchaseOrderItemDTO;
+import com.company.erp.po.mapper.PurchaseOrderMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.when;
+
+class GoodsReceiptPendingQueryTest {
+
+    private static final Logger log = LoggerFactory.getLogger(GoodsReceiptPendingQueryTest.class);
+
+    private static final int PO_COUNT = 1000;
+    private static final int ITEMS_PER_PO = 10;
+
+    @Test
+    @DisplayName("입고대상조회: PO 수와 무관하게 조회 쿼리는 3회여야 한다 (1k PO x 10 품목)")
+    void pendingPoListIsSetBased() {
+        GoodsReceiptMapper grMapper = mock(GoodsReceiptMapper.class);
+        PurchaseOrderMapper poMapper = mock(PurchaseOrderMapper.class);
+
+        List<PurchaseOrderDTO> headers = new ArrayList<>();
+        List<PurchaseOrderItemDTO> items = new ArrayList<>();
+        List<PoItemReceiptRow> receipts = new ArrayList<>();
+        for (int p = 0; p < PO_COUNT; p++) {
+            String poNo = String.format("PO260105%04d", p);
+            PurchaseOrderDTO po = new PurchaseOrderDTO();
+            po.setPoNo(poNo);
+            headers.add(po);
+
+            for (int i = 0; i < ITEMS_PER_PO; i++) {
+                PurchaseOrderItemDTO item = new PurchaseOrderItemDTO();
+                item.setPoNo(poNo);
+                item.setItemCode("IT-2026-" + String.format("%06d", i));
+                item.setOrderQuantity(10);
+                items.add(item);
+
+                // 짝수 품목만 3개 입고된 상태
+                if (i % 2 == 0) {
+                    PoItemReceiptRow row = new PoItemReceiptRow();
+                    row.setPoNo(poNo);
+                    row.setItemCode(item.getItemCode());
+                    row.setReceivedQty(BigDecimal.valueOf(3));
+                    row.setWarehouseCode("WH01");
+                    receipts.add(row);
+                }
+            }
+        }
+
+        when(grMapper.selectPendingPOList(any())).thenReturn(headers);
+        when(poMapper.selectItemsByPoNos(anyList())).thenReturn(items);
+        when(grMapper.selectReceiptSummaryByPoNos(anyList())).thenReturn(receipts);
+
+        GoodsReceiptService service = new GoodsReceiptService(
+                grMapper, mock(DocNumService.class), poMapper, mock(DashboardCounters.class), mock(DashboardEventBus.class));
+
+        long start = System.nanoTime();
+        List<PurchaseOrderDTO> result = service.getPendingPOList(null, null, null, null, null);
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        int queryCount = mockingDetails(grMapper).getInvocations().size()
+                + mockingDetails(poMapper).getInvocations().size();
+        log.info("입고대상조회 {}PO x {}품목: 쿼리 {}회 (기존 방식 {}회), 메모리 조립 {}ms",
+                PO_COUNT, ITEMS_PER_PO, queryCount, 1 + PO_COUNT * (1 + ITEMS_PER_PO * 2), elapsedMs);
+
+        assertEquals(3, queryCount);
+        assertEquals(PO_COUNT, result.size());
+
+        List<PurchaseOrderItemDTO> first = result.get(0).getItems();
+        assertEquals(ITEMS_PER_PO, first.size());
+        assertEquals(7, first.get(0).getRemainingQuantity());
+        assertEquals("WH01", first.get(0).getExistingGrWarehouse());
+        assertEquals(10, first.get(1).getRemainingQuantity());
+        assertNull(first.get(1).getExistingGrWarehouse());
+    }
+}
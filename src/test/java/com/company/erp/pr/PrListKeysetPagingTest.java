@@ -0,0 +1,118 @@
+package com.company.erp.pr;
+
+import com.company.erp.common.dashboard.buyer.counter.DashboardCounters;
+import com.company.erp.common.dashboard.live.DashboardEventBus;
+import com.company.erp.common.docNum.service.DocNumService;
+import com.company.erp.common.paging.CountCache;
+import com.company.erp.common.paging.KeysetCursor;
+import com.company.erp.common.session.SessionUser;
+import com.company.erp.pr.dto.PrListResponse;
+import com.company.erp.pr.mapper.PrMapper;
+import com.company.erp.pr.service.PrService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PrListKeysetPagingTest {
+
+    private static final int ROW_COUNT = 10_000;
+    private static final int PAGE_SIZE = 50;
+
+    private final SessionUser vendorUser =
+            new SessionUser("tester", "127.0.0.1", "V", "V001", "테스터", null, null, "VENDOR");
+
+    @Test
+    @DisplayName("커서로 끝까지 넘기면 모든 PR이 중복/누락 없이 한 번씩 조회되고 COUNT는 1회만 실행된다")
+    @SuppressWarnings("unchecked")
+    void cursorWalkVisitsEveryRowOnce() {
+        // REG_DATE가 같은 행이 여러 건 있도록 10건마다 같은 시각 부여 (PR_NUM으로 순서 결정)
+        LocalDateTime base = LocalDateTime.of(2026, 1, 1, 9, 0);
+        List<PrListResponse> table = new ArrayList<>();
+        for (int i = 0; i < ROW_COUNT; i++) {
+            PrListResponse row = new PrListResponse();
+            row.setPrNum(String.format("PR%08d", i));
+            row.setRegDate(Timestamp.valueOf(base.plusSeconds(i / 10)));
+            table.add(row);
+        }
+        Comparator<PrListResponse> order = Comparator
+                .comparing((PrListResponse r) -> ((Timestamp) r.getRegDate()).toLocalDateTime())
+                .thenComparing(PrListResponse::getPrNum)
+                .reversed();
+        table.sort(order);
+
+        PrMapper prMapper = mock(PrMapper.class);
+        when(prMapper.selectPrListCount(any(), any(), any(), any(), any(), any(), any(), any(), anyBoolean()))
+                .thenReturn(ROW_COUNT);
+        // 키셋 조건 (REG_DATE, PR_NUM) < (cursor) + LIMIT 을 메모리에서 흉내
+        when(prMapper.selectPrList(any(), any(), any(), any(), any(), any(), any(),
+                isNull(), any(), any(), anyBoolean(), any(), any()))
+                .thenAnswer(inv -> {
+                    Integer limit = inv.getArgument(8);
+                    LocalDateTime cursorRegDate = inv.getArgument(11);
+                    String cursorPrNum = inv.getArgument(12);
+                    return table.stream()
+                            .filter(r -> {
+                                if (cursorRegDate == null) return true;
+                                LocalDateTime d = ((Timestamp) r.getRegDate()).toLocalDateTime();
+                                return d.isBefore(cursorRegDate)
+                                        || (d.isEqual(cursorRegDate) && r.getPrNum().compareTo(cursorPrNum) < 0);
+                            })
+                            .limit(limit)
+                            .toList();
+                });
+
+        PrService prService = new PrService(prMapper, mock(DocNumService.class), new CountCache(60), mock(DashboardCounters.class), mock(DashboardEventBus.class));
+
+        Set<String> seen = new HashSet<>();
+        String cursor = "";
+        int pages = 0;
+        while (cursor != null) {
+            Map<String, Object> page = prService.selectPrList(null, null, null, null, null, null, null,
+                    null, PAGE_SIZE, cursor, vendorUser);
+            List<PrListResponse> items = (List<PrListResponse>) page.get("items");
+            assertTrue(items.size() <= PAGE_SIZE);
+            items.forEach(r -> assertTrue(seen.add(r.getPrNum()), "중복 조회: " + r.getPrNum()));
+            assertEquals(ROW_COUNT, page.get("totalCount"));
+
+            cursor = (String) page.get("nextCursor");
+            pages++;
+        }
+
+        assertEquals(ROW_COUNT, seen.size());
+        assertEquals(ROW_COUNT / PAGE_SIZE, pages);
+        verify(prMapper, times(1))
+                .selectPrListCount(any(), any(), any(), any(), any(), any(), any(), any(), anyBoolean());
+    }
+
+    @Test
+    @DisplayName("커서는 인코딩/디코딩 후 같은 값이어야 하고, 잘못된 커서는 IllegalArgumentException")
+    void cursorRoundTrip() {
+        LocalDateTime regDate = LocalDateTime.of(2026, 3, 4, 5, 6, 7);
+        KeysetCursor decoded = KeysetCursor.decode(KeysetCursor.next(regDate, "PR2603040001"));
+
+        assertEquals(regDate, decoded.getRegDate());
+        assertEquals("PR2603040001", decoded.getKey());
+        assertNull(KeysetCursor.decode(""));
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode("not-a-cursor"));
+    }
+}
@@ -0,0 +1,169 @@
+package com.company.erp.rfq;
+
+import com.company.erp.common.crypto.AesGcmEngine;
+import com.company.erp.rfq.buyer.selection.dto.response.RfqCompareResponse;
+import com.company.erp.rfq.buyer.selection.dto.response.RfqCompareResponse.RfqCompareQuoteRow;
+import com.company.erp.rfq.buyer.selection.dto.response.RfqCompareResponse.VendorColumn;
+import com.company.erp.rfq.buyer.selection.mapper.RfqCompareMapper;
+import com.company.erp.rfq.buyer.selection.service.RfqCompareService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RfqCompareMatrixTest {
+
+    private static final String RFQ_NO = "RFQ2601050001";
+
+    private AesGcmEngine engine;
+    private RfqCompareMapper mapper;
+    private RfqCompareService service;
+
+    @BeforeEach
+    void setUp() {
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        engine = new AesGcmEngine(Base64.getEncoder().encodeToString(key));
+        mapper = mock(RfqCompareMapper.class);
+        service = new RfqCompareService(mapper, engine);
+
+        RfqCompareResponse header = new RfqCompareResponse();
+        header.setRfqNo(RFQ_NO);
+        when(mapper.selectHeader(RFQ_NO)).thenReturn(header);
+        when(mapper.selectItems(RFQ_NO)).thenReturn(List.of(item(1), item(2), item(3)));
+        // 열 순서는 vendors 순서를 따름
+        when(mapper.selectVendors(RFQ_NO)).thenReturn(List.of(
+                new RfqCompareResponse.Vendor("V002", "나협력", "N"),
+                new RfqCompareResponse.Vendor("V001", "가협력", "N")));
+    }
+
+    @AfterEach
+    void tearDown() {
+        engine.shutdown();
+    }
+
+    @Test
+    @DisplayName("견적은 협력사 열/라인 행 위치에 채워지고, 단가가 비었거나 마스킹/숫자가 아니면 값만 비우고 비교표 밖 견적은 제외된다")
+    void alignsQuotesAndKeepsUnpricedCells() {
+        List<RfqCompareQuoteRow> rows = List.of(
+                row("V001", 1, "3", enc("1000"), enc("3000")),
+                row("V001", 2, "2", enc("12.5"), null),            // 금액 없음 -> 수량 x 단가
+                row("V002", 1, "3", enc("***"), enc("2700")),       // 마스킹 단가
+                row("V002", 2, "2", "", enc("30")),                 // 빈 단가
+                row("V002", 3, "4", "250.5", null),                 // 평문 숫자
+                row("V001", 3, "1", enc("NaN"), null),              // 숫자가 아닌 단가
+                row("V009", 1, "1", enc("1"), enc("1")),            // 비교표에 없는 협력사
+                row("V001", 9, "1", enc("1"), enc("1")));           // 비교표에 없는 라인
+        when(mapper.selectQuoteRows(RFQ_NO)).thenReturn(rows);
+
+        RfqCompareResponse.PriceMatrix matrix = service.getCompareDetail(RFQ_NO).getMatrix();
+
+        assertArrayEquals(new int[]{1, 2, 3}, matrix.getLineNos());
+        assertEquals(List.of("V002", "V001"), matrix.getColumns().stream().map(VendorColumn::getVendorCd).toList());
+
+        VendorColumn v002 = matrix.getColumns().get(0);
+        assertArrayEquals(new boolean[]{true, true, true}, v002.getQuoted());
+        assertNull(v002.getUnitPrice()[0]);
+        assertAmount("2700", v002.getAmount()[0]);
+        assertNull(v002.getUnitPrice()[1]);
+        assertAmount("30", v002.getAmount()[1]);
+        assertAmount("250.5", v002.getUnitPrice()[2]);
+        assertAmount("1002", v002.getAmount()[2]);
+        assertAmount("3732", v002.getTotalAmount());
+
+        VendorColumn v001 = matrix.getColumns().get(1);
+        assertArrayEquals(new boolean[]{true, true, true}, v001.getQuoted());
+        assertAmount("1000", v001.getUnitPrice()[0]);
+        assertAmount("3", v001.getQuoteQt()[0]);
+        assertAmount("3000", v001.getAmount()[0]);
+        assertAmount("12.5", v001.getUnitPrice()[1]);
+        assertAmount("25", v001.getAmount()[1]);
+        assertNull(v001.getUnitPrice()[2]);
+        assertAmount("1", v001.getQuoteQt()[2]);
+        assertNull(v001.getAmount()[2]);
+        assertAmount("3025", v001.getTotalAmount());
+    }
+
+    @Test
+    @DisplayName("원화 금액과 합계는 double 정밀도를 넘어도 정확하게 계산된다")
+    void sumsLargeAmountsExactly() {
+        when(mapper.selectQuoteRows(RFQ_NO)).thenReturn(List.of(
+                row("V001", 1, "1", enc("9007199254740993"), null),
+                row("V001", 2, "3", enc("0.1"), null),
+                row("V001", 3, "1", enc("0.2"), null)));
+
+        VendorColumn v001 = service.getCompareDetail(RFQ_NO).getMatrix().getColumns().get(1);
+
+        assertEquals(new BigDecimal("9007199254740993"), v001.getAmount()[0]);
+        assertAmount("0.3", v001.getAmount()[1]);
+        assertEquals(0, new BigDecimal("9007199254740993.5").compareTo(v001.getTotalAmount()));
+    }
+
+    @Test
+    @DisplayName("비교표 값은 행마다 복호화하던 이전 방식(BigDecimal)의 결과와 같다")
+    void matchesPerRowDecryption() {
+        List<RfqCompareQuoteRow> rows = List.of(
+                row("V001", 1, "10", enc("1234.56"), enc("12345.6")),
+                row("V001", 2, "3", enc("0.1"), null),
+                row("V001", 3, "7", "99", "693"),
+                row("V002", 1, "10", enc("1200"), null),
+                row("V002", 2, "3", enc("***"), enc("1")),
+                row("V002", 3, "7", enc("-5.25"), enc("-36.75")));
+        when(mapper.selectQuoteRows(RFQ_NO)).thenReturn(rows);
+
+        RfqCompareResponse.PriceMatrix matrix = service.getCompareDetail(RFQ_NO).getMatrix();
+
+        for (RfqCompareQuoteRow r : rows) {
+            VendorColumn column = matrix.getColumns().stream()
+                    .filter(c -> c.getVendorCd().equals(r.getVendorCd())).findFirst().orElseThrow();
+            int line = r.getLineNo() - 1;
+
+            BigDecimal unitPrice = legacyDecrypt(r.getUnitPriceEnc());
+            BigDecimal amount = legacyDecrypt(r.getAmountEnc());
+            if (amount == null && unitPrice != null) amount = r.getQuoteQt().multiply(unitPrice);
+
+            assertTrue(column.getQuoted()[line]);
+            assertEquals(unitPrice, column.getUnitPrice()[line]);
+            assertEquals(r.getQuoteQt(), column.getQuoteQt()[line]);
+            assertEquals(amount, column.getAmount()[line]);
+        }
+    }
+
+    // 변경 전 RfqCompareService.decryptToBigDecimal
+    private BigDecimal legacyDecrypt(String enc) {
+        if (enc == null || enc.isBlank()) return null;
+        if (enc.matches("^-?\\d+(\\.\\d+)?$")) return new BigDecimal(enc);
+
+        String plain = engine.decrypt(enc);
+        if (plain == null || plain.isBlank() || "***".equals(plain)) return null;
+        return new BigDecimal(plain);
+    }
+
+    private static void assertAmount(String expected, BigDecimal actual) {
+        assertEquals(0, new BigDecimal(expected).compareTo(actual), () -> expected + " != " + actual);
+    }
+
+    private String enc(String plain) {
+        return engine.encrypt(plain);
+    }
+
+    private static RfqCompareResponse.Item item(int lineNo) {
+        return new RfqCompareResponse.Item(lineNo, "ITM" + lineNo, "품목" + lineNo, null, "EA", BigDecimal.ONE);
+    }
+
+    private static RfqCompareQuoteRow row(String vendorCd, int lineNo, String qt, String unitPriceEnc, String amountEnc) {
+        return new RfqCompareQuoteRow(vendorCd, lineNo, new BigDecimal(qt), unitPriceEnc, amountEnc);
+    }
+}